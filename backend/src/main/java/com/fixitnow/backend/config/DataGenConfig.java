@@ -0,0 +1,44 @@
+package com.fixitnow.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.fixitnow.backend.service.SyntheticDataGenerator;
+import com.fixitnow.backend.service.SyntheticDataGenerator.Scale;
+
+/**
+ * With the {@code datagen} profile the application generates synthetic data
+ * at the scale given by the {@code app.datagen.*} properties (see
+ * application-datagen.properties) and exits, before any startup backfill
+ * runs. Set {@code app.datagen.run-on-startup=false} to only get the
+ * generator bean, as the tests do.
+ */
+@Configuration
+@Profile("datagen")
+public class DataGenConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datagen.run-on-startup", matchIfMissing = true)
+    public ApplicationRunner dataGenRunner(SyntheticDataGenerator generator, ConfigurableApplicationContext context,
+            @Value("${app.datagen.users}") int users,
+            @Value("${app.datagen.provider-share}") double providerShare,
+            @Value("${app.datagen.services-per-provider}") int servicesPerProvider,
+            @Value("${app.datagen.bookings}") long bookings,
+            @Value("${app.datagen.review-share}") double reviewShare,
+            @Value("${app.datagen.history-days}") int historyDays,
+            @Value("${app.datagen.service-skew}") double serviceSkew,
+            @Value("${app.datagen.customer-skew}") double customerSkew,
+            @Value("${app.datagen.seed}") long seed) {
+        return args -> {
+            generator.generate(new Scale(users, providerShare, servicesPerProvider, bookings, reviewShare,
+                    historyDays, serviceSkew, customerSkew, seed));
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.fixitnow.backend.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * Remembers which users were just touched by a write so their reads can stay
+ * on the primary until the replica has had time to catch up. Users are keyed
+ * by their authentication name (the account email).
+ */
+@Component
+public class ReadYourWrites {
+
+    // Sweep expired entries once the map grows past this
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowMillis;
+
+    // Authentication name -> time (epoch millis) until which reads go to the primary
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(@Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.enabled = StringUtils.hasText(replicaUrl);
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Pin the given users to the primary for the configured window. Inside a
+     * transaction the window starts at commit, since that is when the write
+     * becomes visible to replication.
+     */
+    public void recordWrite(String... principals) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pin(principals);
+                }
+            });
+        } else {
+            pin(principals);
+        }
+    }
+
+    /**
+     * Whether the current user wrote recently enough that the replica may not
+     * show the write yet.
+     */
+    public boolean mustReadPrimary() {
+        if (!enabled || pinnedUntil.isEmpty()) {
+            return false;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getName() == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(auth.getName());
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(auth.getName(), until);
+            return false;
+        }
+        return true;
+    }
+
+    private void pin(String... principals) {
+        long until = System.currentTimeMillis() + windowMillis;
+        for (String principal : principals) {
+            if (principal != null) {
+                pinnedUntil.put(principal, until);
+            }
+        }
+        if (pinnedUntil.size() > SWEEP_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            pinnedUntil.values().removeIf(expiry -> expiry < now);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fixitnow.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the auto-configured DataSource with primary and replica pools
+ * behind a {@link ReplicaRoutingDataSource} when
+ * {@code app.datasource.replica.url} is set. The primary pool is configured
+ * from {@code spring.datasource.*} as usual, the replica from
+ * {@code app.datasource.replica.*}.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        return pool;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaPool() {
+        HikariDataSource pool = replicaDataSourceProperties().initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        pool.setPoolName("replica");
+        pool.setReadOnly(true);
+        // Start even when the replica is down; reads fall back to the primary
+        pool.setInitializationFailTimeout(-1);
+        // A read that finds the replica down waits this long before falling back, not Hikari's 30s.
+        // Set before binding, so app.datasource.replica.hikari.connection-timeout still overrides it
+        pool.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReadYourWrites readYourWrites,
+            @Value("${app.datasource.replica.retry-after:30s}") Duration retryAfter) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryPool(properties), replicaPool(), readYourWrites, retryAfter));
+    }
+}
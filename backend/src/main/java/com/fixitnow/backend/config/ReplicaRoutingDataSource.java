@@ -0,0 +1,96 @@
+package com.fixitnow.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else. A replica that fails to produce a
+ * connection is skipped for {@code retryAfter}, with the primary serving its
+ * reads in the meantime; after that one read at a time tries it again.
+ *
+ * The routing decision reads the transaction's read-only flag, which is only
+ * set once the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWrites readYourWrites;
+    private final long retryAfterMillis;
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private volatile long replicaDownUntil;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites,
+            Duration retryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.retryAfterMillis = retryAfter.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (currentRoute() == Route.PRIMARY) {
+            return source.connect(primary);
+        }
+        // Once the replica has failed, a single read at a time checks whether it is back; the rest
+        // go to the primary instead of each waiting out the replica pool's connection timeout
+        boolean probe = replicaDownUntil != 0;
+        if (probe && !probing.compareAndSet(false, true)) {
+            return source.connect(primary);
+        }
+        try {
+            Connection connection = source.connect(replica);
+            replicaDownUntil = 0;
+            return connection;
+        } catch (SQLException e) {
+            replicaDownUntil = System.currentTimeMillis() + retryAfterMillis;
+            return source.connect(primary);
+        } finally {
+            if (probe) {
+                probing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Where a connection requested right now would come from.
+     */
+    public Route currentRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || System.currentTimeMillis() < replicaDownUntil
+                || readYourWrites.mustReadPrimary()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,58 @@
+package com.fixitnow.backend.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executor that runs report sections concurrently. It is bounded twice: at
+ * most {@code app.reports.executor.threads} sections run at once and at most
+ * {@code app.reports.executor.queue} wait, so export bursts cannot exhaust the
+ * connection pool. Worker threads are virtual when the runtime supports them
+ * (Java 21+); the pool size still caps concurrency.
+ *
+ * Queued report jobs get a separate, smaller pool of the same shape, so a
+ * backlog of exports never delays the sections of an interactive report.
+ */
+@Configuration
+public class ReportExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService reportExecutor(@Value("${app.reports.executor.threads:5}") int threads,
+            @Value("${app.reports.executor.queue:50}") int queue) {
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), threadFactory("report-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Workers for queued report jobs; long exports run here instead of on request threads
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService reportJobExecutor(@Value("${app.reports.jobs.threads:2}") int threads,
+            @Value("${app.reports.jobs.queue:20}") int queue) {
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), threadFactory("report-job-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory(), looked up reflectively to keep compiling on Java 17
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fixitnow.backend.config;
 
 import java.util.List;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +24,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.fixitnow.backend.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -44,11 +47,16 @@ public class SecurityConfig {
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWT =
                                                                                                         // stateless
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses (PDF export, review stream) finish on an async dispatch, which the
+                        // JWT filter skips; the request itself was authorized before the response was committed
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // login/register
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll() // allow GET categories
                         .requestMatchers("/api/services/**").permitAll() // allow browsing services
                         .requestMatchers("/api/bookings/**").authenticated() // allow browsing bookings
                         .requestMatchers("/api/reviews/**").authenticated() // allow reviews for authenticated users
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll() // probes and scrapes
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN") // other actuator endpoints
                         .anyRequest().authenticated() // everything else requires authentication
                 )
                 .authenticationProvider(authenticationProvider())
@@ -82,7 +90,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:3000")); // your React app
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type"));
-        configuration.setExposedHeaders(List.of("Authorization")); // expose if frontend needs it
+        configuration.setExposedHeaders(List.of("Authorization", "ETag")); // expose if frontend needs it
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,107 @@
+package com.fixitnow.backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statements, rows and JDBC time of one HTTP request, collected by
+ * {@link StatementCountingDataSource} on the request thread while
+ * {@link SqlStatsFilter} has a recording open. Work handed to other threads
+ * (report executor, async exports) is not attributed to the request.
+ *
+ * The filter leaves the finished stats on the request under
+ * {@link #REQUEST_ATTRIBUTE}, where tests can check a statement budget.
+ */
+public final class SqlStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStats.class.getName();
+
+    // Distinct statement texts remembered per request; an import batch repeats one text
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    public record SlowStatement(String sql, long millis) {}
+
+    private final long slowNanos;
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+
+    private SqlStats(Duration slowThreshold) {
+        this.slowNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * Start recording on this thread; statements run until {@link #end()}
+     * count towards the returned stats.
+     */
+    static SqlStats begin(Duration slowThreshold) {
+        SqlStats stats = new SqlStats(slowThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Recording open on this thread, or null
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    void statement(String sql, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        String key = sql != null ? sql : "<batch>";
+        if (executions.containsKey(key) || executions.size() < MAX_DISTINCT_STATEMENTS) {
+            executions.merge(key, 1, Integer::sum);
+        }
+        if (nanos >= slowNanos) {
+            slowStatements.add(new SlowStatement(key, Duration.ofNanos(nanos).toMillis()));
+        }
+    }
+
+    void rows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    // Rows read through result sets plus rows reported changed by updates
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcMillis() {
+        return Duration.ofNanos(jdbcNanos).toMillis();
+    }
+
+    // Times each statement text ran, in order of first execution
+    public Map<String, Integer> getExecutions() {
+        return Collections.unmodifiableMap(executions);
+    }
+
+    public List<SlowStatement> getSlowStatements() {
+        return Collections.unmodifiableList(slowStatements);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append(statements).append(" statements, ")
+                .append(rows).append(" rows, ")
+                .append(getJdbcMillis()).append(" ms JDBC");
+        executions.forEach((sql, count) -> sb.append("\n  ").append(count).append(" x ").append(sql));
+        return sb.toString();
+    }
+}
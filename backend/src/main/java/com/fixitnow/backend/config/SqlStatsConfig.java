@@ -0,0 +1,48 @@
+package com.fixitnow.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request SQL statistics: wraps the application DataSource (the
+ * auto-configured pool, or the replica router when one is configured) in a
+ * {@link StatementCountingDataSource} and registers {@link SqlStatsFilter}
+ * first in the filter chain. Off with {@code app.sql-stats.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-stats.enabled", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    // Static: post-processors are created before the rest of the configuration
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+            @Value("${app.sql-stats.slow-statement:250ms}") Duration slowStatement,
+            @Value("${app.sql-stats.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatsFilter(slowStatement, repeatedStatementThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fixitnow.backend.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the SQL each request runs (see {@link SqlStats}) and reports it
+ * against the controller method that served the request: a summary at DEBUG,
+ * and at WARN every statement slower than {@code slowStatement} and every
+ * statement text run at least {@code repeatedStatementThreshold} times, the
+ * usual sign of an N+1 query.
+ *
+ * Registered ahead of Spring Security so the user lookup during
+ * authentication counts towards the request.
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final Duration slowStatement;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatsFilter(Duration slowStatement, int repeatedStatementThreshold) {
+        this.slowStatement = slowStatement;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin(slowStatement);
+        request.setAttribute(SqlStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        String origin = origin(request);
+        for (SqlStats.SlowStatement slow : stats.getSlowStatements()) {
+            log.warn("Slow SQL ({} ms) in {}: {}", slow.millis(), origin, slow.sql());
+        }
+        for (Map.Entry<String, Integer> entry : stats.getExecutions().entrySet()) {
+            if (entry.getValue() >= repeatedStatementThreshold) {
+                log.warn("Possible N+1 in {}: ran {} times: {}", origin, entry.getValue(), entry.getKey());
+            }
+        }
+        log.debug("{}: {} statements, {} rows, {} ms JDBC", origin, stats.getStatements(), stats.getRows(),
+                stats.getJdbcMillis());
+    }
+
+    // Controller method that handled the request, or the request line when none matched
+    private static String origin(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+        }
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+}
@@ -0,0 +1,134 @@
+package com.fixitnow.backend.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps connections so that every statement executed on a thread with an
+ * open {@link SqlStats} recording is counted and timed, and every row read
+ * from its result sets is counted. Without a recording the wrappers only
+ * delegate.
+ *
+ * Prepared statements are keyed by their SQL with placeholders, so the same
+ * query run once per row of an earlier result shows up as one text executed
+ * many times.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrap(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            SqlStats stats = SqlStats.current();
+            if (stats == null || !(name.startsWith("execute") || name.equals("getResultSet"))) {
+                return invoke(statement, method, args);
+            }
+            if (name.equals("getResultSet")) {
+                return wrap((ResultSet) invoke(statement, method, args));
+            }
+
+            long start = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            stats.statement(sql, elapsed);
+            if (result instanceof ResultSet resultSet) {
+                return wrap(resultSet);
+            }
+            stats.rows(updateCount(result));
+            return result;
+        });
+    }
+
+    private static ResultSet wrap(ResultSet resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStats stats = SqlStats.current();
+                if (stats != null) {
+                    stats.rows(1);
+                }
+            }
+            return result;
+        });
+    }
+
+    // Rows changed according to an executeUpdate or executeBatch result; 0 for execute()'s boolean
+    private static long updateCount(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(count.longValue(), 0);
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+
+    // Wrappers compare by identity; the target's equals would never match its wrapper
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        InvocationHandler identity = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args.length == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+            case "hashCode" -> args == null ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+            default -> handler.invoke(proxy, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, identity));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,20 +1,58 @@
 package com.fixitnow.backend.controller;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fixitnow.backend.controller.dto.ReportDtos.CacheRegionStats;
+import com.fixitnow.backend.controller.dto.ReportDtos.CreateReportJobRequest;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactQueryResult;
+import com.fixitnow.backend.controller.dto.ReportDtos.Leaderboards;
+import com.fixitnow.backend.controller.dto.ReportDtos.PeriodTotal;
+import com.fixitnow.backend.controller.dto.ReportDtos.ProviderReach;
+import com.fixitnow.backend.controller.dto.ReportDtos.ReportCacheStats;
+import com.fixitnow.backend.controller.dto.ReportDtos.ReportJobResponse;
+import com.fixitnow.backend.controller.dto.ReportDtos.RevenueCubeCell;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.model.ReportJob;
 import com.fixitnow.backend.service.AdminReportService;
+import com.fixitnow.backend.service.BookingFactStore;
+import com.fixitnow.backend.service.BookingLeaderboards;
+import com.fixitnow.backend.service.BookingStatsService;
+import com.fixitnow.backend.service.EntityCacheService;
+import com.fixitnow.backend.service.ReportJobService;
+import com.fixitnow.backend.service.ReportPdfRenderer;
+import com.fixitnow.backend.service.ReportSections;
+import com.fixitnow.backend.service.ReportSections.SummaryReport;
+import com.fixitnow.backend.service.RevenueCubeService;
+import com.lowagie.text.DocumentException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,237 +62,276 @@ import lombok.RequiredArgsConstructor;
 public class AdminReportController {
 
     private final AdminReportService adminReportService;
+    private final BookingStatsService bookingStatsService;
+    private final ReportSections reportSections;
+    private final ReportPdfRenderer reportPdfRenderer;
+    private final ReportJobService reportJobService;
+    private final RevenueCubeService revenueCubeService;
+    private final EntityCacheService entityCacheService;
 
     @GetMapping("/revenue")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Map<String, Object>> getRevenue() {
-        return adminReportService.getRevenueLast30Days();
+    public List<Map<String, Object>> getRevenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // Without a range, keep the dashboard's last-30-days view
+        if (from == null && to == null) {
+            return adminReportService.getRevenueLast30Days();
+        }
+        return adminReportService.getRevenue(from, to);
     }
 
-    @GetMapping("/status")
+    // Booking count and amount per day, week or month; status may be repeated (default: all statuses)
+    @GetMapping("/series")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Map<String, Object>> getStatusDistribution() {
-        return adminReportService.getStatusDistribution();
+    public ResponseEntity<?> getSeries(
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Booking.BookingStatus> status) {
+        try {
+            List<PeriodTotal> series = adminReportService.getSeries(granularity, from, to, status);
+            return ResponseEntity.ok(series);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    @GetMapping("/top-services")
+    /**
+     * Revenue cube slice and roll-up: totals grouped by any of category,
+     * province and status (groupBy, repeatable) and optionally by time bucket
+     * (granularity), restricted by the categoryId, province and status filters.
+     */
+    @GetMapping("/cube")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Map<String, Object>> getTopServices() {
-        return adminReportService.getTopServices();
+    public ResponseEntity<?> getRevenueCube(
+            @RequestParam(required = false) List<RevenueCubeService.Dimension> groupBy,
+            @RequestParam(required = false) Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) List<String> province,
+            @RequestParam(required = false) List<Booking.BookingStatus> status) {
+        try {
+            List<RevenueCubeCell> cells = revenueCubeService.query(groupBy, granularity, from, to, categoryId,
+                    province, status);
+            return ResponseEntity.ok(cells);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    @GetMapping("/top-providers")
+    /**
+     * Ad hoc breakdown over individual bookings from the in-memory fact store:
+     * like /cube, plus grouping by service. parallel forces the scan on or off;
+     * by default large tables are scanned in parallel.
+     */
+    @GetMapping("/facts")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Map<String, Object>> getTopProviders() {
-        return adminReportService.getTopProviders();
+    public ResponseEntity<?> analyzeBookings(
+            @RequestParam(required = false) List<BookingFactStore.Dimension> groupBy,
+            @RequestParam(required = false) Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) List<String> province,
+            @RequestParam(required = false) List<Booking.BookingStatus> status,
+            @RequestParam(required = false) Boolean parallel) {
+        try {
+            FactQueryResult result = adminReportService.analyzeBookings(new BookingFactStore.FactQuery(
+                    groupBy == null || groupBy.isEmpty()
+                            ? EnumSet.noneOf(BookingFactStore.Dimension.class) : EnumSet.copyOf(groupBy),
+                    granularity, from, to,
+                    categoryId == null ? null : new HashSet<>(categoryId),
+                    province == null ? null : new HashSet<>(province),
+                    status == null || status.isEmpty() ? null : EnumSet.copyOf(status),
+                    parallel));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    @GetMapping("/top-customers")
+    /**
+     * Approximate leaderboards for the last DAY, WEEK, MONTH or ALL time,
+     * served from streaming sketches; see BookingLeaderboards for the bounds.
+     */
+    @GetMapping("/leaderboards")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Map<String, Object>> getTopCustomers() {
-        return adminReportService.getTopCustomers();
+    public ResponseEntity<?> getLeaderboards(
+            @RequestParam(defaultValue = "WEEK") BookingLeaderboards.Window window,
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            Leaderboards leaderboards = adminReportService.getLeaderboards(window, limit);
+            return ResponseEntity.ok(leaderboards);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    @GetMapping("/export")
+    @GetMapping("/leaderboards/providers/{providerId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<byte[]> exportSummaryPdf() {
-        try {
-            List<Map<String, Object>> revenue = adminReportService.getRevenueLast30Days();
-            List<Map<String, Object>> status = adminReportService.getStatusDistribution();
-            List<Map<String, Object>> topServices = adminReportService.getTopServices();
-            List<Map<String, Object>> topProviders = adminReportService.getTopProviders();
-            List<Map<String, Object>> topCustomers = adminReportService.getTopCustomers();
-
-            java.awt.Color brandBlue = new java.awt.Color(25, 118, 210);
-            java.awt.Color zebra = new java.awt.Color(245, 248, 255);
-
-            com.lowagie.text.Document document = new com.lowagie.text.Document(com.lowagie.text.PageSize.A4, 36, 36, 54, 54);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            com.lowagie.text.pdf.PdfWriter writer = com.lowagie.text.pdf.PdfWriter.getInstance(document, baos);
-
-            // Footer with page numbers and timestamp
-            writer.setPageEvent(new com.lowagie.text.pdf.PdfPageEventHelper() {
-                final com.lowagie.text.Font footerFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 9);
-                @Override
-                public void onEndPage(com.lowagie.text.pdf.PdfWriter writer, com.lowagie.text.Document document) {
-                    com.lowagie.text.pdf.PdfContentByte cb = writer.getDirectContent();
-                    String footer = "Page " + writer.getPageNumber() + "  •  Generated " + java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").format(java.time.LocalDateTime.now());
-                    com.lowagie.text.Phrase p = new com.lowagie.text.Phrase(footer, footerFont);
-                    com.lowagie.text.pdf.ColumnText.showTextAligned(cb, com.lowagie.text.Element.ALIGN_CENTER, p,
-                            (document.right() - document.left()) / 2 + document.leftMargin(), document.bottom() - 10, 0);
-                }
-            });
-
-            document.open();
-
-            // Title page
-            com.lowagie.text.Font titleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 22, com.lowagie.text.Font.BOLD, brandBlue);
-            com.lowagie.text.Font subFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12);
-            com.lowagie.text.Paragraph title = new com.lowagie.text.Paragraph("FixIt Now - Admin Reports", titleFont);
-            title.setAlignment(com.lowagie.text.Element.ALIGN_CENTER);
-            title.setSpacingBefore(180);
-            document.add(title);
-
-            com.lowagie.text.Paragraph logoPh = new com.lowagie.text.Paragraph("[ Logo ]", new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 14, com.lowagie.text.Font.BOLD));
-            logoPh.setAlignment(com.lowagie.text.Element.ALIGN_CENTER);
-            logoPh.setSpacingBefore(10);
-            document.add(logoPh);
-
-            com.lowagie.text.Paragraph datePh = new com.lowagie.text.Paragraph("Date: " + java.time.LocalDate.now(), subFont);
-            datePh.setAlignment(com.lowagie.text.Element.ALIGN_CENTER);
-            datePh.setSpacingBefore(10);
-            document.add(datePh);
-
-            document.newPage();
+    public ProviderReach getProviderReach(@PathVariable Long providerId,
+            @RequestParam(defaultValue = "WEEK") BookingLeaderboards.Window window) {
+        return adminReportService.getProviderReach(providerId, window);
+    }
 
-            // Helper fonts
-            com.lowagie.text.Font hFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 16, com.lowagie.text.Font.BOLD, brandBlue);
-            com.lowagie.text.Font thFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 11, com.lowagie.text.Font.BOLD);
-            com.lowagie.text.Font tdFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 11);
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Map<String, Object>> getStatusDistribution(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return adminReportService.getStatusDistribution(from, to);
+    }
 
-            // Section 1: Revenue Report
-            addSectionHeader(document, "Revenue Report (Last 30 Days)", hFont);
-            com.lowagie.text.pdf.PdfPTable revTable = new com.lowagie.text.pdf.PdfPTable(new float[] { 3f, 2f });
-            revTable.setWidthPercentage(100);
-            addHeaderCell(revTable, "Date", thFont, brandBlue);
-            addHeaderCell(revTable, "Revenue", thFont, brandBlue);
-            java.math.BigDecimal total = java.math.BigDecimal.ZERO;
-            boolean zebraToggle = false;
-            for (Map<String, Object> r : revenue) {
-                java.math.BigDecimal val = new java.math.BigDecimal(String.valueOf(r.get("revenue")));
-                total = total.add(val);
-                addBodyCell(revTable, String.valueOf(r.get("date")), tdFont, zebraToggle ? zebra : java.awt.Color.WHITE);
-                addBodyCell(revTable, val.toPlainString(), tdFont, zebraToggle ? zebra : java.awt.Color.WHITE);
-                zebraToggle = !zebraToggle;
-            }
-            // Total row
-            com.lowagie.text.pdf.PdfPCell totalCell = new com.lowagie.text.pdf.PdfPCell(new com.lowagie.text.Phrase("Total", thFont));
-            totalCell.setColspan(1);
-            totalCell.setHorizontalAlignment(com.lowagie.text.Element.ALIGN_RIGHT);
-            totalCell.setBackgroundColor(new java.awt.Color(230, 240, 255));
-            revTable.addCell(totalCell);
-            com.lowagie.text.pdf.PdfPCell totalValCell = new com.lowagie.text.pdf.PdfPCell(new com.lowagie.text.Phrase(total.toPlainString(), thFont));
-            totalValCell.setBackgroundColor(new java.awt.Color(230, 240, 255));
-            revTable.addCell(totalValCell);
-            document.add(revTable);
+    @GetMapping("/top-services")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Map<String, Object>> getTopServices(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return adminReportService.getTopServices(from, to);
+    }
 
-            document.add(new com.lowagie.text.Paragraph(" "));
+    @GetMapping("/top-providers")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Map<String, Object>> getTopProviders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return adminReportService.getTopProviders(from, to);
+    }
 
-            // Section 2: Booking Status Distribution
-            addSectionHeader(document, "Booking Status Distribution", hFont);
-            com.lowagie.text.pdf.PdfPTable statTable = new com.lowagie.text.pdf.PdfPTable(new float[] { 3f, 1.5f });
-            statTable.setWidthPercentage(100);
-            addHeaderCell(statTable, "Status", thFont, brandBlue);
-            addHeaderCell(statTable, "Count", thFont, brandBlue);
-            zebraToggle = false;
-            int colorIndex = 0;
-            java.awt.Color[] rowColors = new java.awt.Color[] {
-                new java.awt.Color(224, 242, 254), // light blue
-                new java.awt.Color(220, 252, 231), // light green
-                new java.awt.Color(254, 240, 138), // light yellow
-                new java.awt.Color(204, 251, 241), // light cyan
-                new java.awt.Color(254, 226, 226)  // light red
-            };
-            for (Map<String, Object> s : status) {
-                java.awt.Color bg = rowColors[colorIndex % rowColors.length];
-                addBodyCell(statTable, String.valueOf(s.get("status")), tdFont, bg);
-                addBodyCell(statTable, String.valueOf(s.get("count")), tdFont, bg);
-                colorIndex++;
-            }
-            document.add(statTable);
+    @GetMapping("/top-customers")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Map<String, Object>> getTopCustomers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return adminReportService.getTopCustomers(from, to);
+    }
 
-            document.add(new com.lowagie.text.Paragraph(" "));
+    // Recompute the booking_daily_stats rollup from the bookings table
+    @PostMapping("/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> rebuildRollup() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("rows", bookingStatsService.rebuild());
+        adminReportService.invalidateCache();
+        return result;
+    }
 
-            // Section 3: Top Services
-            addSectionHeader(document, "Top Services", hFont);
-            com.lowagie.text.pdf.PdfPTable svcTable = new com.lowagie.text.pdf.PdfPTable(new float[] { 4f, 1.5f });
-            svcTable.setWidthPercentage(100);
-            addHeaderCell(svcTable, "Service Name", thFont, brandBlue);
-            addHeaderCell(svcTable, "Bookings", thFont, brandBlue);
-            zebraToggle = false;
-            boolean first = true;
-            for (Map<String, Object> s : topServices) {
-                java.awt.Color bg = zebraToggle ? zebra : java.awt.Color.WHITE;
-                com.lowagie.text.Font cellFont = first ? new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 11, com.lowagie.text.Font.BOLD, new java.awt.Color(16, 185, 129)) : tdFont;
-                addBodyCell(svcTable, String.valueOf(s.get("serviceName")), cellFont, bg);
-                addBodyCell(svcTable, String.valueOf(s.get("count")), cellFont, bg);
-                zebraToggle = !zebraToggle;
-                first = false;
-            }
-            document.add(svcTable);
+    // Hit rate, compute time and last refresh of each cached report
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<ReportCacheStats> getCacheStats() {
+        return adminReportService.getCacheStats();
+    }
 
-            document.add(new com.lowagie.text.Paragraph(" "));
+    // Hits, misses and size of each entity and query cache region
+    @GetMapping("/entity-cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<CacheRegionStats> getEntityCacheStats() {
+        return entityCacheService.getRegionStats();
+    }
 
-            // Section 4: Provider Performance
-            addSectionHeader(document, "Provider Performance", hFont);
-            com.lowagie.text.pdf.PdfPTable provTable = new com.lowagie.text.pdf.PdfPTable(new float[] { 3f, 2f, 2f });
-            provTable.setWidthPercentage(100);
-            addHeaderCell(provTable, "Provider", thFont, brandBlue);
-            addHeaderCell(provTable, "Completed", thFont, brandBlue);
-            addHeaderCell(provTable, "Avg. Rating", thFont, brandBlue);
-            zebraToggle = false;
-            for (Map<String, Object> p : topProviders) {
-                java.awt.Color bg = zebraToggle ? zebra : java.awt.Color.WHITE;
-                addBodyCell(provTable, String.valueOf(p.get("providerName")), tdFont, bg);
-                addBodyCell(provTable, String.valueOf(p.get("completedCount")), tdFont, bg);
-                int stars = (int) Math.round(Double.parseDouble(String.valueOf(p.get("avgRating"))));
-                String starStr = stars <= 0 ? "-" : "★".repeat(Math.max(1, Math.min(stars, 5)));
-                addBodyCell(provTable, starStr, tdFont, bg);
-                zebraToggle = !zebraToggle;
-            }
-            document.add(provTable);
+    // Empty every entity and query cache region, e.g. after editing the tables by hand
+    @PostMapping("/entity-cache-stats/evict")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictEntityCache() {
+        entityCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
 
-            document.add(new com.lowagie.text.Paragraph(" "));
+    /**
+     * Summary PDF, streamed to the client as it is rendered. With
+     * {@code detail=true} it also lists every booking between {@code from} and
+     * {@code to} (default: the last 30 days).
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSummaryPdf(
+            @RequestParam(defaultValue = "false") boolean detail,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // Sections are fetched concurrently; unavailable ones are noted in the PDF
+        SummaryReport report = reportSections.fetchSummary();
+        LocalDate detailTo = detail ? (to != null ? to : LocalDate.now()) : null;
+        LocalDate detailFrom = detail ? (from != null ? from : detailTo.minusDays(30)) : null;
+        if (detail && detailFrom.isAfter(detailTo)) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            // Section 5: Top Customers
-            addSectionHeader(document, "Top Customers", hFont);
-            com.lowagie.text.pdf.PdfPTable custTable = new com.lowagie.text.pdf.PdfPTable(new float[] { 3.5f, 1.5f });
-            custTable.setWidthPercentage(100);
-            addHeaderCell(custTable, "Customer", thFont, brandBlue);
-            addHeaderCell(custTable, "Bookings", thFont, brandBlue);
-            zebraToggle = false;
-            for (Map<String, Object> c : topCustomers) {
-                java.awt.Color bg = zebraToggle ? zebra : java.awt.Color.WHITE;
-                addBodyCell(custTable, String.valueOf(c.get("customerName")), tdFont, bg);
-                addBodyCell(custTable, String.valueOf(c.get("count")), tdFont, bg);
-                zebraToggle = !zebraToggle;
+        StreamingResponseBody body = out -> {
+            try {
+                reportPdfRenderer.render(report, detailFrom, detailTo, out);
+            } catch (DocumentException e) {
+                throw new IOException("Failed to render report PDF", e);
             }
-            document.add(custTable);
-
-            document.close();
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Server-Timing", serverTiming(report));
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename="
+                + (detail ? "admin-reports-detail.pdf" : "admin-reports-summary.pdf"));
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
 
-            byte[] pdfBytes = baos.toByteArray();
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=admin-reports-summary.pdf");
-            return ResponseEntity.ok().headers(headers).body(pdfBytes);
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body(null);
+    // Queue an export on the background worker pool; poll the returned job for progress
+    @PostMapping("/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> createJob(@RequestBody CreateReportJobRequest request, Authentication authentication) {
+        try {
+            ReportJob job = reportJobService.submit(request.format(), request.from(), request.to(),
+                    authentication.getName());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ReportJobResponse(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
-    private void addSectionHeader(com.lowagie.text.Document doc, String text, com.lowagie.text.Font hFont) throws com.lowagie.text.DocumentException {
-        com.lowagie.text.Paragraph h = new com.lowagie.text.Paragraph(text, hFont);
-        h.setSpacingBefore(10);
-        h.setSpacingAfter(6);
-        doc.add(h);
+    @GetMapping("/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<ReportJobResponse> getRecentJobs() {
+        return reportJobService.getRecentJobs().stream().map(ReportJobResponse::new).toList();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReportJobResponse> getJob(@PathVariable String jobId) {
+        return reportJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(new ReportJobResponse(job)))
+                .orElse(ResponseEntity.notFound().build());
     }
 
-    private void addHeaderCell(com.lowagie.text.pdf.PdfPTable table, String text, com.lowagie.text.Font font, java.awt.Color bg) {
-        com.lowagie.text.pdf.PdfPCell cell = new com.lowagie.text.pdf.PdfPCell(new com.lowagie.text.Phrase(text, font));
-        cell.setBackgroundColor(new java.awt.Color(bg.getRed(), bg.getGreen(), bg.getBlue()));
-        cell.setHorizontalAlignment(com.lowagie.text.Element.ALIGN_LEFT);
-        cell.setPadding(6);
-        table.addCell(cell);
+    // The finished artifact; 404 until the job completes and after it expires
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resource> downloadJob(@PathVariable String jobId) {
+        Optional<ReportJob> job = reportJobService.getJob(jobId);
+        Optional<Path> artifact = job.flatMap(reportJobService::getArtifact);
+        if (artifact.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(job.get().getFormat() == ReportJob.Format.PDF
+                        ? MediaType.APPLICATION_PDF : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + reportJobService.fileName(job.get()))
+                .body(new FileSystemResource(artifact.get()));
     }
 
-    private void addBodyCell(com.lowagie.text.pdf.PdfPTable table, String text, com.lowagie.text.Font font, java.awt.Color bg) {
-        com.lowagie.text.pdf.PdfPCell cell = new com.lowagie.text.pdf.PdfPCell(new com.lowagie.text.Phrase(text, font));
-        cell.setBackgroundColor(new java.awt.Color(bg.getRed(), bg.getGreen(), bg.getBlue()));
-        cell.setHorizontalAlignment(com.lowagie.text.Element.ALIGN_LEFT);
-        cell.setPadding(6);
-        table.addCell(cell);
+    // One Server-Timing metric per section so slow or failed sections show up in browser dev tools
+    private static String serverTiming(SummaryReport report) {
+        StringBuilder timing = new StringBuilder();
+        for (ReportSections.Section section : report.all()) {
+            if (timing.length() > 0) {
+                timing.append(", ");
+            }
+            timing.append(section.name())
+                    .append(";dur=").append(String.format(Locale.ROOT, "%.1f", section.durationNanos() / 1_000_000.0));
+            if (!section.available()) {
+                timing.append(";desc=\"unavailable\"");
+            }
+        }
+        return timing.toString();
     }
 }
-
-
@@ -1,12 +1,13 @@
 package com.fixitnow.backend.controller;
 
 import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.service.CatalogSnapshots;
 import com.fixitnow.backend.service.CategoryService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -14,14 +15,19 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogSnapshots catalogSnapshots;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, CatalogSnapshots catalogSnapshots) {
         this.categoryService = categoryService;
+        this.catalogSnapshots = catalogSnapshots;
     }
 
     @GetMapping
-    public ResponseEntity<List<ServiceCategory>> listAll() {
-        return ResponseEntity.ok(categoryService.findAll());
+    public ResponseEntity<byte[]> listAll(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshots.Snapshot snapshot = catalogSnapshots.get(CatalogSnapshots.CATEGORIES, categoryService::findAll);
+        return SnapshotResponses.of(snapshot, ifNoneMatch, acceptEncoding);
     }
 
     @PostMapping
@@ -1,16 +1,18 @@
 package com.fixitnow.backend.controller;
 
-import com.fixitnow.backend.model.Review;
+import com.fixitnow.backend.controller.dto.ReviewDtos.ProviderRatingResponse;
+import com.fixitnow.backend.controller.dto.ReviewDtos.ReviewResponse;
 import com.fixitnow.backend.service.ReviewService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/reviews")
 @RequiredArgsConstructor
@@ -20,7 +22,7 @@ public class ReviewController {
     @PostMapping
     public ResponseEntity<?> addReview(@RequestBody AddReviewRequest request) {
         try {
-            Review review = reviewService.addReview(
+            ReviewResponse review = reviewService.addReview(
                     request.getBookingId(),
                     request.getCustomerId(),
                     request.getProviderId(),
@@ -37,24 +39,57 @@ public class ReviewController {
     }
 
     @GetMapping("/provider/{providerId}")
-    public List<Review> getReviewsByProvider(@PathVariable Long providerId) {
-        return reviewService.getReviewsByProvider(providerId);
+    public ResponseEntity<?> getReviewsByProvider(@PathVariable Long providerId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(reviewService.getReviewsByProvider(providerId, size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Aggregate rating and 1-5 histogram, read from the maintained per-provider totals
+    @GetMapping("/provider/{providerId}/rating")
+    public ProviderRatingResponse getProviderRating(@PathVariable Long providerId) {
+        return reviewService.getProviderRating(providerId);
     }
 
     @GetMapping("/customer/{customerId}")
-    public List<Review> getReviewsByCustomer(@PathVariable Long customerId) {
-        return reviewService.getReviewsByCustomer(customerId);
+    public ResponseEntity<?> getReviewsByCustomer(@PathVariable Long customerId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(reviewService.getReviewsByCustomer(customerId, size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping
-    public List<Review> getAllReviews() {
-        return reviewService.getAllReviews();
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAllReviews(@RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(reviewService.getAllReviews(size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Every review as newline-delimited JSON, streamed in keyset chunks
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllReviews() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reviewService::streamAllReviews);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateReview(@PathVariable Long id, @RequestBody UpdateReviewRequest request) {
         try {
-            Review updatedReview = reviewService.updateReview(id, request.getRating(), request.getComment());
+            ReviewResponse updatedReview = reviewService.updateReview(id, request.getRating(), request.getComment());
             return ResponseEntity.ok(updatedReview);
         } catch (ResponseStatusException ex) {
             if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
@@ -1,5 +1,10 @@
 package com.fixitnow.backend.controller;
 
+import com.fixitnow.backend.controller.dto.ServiceDtos.BrowseSort;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseRequest;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.event.ServiceChangedEvent;
 import com.fixitnow.backend.model.Service;
 import com.fixitnow.backend.model.ServiceCategory;
 import com.fixitnow.backend.model.User;
@@ -7,16 +12,30 @@ import com.fixitnow.backend.repository.ServiceCategoryRepository;
 import com.fixitnow.backend.repository.ServiceRepository;
 import com.fixitnow.backend.repository.UserRepository;
 import com.fixitnow.backend.security.JwtUtil;
+import com.fixitnow.backend.service.CatalogSnapshots;
+import com.fixitnow.backend.service.ProviderRatingService;
+import com.fixitnow.backend.service.ServiceBrowseService;
+import com.fixitnow.backend.service.ServiceCatalog;
+import com.fixitnow.backend.service.ServiceCatalog.CatalogQuery;
+import com.fixitnow.backend.service.ServiceImportService;
+import com.fixitnow.backend.service.ServiceUpdateService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +50,13 @@ public class ServiceController {
     private final ServiceCategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final ServiceBrowseService serviceBrowseService;
+    private final ServiceCatalog serviceCatalog;
+    private final CatalogSnapshots catalogSnapshots;
+    private final ServiceImportService serviceImportService;
+    private final ProviderRatingService providerRatingService;
+    private final ServiceUpdateService serviceUpdateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // DTOs for request/response
     public static class CreateServiceRequest {
@@ -192,6 +218,10 @@ public class ServiceController {
             return serviceDescription;
         }
 
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
         public String getCategoryName() {
             return categoryName;
         }
@@ -264,6 +294,7 @@ public class ServiceController {
                     .build();
 
             Service savedService = serviceRepository.save(service);
+            eventPublisher.publishEvent(ServiceChangedEvent.saved(savedService.getServiceId()));
             return ResponseEntity.status(HttpStatus.CREATED).body(new ServiceResponse(savedService));
 
         } catch (Exception e) {
@@ -273,17 +304,108 @@ public class ServiceController {
         }
     }
 
-    // READ - Get all services (public)
+    // CREATE - Bulk import services from a streamed CSV or NDJSON request body (provider only)
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    @PreAuthorize("hasRole('PROVIDER')")
+    public ResponseEntity<?> importServices(HttpServletRequest request,
+            @RequestHeader("Authorization") String token) throws IOException {
+        ServiceImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                        ? ServiceImportService.Format.NDJSON
+                        : ServiceImportService.Format.CSV;
+        return runImport(token, request.getInputStream(), format);
+    }
+
+    // CREATE - Bulk import services from an uploaded .csv or .ndjson file (provider only)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('PROVIDER')")
+    public ResponseEntity<?> importServicesFile(@RequestParam("file") MultipartFile file,
+            @RequestHeader("Authorization") String token) throws IOException {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+        ServiceImportService.Format format = name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                ? ServiceImportService.Format.NDJSON
+                : ServiceImportService.Format.CSV;
+        try (InputStream in = file.getInputStream()) {
+            return runImport(token, in, format);
+        }
+    }
+
+    private ResponseEntity<?> runImport(String token, InputStream body, ServiceImportService.Format format)
+            throws IOException {
+        String email = jwtUtil.extractUsername(token.replace("Bearer ", ""));
+        Optional<User> userOpt = userRepository.findByEmail(email);
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
+        }
+        try {
+            return ResponseEntity.ok(serviceImportService.importServices(userOpt.get(), body, format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // READ - Get all services (public), served from the pre-serialized catalog snapshot
     @GetMapping
-    public ResponseEntity<List<ServiceResponse>> getAllServices() {
-        List<Service> services = serviceRepository.findAll();
-        List<ServiceResponse> responses = services.stream()
-                .map(ServiceResponse::new)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<byte[]> getAllServices(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshots.Snapshot snapshot = catalogSnapshots.get(CatalogSnapshots.SERVICES,
+                serviceRepository::findAllSummaries);
+        return SnapshotResponses.of(snapshot, ifNoneMatch, acceptEncoding);
     }
 
-    // READ - Get service by ID (public)
+    // READ - Browse services with database-side filters, keyset pagination and facets (public)
+    @GetMapping("/browse")
+    public ResponseEntity<?> browseServices(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Service.AvailabilityStatus availability,
+            @RequestParam(required = false) Long providerId,
+            @RequestParam(defaultValue = "NEWEST") BrowseSort sort,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        try {
+            ServiceBrowseResponse result = serviceBrowseService.browse(new ServiceBrowseRequest(
+                    categoryId, province, minPrice, maxPrice, availability, providerId, sort, size, cursor));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // READ - Filter services from the in-memory catalog (public)
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterServices(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) Service.AvailabilityStatus availability,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "NEWEST") BrowseSort sort,
+            @RequestParam(defaultValue = "0") int limit) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            return ResponseEntity.badRequest().body("minPrice cannot be greater than maxPrice");
+        }
+        return ResponseEntity.ok(serviceCatalog
+                .find(new CatalogQuery(categoryId, province, availability, minPrice, maxPrice, sort, limit)));
+    }
+
+    // READ - Services ranked by provider rating (public)
+    @GetMapping("/top-rated")
+    public ResponseEntity<?> getTopRatedServices(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "1") long minReviews,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(providerRatingService.getTopRatedServices(categoryId, minReviews, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // READ - Get service by ID (public), the only read that returns the full description
     @GetMapping("/{serviceId}")
     public ResponseEntity<?> getServiceById(@PathVariable Long serviceId) {
         Optional<Service> serviceOpt = serviceRepository.findById(serviceId);
@@ -295,46 +417,36 @@ public class ServiceController {
 
     // READ - Get services by provider ID (public)
     @GetMapping("/provider/{providerId}")
-    public ResponseEntity<List<ServiceResponse>> getServicesByProvider(@PathVariable Long providerId) {
-        List<Service> services = serviceRepository.findByProviderUserId(providerId);
-        List<ServiceResponse> responses = services.stream()
-                .map(ServiceResponse::new)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<ServiceSummaryResponse>> getServicesByProvider(@PathVariable Long providerId) {
+        return ResponseEntity.ok(serviceRepository.findSummariesByProviderId(providerId));
     }
 
     // READ - Get services by category (public)
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ServiceResponse>> getServicesByCategory(@PathVariable Long categoryId) {
-        List<Service> services = serviceRepository.findByCategoryCategoryId(categoryId);
-        List<ServiceResponse> responses = services.stream()
-                .map(ServiceResponse::new)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<ServiceSummaryResponse>> getServicesByCategory(@PathVariable Long categoryId) {
+        return ResponseEntity.ok(serviceRepository.findSummariesByCategoryId(categoryId));
     }
 
     // READ - Search services (public)
     @GetMapping("/search")
-    public ResponseEntity<List<ServiceResponse>> searchServices(@RequestParam String query) {
-        List<Service> services = serviceRepository.findByServiceTitleContainingOrServiceDescriptionContaining(query,
-                query);
-        List<ServiceResponse> responses = services.stream()
-                .map(ServiceResponse::new)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<ServiceSummaryResponse>> searchServices(@RequestParam String query) {
+        return ResponseEntity.ok(serviceRepository.searchSummaries(query));
     }
 
-    // READ - Get distinct provinces (public)
+    // READ - Get distinct provinces (public), served from the pre-serialized catalog snapshot
     @GetMapping("/provinces")
-    public ResponseEntity<List<String>> getProvinces() {
-        List<String> provinces = serviceRepository.findDistinctProvinces();
-        return ResponseEntity.ok(provinces);
+    public ResponseEntity<byte[]> getProvinces(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshots.Snapshot snapshot = catalogSnapshots.get(CatalogSnapshots.PROVINCES,
+                serviceRepository::findDistinctProvinces);
+        return SnapshotResponses.of(snapshot, ifNoneMatch, acceptEncoding);
     }
 
     // READ - Get my services (provider only)
     @GetMapping("/my-services")
     @PreAuthorize("hasRole('PROVIDER')")
-    public ResponseEntity<List<ServiceResponse>> getMyServices(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<ServiceSummaryResponse>> getMyServices(@RequestHeader("Authorization") String token) {
         try {
             String email = jwtUtil.extractUsername(token.replace("Bearer ", ""));
             Optional<User> userOpt = userRepository.findByEmail(email);
@@ -343,11 +455,7 @@ public class ServiceController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
             }
 
-            List<Service> services = serviceRepository.findByProvider(userOpt.get());
-            List<ServiceResponse> responses = services.stream()
-                    .map(ServiceResponse::new)
-                    .toList();
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok(serviceRepository.findSummariesByProviderId(userOpt.get().getUserId()));
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -368,45 +476,14 @@ public class ServiceController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
             }
 
-            User provider = userOpt.get();
-
-            // Find service and ensure it belongs to the provider
-            Optional<Service> serviceOpt = serviceRepository.findByServiceIdAndProvider(serviceId, provider);
-            if (serviceOpt.isEmpty()) {
+            Optional<Service> updated = serviceUpdateService.update(serviceId, userOpt.get(), request);
+            if (updated.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
+            return ResponseEntity.ok(new ServiceResponse(updated.get()));
 
-            Service service = serviceOpt.get();
-
-            // Update fields if provided
-            if (request.getServiceTitle() != null) {
-                service.setServiceTitle(request.getServiceTitle());
-            }
-            if (request.getServiceDescription() != null) {
-                service.setServiceDescription(request.getServiceDescription());
-            }
-            if (request.getCategoryId() != null) {
-                Optional<ServiceCategory> categoryOpt = categoryRepository.findById(request.getCategoryId());
-                if (categoryOpt.isEmpty()) {
-                    return ResponseEntity.badRequest().body("Invalid category ID");
-                }
-                service.setCategory(categoryOpt.get());
-            }
-            if (request.getPrice() != null) {
-                service.setPrice(request.getPrice());
-            }
-            if (request.getAvailabilityStatus() != null) {
-                try {
-                    service.setAvailabilityStatus(Service.AvailabilityStatus.valueOf(request.getAvailabilityStatus()));
-                } catch (IllegalArgumentException e) {
-                    return ResponseEntity.badRequest()
-                            .body("Invalid availability status. Must be AVAILABLE or UNAVAILABLE");
-                }
-            }
-
-            Service updatedService = serviceRepository.save(service);
-            return ResponseEntity.ok(new ServiceResponse(updatedService));
-
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -435,6 +512,7 @@ public class ServiceController {
             }
 
             serviceRepository.deleteById(serviceId);
+            eventPublisher.publishEvent(ServiceChangedEvent.deleted(serviceId));
             return ResponseEntity.ok("Service deleted successfully");
 
         } catch (Exception e) {
@@ -465,6 +543,7 @@ public class ServiceController {
 
         service.setAvailabilityStatus(newStatus);
         Service updatedService = serviceRepository.save(service);
+        eventPublisher.publishEvent(ServiceChangedEvent.saved(updatedService.getServiceId()));
 
         return ResponseEntity.ok(new ServiceResponse(updatedService));
     }
@@ -0,0 +1,56 @@
+package com.fixitnow.backend.controller;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fixitnow.backend.service.CatalogSnapshots.Snapshot;
+
+/**
+ * Turns a {@link Snapshot} into an HTTP response: 304 when the client already
+ * holds the current representation, otherwise the stored bytes (gzip-encoded
+ * when the client accepts it) with a strong ETag.
+ */
+final class SnapshotResponses {
+
+    private SnapshotResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(Snapshot snapshot, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")
+                && snapshot.gzip().length < snapshot.json().length;
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.setCacheControl(CacheControl.noCache().cachePublic());
+
+        if (matches(ifNoneMatch, snapshot)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new ResponseEntity<>(snapshot.gzip(), headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(snapshot.json(), headers, HttpStatus.OK);
+    }
+
+    // Either coding's tag means the client's copy is current; proxies may weaken tags when recompressing
+    private static boolean matches(String ifNoneMatch, Snapshot snapshot) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(snapshot.etag()) || tag.equals(snapshot.gzipEtag()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.fixitnow.backend.controller.dto;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -63,7 +64,8 @@ public class BookingDtos {
             String customerPhone
     ) {}
 
-    // Response DTO for booking details
+    // Response DTO for booking details; serviceDescription carries the service's
+    // description snippet, the full text is available from GET /api/services/{id}
     public record BookingResponse(
             Long bookingId,
             Long customerId,
@@ -100,7 +102,7 @@ public class BookingDtos {
                     booking.getCustomerPhone(),
                     booking.getService() != null ? booking.getService().getServiceId() : null,
                     booking.getService() != null ? booking.getService().getServiceTitle() : "Unknown",
-                    booking.getService() != null ? booking.getService().getServiceDescription() : "Unknown",
+                    booking.getService() != null ? booking.getService().getDescriptionSnippet() : "Unknown",
                     booking.getService() != null && booking.getService().getProvider() != null 
                             ? booking.getService().getProvider().getUserId() : null,
                     booking.getService() != null && booking.getService().getProvider() != null 
@@ -121,6 +123,21 @@ public class BookingDtos {
                     booking.getVersion()
             );
         }
+
+        // Used by JPQL constructor expressions
+        public BookingResponse(Long bookingId, Long customerId, String customerName, String customerEmail,
+                String customerPhone, Long serviceId, String serviceTitle, String descriptionSnippet,
+                Long providerId, String providerName, String providerEmail, String providerPhone,
+                String categoryName, LocalDateTime bookingDate, String specialRequests, String customerAddress,
+                BigDecimal totalAmount, Booking.BookingStatus status, Instant createdAt, Instant updatedAt,
+                Long version) {
+            this(bookingId, customerId, customerName, customerEmail, customerPhone, serviceId, serviceTitle,
+                    descriptionSnippet, providerId, providerName, providerEmail, providerPhone, categoryName,
+                    bookingDate, specialRequests, customerAddress, totalAmount, status,
+                    createdAt != null ? createdAt.toString() : "",
+                    updatedAt != null ? updatedAt.toString() : "",
+                    version);
+        }
     }
 
     // Simplified response DTO for listing bookings
@@ -159,6 +176,14 @@ public class BookingDtos {
                     booking.getCreatedAt() != null ? booking.getCreatedAt().toString() : ""
             );
         }
+
+        // Used by JPQL constructor expressions
+        public BookingSummaryResponse(Long bookingId, Long customerId, Long providerId, String serviceTitle,
+                String providerName, String providerEmail, String categoryName, LocalDateTime bookingDate,
+                BigDecimal totalAmount, Booking.BookingStatus status, Instant createdAt) {
+            this(bookingId, customerId, providerId, serviceTitle, providerName, providerEmail, categoryName,
+                    bookingDate, totalAmount, status, createdAt != null ? createdAt.toString() : "");
+        }
     }
 
     // DTO for booking statistics
@@ -171,4 +196,37 @@ public class BookingDtos {
             BigDecimal totalRevenue,
             BigDecimal pendingRevenue
     ) {}
-}
\ No newline at end of file
+
+    // One line of the detailed admin export
+    public record BookingReportRow(
+            Long bookingId,
+            LocalDateTime bookingDate,
+            Booking.BookingStatus status,
+            BigDecimal totalAmount,
+            String serviceTitle,
+            String customerName,
+            String providerName
+    ) {}
+
+    // Analytics facts of one booking, loaded into the in-memory fact store
+    public record BookingFactRow(
+            Long bookingId,
+            Long serviceId,
+            Long categoryId,
+            String province,
+            Booking.BookingStatus status,
+            LocalDateTime bookingDate,
+            BigDecimal totalAmount
+    ) {}
+
+    // Who booked what and when, replayed into the leaderboard sketches at startup
+    public record BookingActivityRow(
+            Long bookingId,
+            Long serviceId,
+            Long customerId,
+            Long providerId,
+            Booking.BookingStatus status,
+            Instant createdAt,
+            Instant updatedAt
+    ) {}
+}
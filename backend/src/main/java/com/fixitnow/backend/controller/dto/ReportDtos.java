@@ -0,0 +1,155 @@
+package com.fixitnow.backend.controller.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.ReportJob;
+
+public class ReportDtos {
+
+    // Cache counters for one report method; hitRate counts stale hits as hits
+    public record ReportCacheStats(
+            String report,
+            long hits,
+            long staleHits,
+            long misses,
+            double hitRate,
+            long loads,
+            long failures,
+            Long lastComputeMillis,
+            Double averageComputeMillis,
+            String lastRefresh
+    ) {}
+
+    // Counters of one Hibernate second-level cache region; elementCount is null when the provider does not report it
+    public record CacheRegionStats(
+            String region,
+            long hits,
+            long misses,
+            double hitRate,
+            long puts,
+            Long elementCount
+    ) {}
+
+    // One bucket of a booking time series; periodEnd is the bucket's last day
+    public record PeriodTotal(
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            long bookingCount,
+            BigDecimal totalAmount
+    ) {}
+
+    // One cell of a revenue cube query; dimensions that were not grouped by are null
+    public record RevenueCubeCell(
+            LocalDate periodStart,
+            Long categoryId,
+            String categoryName,
+            String province,
+            Booking.BookingStatus status,
+            long bookingCount,
+            BigDecimal totalAmount
+    ) {}
+
+    // One group of an in-memory fact query; dimensions that were not grouped by are null
+    public record FactCell(
+            LocalDate periodStart,
+            Long categoryId,
+            String province,
+            Booking.BookingStatus status,
+            Long serviceId,
+            long bookingCount,
+            BigDecimal totalAmount
+    ) {}
+
+    // Fact query result with scan statistics
+    public record FactQueryResult(
+            long rowsScanned,
+            long rowsMatched,
+            long elapsedMicros,
+            boolean parallel,
+            List<FactCell> cells
+    ) {}
+
+    // One ranked id; the true count lies in [count - maxError, count]. uniqueCustomers is set for providers only
+    public record LeaderboardEntry(
+            Long id,
+            String name,
+            long count,
+            long maxError,
+            Long uniqueCustomers
+    ) {}
+
+    // Approximate ranking over `total` events; no count overstates the truth by more than errorBound
+    public record Leaderboard(
+            long total,
+            long errorBound,
+            List<LeaderboardEntry> entries
+    ) {}
+
+    // Bookings per service and customer and completions per provider within one window
+    public record Leaderboards(
+            String window,
+            Leaderboard topServices,
+            Leaderboard topProviders,
+            Leaderboard topCustomers,
+            double uniqueCustomersRelativeError
+    ) {}
+
+    // Distinct customers who booked a provider's services, with the estimate's relative standard error
+    public record ProviderReach(
+            Long providerId,
+            String window,
+            long uniqueCustomers,
+            double relativeStandardError
+    ) {}
+
+    // Export to queue; from and to are inclusive booking dates
+    public record CreateReportJobRequest(
+            ReportJob.Format format,
+            LocalDate from,
+            LocalDate to
+    ) {}
+
+    // Progress of a queued export; downloadUrl is set once the artifact is ready
+    public record ReportJobResponse(
+            String jobId,
+            ReportJob.Format format,
+            LocalDate from,
+            LocalDate to,
+            ReportJob.Status status,
+            String requestedBy,
+            Long sizeBytes,
+            String error,
+            String createdAt,
+            String startedAt,
+            String completedAt,
+            String expiresAt,
+            String downloadUrl
+    ) {
+        public ReportJobResponse(ReportJob job) {
+            this(
+                    job.getJobId(),
+                    job.getFormat(),
+                    job.getFromDate(),
+                    job.getToDate(),
+                    job.getStatus(),
+                    job.getRequestedBy(),
+                    job.getSizeBytes(),
+                    job.getError(),
+                    format(job.getCreatedAt()),
+                    format(job.getStartedAt()),
+                    format(job.getCompletedAt()),
+                    format(job.getExpiresAt()),
+                    job.getStatus() == ReportJob.Status.COMPLETED
+                            ? "/api/admin/reports/jobs/" + job.getJobId() + "/download" : null
+            );
+        }
+
+        private static String format(Instant instant) {
+            return instant != null ? instant.toString() : null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fixitnow.backend.controller.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.fixitnow.backend.model.Review;
+
+public class ReviewDtos {
+
+    // Aggregate rating for a provider; histogram maps each star value (1-5) to its review count
+    public record ProviderRatingResponse(
+            Long providerId,
+            long reviewCount,
+            Double averageRating,
+            Map<Integer, Long> histogram
+    ) {}
+
+    // Flat view of a review; replaces serializing the entity and its lazy associations
+    public record ReviewResponse(
+            Long reviewId,
+            Long bookingId,
+            Long customerId,
+            String customerName,
+            Long providerId,
+            String providerName,
+            String serviceTitle,
+            Integer rating,
+            String comment,
+            String createdAt
+    ) {
+        // Used by JPQL constructor expressions
+        public ReviewResponse(Long reviewId, Long bookingId, Long customerId, String customerName, Long providerId,
+                String providerName, String serviceTitle, Integer rating, String comment, Instant createdAt) {
+            this(reviewId, bookingId, customerId, customerName, providerId, providerName, serviceTitle, rating,
+                    comment, createdAt != null ? createdAt.toString() : "");
+        }
+
+        public ReviewResponse(Review review) {
+            this(
+                    review.getReviewId(),
+                    review.getBooking() != null ? review.getBooking().getBookingId() : null,
+                    review.getCustomer() != null ? review.getCustomer().getUserId() : null,
+                    review.getCustomer() != null ? review.getCustomer().getFullName() : "Unknown",
+                    review.getProvider() != null ? review.getProvider().getUserId() : null,
+                    review.getProvider() != null ? review.getProvider().getFullName() : "Unknown",
+                    review.getBooking() != null && review.getBooking().getService() != null
+                            ? review.getBooking().getService().getServiceTitle() : "Unknown",
+                    review.getRating(),
+                    review.getComment(),
+                    review.getCreatedAt() != null ? review.getCreatedAt().toString() : ""
+            );
+        }
+    }
+
+    // One page of reviews, newest first; pass nextCursor back to get the following page
+    public record ReviewPage(List<ReviewResponse> items, String nextCursor) {}
+}
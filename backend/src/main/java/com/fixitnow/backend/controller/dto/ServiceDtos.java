@@ -0,0 +1,104 @@
+package com.fixitnow.backend.controller.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fixitnow.backend.model.Service;
+
+public class ServiceDtos {
+
+    // Sort orders supported by the browse endpoint (all keyset-paginated)
+    public enum BrowseSort {
+        NEWEST,     // serviceId descending
+        PRICE_ASC,  // price ascending, then serviceId ascending
+        PRICE_DESC  // price descending, then serviceId descending
+    }
+
+    // Filter, sort and page parameters for browsing services
+    public record ServiceBrowseRequest(
+            Long categoryId,
+            String province,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Service.AvailabilityStatus availability,
+            Long providerId,
+            BrowseSort sort,
+            int size,
+            String cursor
+    ) {}
+
+    // List-view projection of a service: serviceDescription holds the bounded
+    // snippet (ending in an ellipsis when truncated); the full text is only
+    // returned by GET /api/services/{id}
+    public record ServiceSummaryResponse(
+            Long serviceId,
+            String serviceTitle,
+            String serviceDescription,
+            Long categoryId,
+            String categoryName,
+            @JsonFormat(shape = JsonFormat.Shape.STRING)
+            BigDecimal price,
+            Service.AvailabilityStatus availabilityStatus,
+            Long providerId,
+            String providerName,
+            String createdAt,
+            String province
+    ) {
+        // Used by JPQL constructor expressions
+        public ServiceSummaryResponse(Long serviceId, String serviceTitle, String descriptionSnippet,
+                Long categoryId, String categoryName, BigDecimal price,
+                Service.AvailabilityStatus availabilityStatus, Long providerId, String providerName,
+                Instant createdAt, String province) {
+            this(serviceId, serviceTitle, descriptionSnippet, categoryId, categoryName, price, availabilityStatus,
+                    providerId, providerName, createdAt != null ? createdAt.toString() : "", province);
+        }
+    }
+
+    // A service summary with its provider's aggregate rating
+    public record RatedServiceResponse(
+            ServiceSummaryResponse service,
+            Double averageRating,
+            long reviewCount
+    ) {}
+
+    // One page of services plus facet counts for the current filters
+    public record ServiceBrowseResponse(
+            List<ServiceSummaryResponse> items,
+            String nextCursor,
+            ServiceFacets facets
+    ) {}
+
+    public record ServiceFacets(
+            List<CategoryFacet> categories,
+            List<ProvinceFacet> provinces
+    ) {}
+
+    public record CategoryFacet(Long categoryId, String categoryName, long count) {}
+
+    public record ProvinceFacet(String province, long count) {}
+
+    // One service in a bulk import; CSV headers and NDJSON keys use these names.
+    // Either categoryId or categoryName identifies the category.
+    public record ServiceImportRow(
+            String serviceTitle,
+            String serviceDescription,
+            Long categoryId,
+            String categoryName,
+            BigDecimal price,
+            String availabilityStatus,
+            String province
+    ) {}
+
+    public record ImportRowError(long row, String message) {}
+
+    // Outcome of a bulk import; errors are capped, errorsTruncated tells the client more rows failed
+    public record ServiceImportResponse(
+            long totalRows,
+            long imported,
+            long failed,
+            List<ImportRowError> errors,
+            boolean errorsTruncated
+    ) {}
+}
@@ -0,0 +1,35 @@
+package com.fixitnow.backend.event;
+
+import com.fixitnow.backend.model.Booking;
+
+/**
+ * Published after a booking is created or changed (status, date, details) so
+ * in-memory analytics can refresh that booking. previousStatus is null for a
+ * new booking.
+ */
+public record BookingChangedEvent(
+        Long bookingId,
+        Long serviceId,
+        Long customerId,
+        Long providerId,
+        Booking.BookingStatus previousStatus,
+        Booking.BookingStatus status) {
+
+    public static BookingChangedEvent created(Booking booking) {
+        return changed(booking, null);
+    }
+
+    public static BookingChangedEvent changed(Booking booking, Booking.BookingStatus previousStatus) {
+        return new BookingChangedEvent(booking.getBookingId(), booking.getService().getServiceId(),
+                booking.getCustomer().getUserId(), booking.getService().getProvider().getUserId(),
+                previousStatus, booking.getStatus());
+    }
+
+    public boolean isCreated() {
+        return previousStatus == null;
+    }
+
+    public boolean isCompleted() {
+        return status == Booking.BookingStatus.COMPLETED && previousStatus != Booking.BookingStatus.COMPLETED;
+    }
+}
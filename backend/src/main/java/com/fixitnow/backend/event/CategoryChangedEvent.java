@@ -0,0 +1,15 @@
+package com.fixitnow.backend.event;
+
+/**
+ * Published after a service category is created, updated or deleted.
+ */
+public record CategoryChangedEvent(Long categoryId, boolean deleted) {
+
+    public static CategoryChangedEvent saved(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, false);
+    }
+
+    public static CategoryChangedEvent deleted(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, true);
+    }
+}
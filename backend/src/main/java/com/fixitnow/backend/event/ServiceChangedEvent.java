@@ -0,0 +1,16 @@
+package com.fixitnow.backend.event;
+
+/**
+ * Published after a service row is created, updated or deleted so read-side
+ * views of the catalog can refresh the affected entry.
+ */
+public record ServiceChangedEvent(Long serviceId, boolean deleted) {
+
+    public static ServiceChangedEvent saved(Long serviceId) {
+        return new ServiceChangedEvent(serviceId, false);
+    }
+
+    public static ServiceChangedEvent deleted(Long serviceId) {
+        return new ServiceChangedEvent(serviceId, true);
+    }
+}
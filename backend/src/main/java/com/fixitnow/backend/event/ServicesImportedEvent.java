@@ -0,0 +1,8 @@
+package com.fixitnow.backend.event;
+
+/**
+ * Published once after a bulk import has inserted services for a provider, so
+ * read-side views refresh in one pass instead of once per row.
+ */
+public record ServicesImportedEvent(Long providerId, int imported) {
+}
@@ -0,0 +1,8 @@
+package com.fixitnow.backend.event;
+
+/**
+ * Published after a user's profile changes. Read-side views that embed the
+ * user's name (provider names in catalog entries) refresh on it.
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -30,7 +31,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_date", columnList = "booking_date, booking_id"),
+        @Index(name = "idx_bookings_updated", columnList = "updated_at, booking_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -125,6 +129,16 @@ public class Booking {
         CONFIRMED,  // Provider confirmed the booking
         IN_PROGRESS, // Service is being provided
         COMPLETED,  // Service completed successfully
-        CANCELLED   // Booking was cancelled
+        CANCELLED;  // Booking was cancelled
+
+        // Allowed provider-driven changes; COMPLETED and CANCELLED are terminal
+        public boolean canTransitionTo(BookingStatus next) {
+            return switch (this) {
+                case PENDING -> next == CONFIRMED || next == CANCELLED;
+                case CONFIRMED -> next == IN_PROGRESS || next == CANCELLED;
+                case IN_PROGRESS -> next == COMPLETED || next == CANCELLED;
+                case COMPLETED, CANCELLED -> false;
+            };
+        }
     }
 }
@@ -0,0 +1,67 @@
+package com.fixitnow.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Booking counts and amounts per booking day, service, customer and status,
+ * kept in step with the bookings table by
+ * {@link com.fixitnow.backend.service.BookingStatsService}. Admin reports
+ * aggregate these rows instead of scanning bookings.
+ */
+@Entity
+@Table(name = "booking_daily_stats", indexes = {
+        @Index(name = "idx_daily_stats_date", columnList = "stat_date, status"),
+        @Index(name = "idx_daily_stats_provider", columnList = "provider_id, stat_date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDailyStats {
+
+    @EmbeddedId
+    private Key id;
+
+    // Provider of the service; stored so provider reports need no join
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        // Day of the booking date (the day the service is scheduled)
+        @Column(name = "stat_date", nullable = false)
+        private LocalDate statDate;
+
+        @Column(name = "service_id", nullable = false)
+        private Long serviceId;
+
+        @Column(name = "customer_id", nullable = false)
+        private Long customerId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false, length = 20)
+        private Booking.BookingStatus status;
+    }
+}
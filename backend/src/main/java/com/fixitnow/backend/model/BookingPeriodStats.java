@@ -0,0 +1,83 @@
+package com.fixitnow.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Booking counts and amounts per time bucket (day, ISO week or month) and
+ * status, kept in step with the bookings table by
+ * {@link com.fixitnow.backend.service.BookingStatsService}. A time series
+ * reads one row per bucket and status, so a multi-year monthly view costs
+ * about as much as a 30-day daily one.
+ */
+@Entity
+@Table(name = "booking_period_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPeriodStats {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", nullable = false, length = 10)
+        private Granularity granularity;
+
+        // First day of the bucket
+        @Column(name = "period_start", nullable = false)
+        private LocalDate periodStart;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false, length = 20)
+        private Booking.BookingStatus status;
+    }
+
+    public enum Granularity {
+        DAY, WEEK, MONTH;
+
+        // First day of the bucket containing the given day; weeks start on Monday
+        public LocalDate start(LocalDate day) {
+            return switch (this) {
+                case DAY -> day;
+                case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> day.withDayOfMonth(1);
+            };
+        }
+
+        // First day of the following bucket
+        public LocalDate next(LocalDate periodStart) {
+            return switch (this) {
+                case DAY -> periodStart.plusDays(1);
+                case WEEK -> periodStart.plusWeeks(1);
+                case MONTH -> periodStart.plusMonths(1);
+            };
+        }
+    }
+}
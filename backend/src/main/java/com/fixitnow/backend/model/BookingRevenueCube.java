@@ -0,0 +1,63 @@
+package com.fixitnow.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Booking counts and amounts per booking day, service category, province and
+ * status, kept in step with the bookings table by
+ * {@link com.fixitnow.backend.service.BookingStatsService}. Revenue by
+ * category and region is sliced and rolled up from these cells without
+ * touching bookings or services.
+ */
+@Entity
+@Table(name = "booking_revenue_cube", indexes = {
+        @Index(name = "idx_revenue_cube_category", columnList = "category_id, stat_date"),
+        @Index(name = "idx_revenue_cube_province", columnList = "province, stat_date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRevenueCube {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "stat_date", nullable = false)
+        private LocalDate statDate;
+
+        @Column(name = "category_id", nullable = false)
+        private Long categoryId;
+
+        @Column(name = "province", nullable = false, length = 100)
+        private String province;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false, length = 20)
+        private Booking.BookingStatus status;
+    }
+}
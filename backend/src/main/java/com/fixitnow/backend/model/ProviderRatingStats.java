@@ -0,0 +1,57 @@
+package com.fixitnow.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Running rating totals for one provider, kept in step with the reviews table
+ * by {@link com.fixitnow.backend.service.ProviderRatingService}.
+ */
+@Entity
+@Table(name = "provider_rating_stats", indexes = {
+        @Index(name = "idx_rating_stats_count", columnList = "review_count")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderRatingStats {
+
+    @Id
+    @Column(name = "provider_id")
+    private Long providerId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    // Histogram: number of reviews with each star rating
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+    }
+}
@@ -10,11 +10,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_provider", columnList = "provider_id, review_id"),
+        @Index(name = "idx_reviews_customer", columnList = "customer_id, review_id"),
+        @Index(name = "idx_reviews_updated", columnList = "updated_at, review_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -53,5 +58,9 @@ public class Review {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
 
@@ -11,12 +11,20 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "services")
+@Table(name = "services", indexes = {
+        @Index(name = "idx_services_price", columnList = "price, service_id"),
+        @Index(name = "idx_services_category_price", columnList = "category_id, price, service_id"),
+        @Index(name = "idx_services_province_price", columnList = "province, price, service_id"),
+        @Index(name = "idx_services_updated", columnList = "updated_at, service_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "services")
 @Data
 @Builder
 @NoArgsConstructor
@@ -48,6 +56,10 @@ public class Service {
     @Column(name = "service_description")
     private String serviceDescription;
 
+    // Bounded copy of the description for list views, so they never read the LOB
+    @Column(name = "description_snippet", length = SNIPPET_LENGTH)
+    private String descriptionSnippet;
+
     @NotBlank
     @Column(name = "province", nullable = false, length = 100)
     private String province;
@@ -65,6 +77,11 @@ public class Service {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public static final int SNIPPET_LENGTH = 200;
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
@@ -73,6 +90,24 @@ public class Service {
         if (availabilityStatus == null) {
             availabilityStatus = AvailabilityStatus.AVAILABLE;
         }
+        if (updatedAt == null) {
+            updatedAt = Instant.now();
+        }
+        descriptionSnippet = snippetOf(serviceDescription);
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = Instant.now();
+        descriptionSnippet = snippetOf(serviceDescription);
+    }
+
+    // Truncated descriptions end with an ellipsis so clients know to fetch the full text
+    public static String snippetOf(String description) {
+        if (description == null || description.length() <= SNIPPET_LENGTH) {
+            return description;
+        }
+        return description.substring(0, SNIPPET_LENGTH - 1) + "\u2026";
     }
 
     // Helper method to validate enum values
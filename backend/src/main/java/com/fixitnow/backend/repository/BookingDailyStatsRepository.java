@@ -0,0 +1,103 @@
+package com.fixitnow.backend.repository;
+
+import com.fixitnow.backend.model.BookingDailyStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookingDailyStatsRepository extends JpaRepository<BookingDailyStats, BookingDailyStats.Key> {
+
+    // Shared date filter for the report queries; a null bound leaves that side open
+    String IN_RANGE = "(:from IS NULL OR stat_date >= :from) AND (:to IS NULL OR stat_date <= :to) ";
+
+    // Add a delta to one rollup row in one statement; creates the row on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats (stat_date, service_id, customer_id, status, provider_id, "
+            + "booking_count, total_amount, updated_at) "
+            + "VALUES (:day, :serviceId, :customerId, :status, :providerId, :count, :amount, :now) "
+            + "ON DUPLICATE KEY UPDATE booking_count = booking_count + VALUES(booking_count), "
+            + "total_amount = total_amount + VALUES(total_amount), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void applyDelta(@Param("day") LocalDate day,
+            @Param("serviceId") Long serviceId,
+            @Param("customerId") Long customerId,
+            @Param("status") String status,
+            @Param("providerId") Long providerId,
+            @Param("count") long count,
+            @Param("amount") BigDecimal amount,
+            @Param("now") Instant now);
+
+    // Recompute every rollup row from the bookings table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats (stat_date, service_id, customer_id, status, provider_id, "
+            + "booking_count, total_amount, updated_at) "
+            + "SELECT DATE(b.booking_date), b.service_id, b.customer_id, b.status, s.provider_id, "
+            + "COUNT(*), SUM(b.total_amount), :now "
+            + "FROM bookings b JOIN services s ON s.service_id = b.service_id "
+            + "GROUP BY DATE(b.booking_date), b.service_id, b.customer_id, b.status, s.provider_id",
+            nativeQuery = true)
+    int insertFromBookings(@Param("now") Instant now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "DELETE FROM booking_daily_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    // Totals per day and status, for rebuilding the coarser booking_period_stats buckets
+    @Query(value = "SELECT stat_date, status, SUM(booking_count) AS cnt, SUM(total_amount) AS amount "
+            + "FROM booking_daily_stats GROUP BY stat_date, status", nativeQuery = true)
+    List<Object[]> findTotalsByDayAndStatus();
+
+    @Query(value = "SELECT status, SUM(booking_count) AS cnt FROM booking_daily_stats "
+            + "WHERE " + IN_RANGE
+            + "GROUP BY status HAVING SUM(booking_count) > 0", nativeQuery = true)
+    List<Object[]> countByStatus(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Top 5 services by number of bookings; ranks ids first, then joins only the winners
+    @Query(value = "SELECT s.service_title AS serviceTitle, t.cnt FROM ("
+            + "SELECT service_id, SUM(booking_count) AS cnt FROM booking_daily_stats "
+            + "WHERE " + IN_RANGE
+            + "GROUP BY service_id HAVING SUM(booking_count) > 0 ORDER BY cnt DESC LIMIT 5) t "
+            + "JOIN services s ON s.service_id = t.service_id "
+            + "ORDER BY t.cnt DESC", nativeQuery = true)
+    List<Object[]> findTopServices(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Top 5 providers by completed bookings in range, with their all-time average rating.
+    // Each derived table holds at most one row per provider, so nothing fans out:
+    // the cost is one pass over the services' provider ids plus the rollup rows in range.
+    String TOP_PROVIDERS = "SELECT u.user_id AS providerId, u.full_name AS providerName, "
+            + "COALESCE(c.completed, 0) AS completedCount, "
+            + "COALESCE(r.rating_sum * 1.0 / NULLIF(r.review_count, 0), 0) AS avgRating "
+            + "FROM (SELECT DISTINCT provider_id FROM services) p "
+            + "JOIN users u ON u.user_id = p.provider_id "
+            + "LEFT JOIN (SELECT provider_id, SUM(booking_count) AS completed FROM booking_daily_stats "
+            + "WHERE status = 'COMPLETED' AND " + IN_RANGE
+            + "GROUP BY provider_id) c ON c.provider_id = p.provider_id "
+            + "LEFT JOIN provider_rating_stats r ON r.provider_id = p.provider_id "
+            + "ORDER BY completedCount DESC, u.user_id ASC LIMIT 5";
+
+    @Query(value = TOP_PROVIDERS, nativeQuery = true)
+    List<Object[]> findTopProviders(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Top 5 customers by number of bookings
+    @Query(value = "SELECT u.full_name AS customerName, t.cnt FROM ("
+            + "SELECT customer_id, SUM(booking_count) AS cnt FROM booking_daily_stats "
+            + "WHERE " + IN_RANGE
+            + "GROUP BY customer_id HAVING SUM(booking_count) > 0 ORDER BY cnt DESC LIMIT 5) t "
+            + "JOIN users u ON u.user_id = t.customer_id "
+            + "ORDER BY t.cnt DESC", nativeQuery = true)
+    List<Object[]> findTopCustomers(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
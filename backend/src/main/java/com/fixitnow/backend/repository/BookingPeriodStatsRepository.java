@@ -0,0 +1,53 @@
+package com.fixitnow.backend.repository;
+
+import com.fixitnow.backend.model.BookingPeriodStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingPeriodStatsRepository extends JpaRepository<BookingPeriodStats, BookingPeriodStats.Key> {
+
+    // Add a delta to one bucket in one statement; creates the row on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_period_stats"))
+    @Query(value = "INSERT INTO booking_period_stats (granularity, period_start, status, "
+            + "booking_count, total_amount, updated_at) "
+            + "VALUES (:granularity, :periodStart, :status, :count, :amount, :now) "
+            + "ON DUPLICATE KEY UPDATE booking_count = booking_count + VALUES(booking_count), "
+            + "total_amount = total_amount + VALUES(total_amount), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void applyDelta(@Param("granularity") String granularity,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("status") String status,
+            @Param("count") long count,
+            @Param("amount") BigDecimal amount,
+            @Param("now") Instant now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_period_stats"))
+    @Query(value = "DELETE FROM booking_period_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    // Totals per bucket over the given statuses; a null bound leaves that side open
+    @Query(value = "SELECT period_start, SUM(booking_count) AS cnt, SUM(total_amount) AS amount "
+            + "FROM booking_period_stats "
+            + "WHERE granularity = :granularity AND status IN (:statuses) "
+            + "AND (:from IS NULL OR period_start >= :from) AND (:to IS NULL OR period_start <= :to) "
+            + "GROUP BY period_start ORDER BY period_start ASC", nativeQuery = true)
+    List<Object[]> findSeries(@Param("granularity") String granularity,
+            @Param("statuses") Collection<String> statuses,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
@@ -4,11 +4,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingActivityRow;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingFactRow;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingReportRow;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingResponse;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingSummaryResponse;
 import com.fixitnow.backend.model.Booking;
 import com.fixitnow.backend.model.Service;
 import com.fixitnow.backend.model.User;
@@ -16,6 +22,18 @@ import com.fixitnow.backend.model.User;
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // List-view projections: read only the columns the DTOs need, so the service's @Lob description is never loaded
+    String SUMMARY_SELECT = "SELECT new com.fixitnow.backend.controller.dto.BookingDtos$BookingSummaryResponse("
+            + "b.bookingId, cu.userId, p.userId, s.serviceTitle, p.fullName, p.email, c.categoryName, "
+            + "b.bookingDate, b.totalAmount, b.status, b.createdAt) "
+            + "FROM Booking b JOIN b.customer cu JOIN b.service s JOIN s.provider p JOIN s.category c ";
+
+    String DETAIL_SELECT = "SELECT new com.fixitnow.backend.controller.dto.BookingDtos$BookingResponse("
+            + "b.bookingId, cu.userId, cu.fullName, cu.email, b.customerPhone, s.serviceId, s.serviceTitle, "
+            + "s.descriptionSnippet, p.userId, p.fullName, p.email, p.phone, c.categoryName, b.bookingDate, "
+            + "b.specialRequests, b.customerAddress, b.totalAmount, b.status, b.createdAt, b.updatedAt, b.version) "
+            + "FROM Booking b JOIN b.customer cu JOIN b.service s JOIN s.provider p JOIN s.category c ";
+
     // Find bookings by customer
     List<Booking> findByCustomerOrderByCreatedAtDesc(User customer);
 
@@ -88,41 +106,76 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.service = :service AND b.bookingDate = :bookingDate AND b.status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')")
     boolean existsConflictingBooking(@Param("service") Service service, @Param("bookingDate") LocalDateTime bookingDate);
 
-    // Admin Reports: Revenue by day for last 30 days (COMPLETED only)
-    @Query(value = "SELECT DATE(booking_date) AS day, SUM(total_amount) AS revenue " +
-            "FROM bookings " +
-            "WHERE status = 'COMPLETED' AND booking_date >= DATE_SUB(CURDATE(), INTERVAL 30 DAY) " +
-            "GROUP BY DATE(booking_date) " +
-            "ORDER BY day ASC", nativeQuery = true)
-    List<Object[]> findRevenueByDayLast30Days();
-
-    // Admin Reports: Booking status distribution
-    @Query(value = "SELECT status, COUNT(*) AS cnt FROM bookings GROUP BY status", nativeQuery = true)
-    List<Object[]> countBookingsByStatus();
-
-    // Admin Reports: Top 5 services by number of bookings
-    @Query(value = "SELECT s.service_title AS serviceTitle, COUNT(b.booking_id) AS cnt " +
-            "FROM bookings b JOIN services s ON b.service_id = s.service_id " +
-            "GROUP BY s.service_id, s.service_title " +
-            "ORDER BY cnt DESC LIMIT 5", nativeQuery = true)
-    List<Object[]> findTopServicesByBookings();
-
-    // Admin Reports: Top 5 providers by completed bookings and avg rating
-    @Query(value = "SELECT u.user_id AS providerId, u.full_name AS providerName, " +
-            "COUNT(CASE WHEN b.status = 'COMPLETED' THEN 1 END) AS completedCount, " +
-            "COALESCE(AVG(r.rating), 0) AS avgRating " +
-            "FROM users u " +
-            "JOIN services s ON s.provider_id = u.user_id " +
-            "LEFT JOIN bookings b ON b.service_id = s.service_id " +
-            "LEFT JOIN reviews r ON r.provider_id = u.user_id " +
-            "GROUP BY u.user_id, u.full_name " +
-            "ORDER BY completedCount DESC LIMIT 5", nativeQuery = true)
-    List<Object[]> findTopProviders();
-
-    // Admin Reports: Top 5 customers by total bookings
-    @Query(value = "SELECT u.full_name AS customerName, COUNT(b.booking_id) AS cnt " +
-            "FROM bookings b JOIN users u ON b.customer_id = u.user_id " +
-            "GROUP BY u.user_id, u.full_name " +
-            "ORDER BY cnt DESC LIMIT 5", nativeQuery = true)
-    List<Object[]> findTopCustomersByBookings();
+
+    @Query(SUMMARY_SELECT + "WHERE cu.userId = :customerId ORDER BY b.createdAt DESC")
+    List<BookingSummaryResponse> findSummariesByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :providerId ORDER BY b.createdAt DESC")
+    List<BookingSummaryResponse> findSummariesByProviderId(@Param("providerId") Long providerId);
+
+    @Query(SUMMARY_SELECT + "WHERE cu.userId = :customerId AND b.status = :status ORDER BY b.createdAt DESC")
+    List<BookingSummaryResponse> findSummariesByCustomerIdAndStatus(
+            @Param("customerId") Long customerId,
+            @Param("status") Booking.BookingStatus status
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :providerId AND b.status = :status ORDER BY b.createdAt DESC")
+    List<BookingSummaryResponse> findSummariesByProviderIdAndStatus(
+            @Param("providerId") Long providerId,
+            @Param("status") Booking.BookingStatus status
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE cu.userId = :customerId AND b.bookingDate > :now "
+            + "AND b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.bookingDate ASC")
+    List<BookingSummaryResponse> findUpcomingSummariesForCustomer(
+            @Param("customerId") Long customerId,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :providerId AND b.bookingDate > :now "
+            + "AND b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.bookingDate ASC")
+    List<BookingSummaryResponse> findUpcomingSummariesForProvider(
+            @Param("providerId") Long providerId,
+            @Param("now") LocalDateTime now
+    );
+
+    // Admin listing: full booking responses in one query instead of lazy loads per row
+    @Query(DETAIL_SELECT + "ORDER BY b.bookingId")
+    List<BookingResponse> findAllResponses();
+
+    // Bookings in [from, to) ordered by (bookingDate, bookingId); pass the last row's pair to get the next page
+    @Query("SELECT new com.fixitnow.backend.controller.dto.BookingDtos$BookingReportRow("
+            + "b.bookingId, b.bookingDate, b.status, b.totalAmount, s.serviceTitle, cu.fullName, p.fullName) "
+            + "FROM Booking b JOIN b.customer cu JOIN b.service s JOIN s.provider p "
+            + "WHERE b.bookingDate >= :from AND b.bookingDate < :to "
+            + "AND (b.bookingDate > :afterDate OR (b.bookingDate = :afterDate AND b.bookingId > :afterId)) "
+            + "ORDER BY b.bookingDate ASC, b.bookingId ASC")
+    List<BookingReportRow> findReportPage(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    String FACT_SELECT = "SELECT new com.fixitnow.backend.controller.dto.BookingDtos$BookingFactRow("
+            + "b.bookingId, s.serviceId, c.categoryId, s.province, b.status, b.bookingDate, b.totalAmount) "
+            + "FROM Booking b JOIN b.service s JOIN s.category c ";
+
+    // Facts in id order; pass the last id to get the next page
+    @Query(FACT_SELECT + "WHERE b.bookingId > :afterId ORDER BY b.bookingId ASC")
+    List<BookingFactRow> findFactPage(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(FACT_SELECT + "WHERE b.bookingId = :bookingId")
+    Optional<BookingFactRow> findFactById(@Param("bookingId") Long bookingId);
+
+    @Query(FACT_SELECT + "WHERE s.serviceId = :serviceId")
+    List<BookingFactRow> findFactsByServiceId(@Param("serviceId") Long serviceId);
+
+    // Activity in id order for seeding the leaderboards; pass the last id to get the next page
+    @Query("SELECT new com.fixitnow.backend.controller.dto.BookingDtos$BookingActivityRow("
+            + "b.bookingId, s.serviceId, b.customer.userId, s.provider.userId, b.status, b.createdAt, b.updatedAt) "
+            + "FROM Booking b JOIN b.service s "
+            + "WHERE b.bookingId > :afterId ORDER BY b.bookingId ASC")
+    List<BookingActivityRow> findActivityPage(@Param("afterId") Long afterId, Limit limit);
 }
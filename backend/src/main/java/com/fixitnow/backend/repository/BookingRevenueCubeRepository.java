@@ -0,0 +1,60 @@
+package com.fixitnow.backend.repository;
+
+import com.fixitnow.backend.model.BookingRevenueCube;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookingRevenueCubeRepository extends JpaRepository<BookingRevenueCube, BookingRevenueCube.Key> {
+
+    // Add a delta to one cell in one statement; creates the cell on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_revenue_cube"))
+    @Query(value = "INSERT INTO booking_revenue_cube (stat_date, category_id, province, status, "
+            + "booking_count, total_amount, updated_at) "
+            + "VALUES (:day, :categoryId, :province, :status, :count, :amount, :now) "
+            + "ON DUPLICATE KEY UPDATE booking_count = booking_count + VALUES(booking_count), "
+            + "total_amount = total_amount + VALUES(total_amount), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void applyDelta(@Param("day") LocalDate day,
+            @Param("categoryId") Long categoryId,
+            @Param("province") String province,
+            @Param("status") String status,
+            @Param("count") long count,
+            @Param("amount") BigDecimal amount,
+            @Param("now") Instant now);
+
+    // Recompute every cell from the bookings table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_revenue_cube"))
+    @Query(value = "INSERT INTO booking_revenue_cube (stat_date, category_id, province, status, "
+            + "booking_count, total_amount, updated_at) "
+            + "SELECT DATE(b.booking_date), s.category_id, s.province, b.status, "
+            + "COUNT(*), SUM(b.total_amount), :now "
+            + "FROM bookings b JOIN services s ON s.service_id = b.service_id "
+            + "GROUP BY DATE(b.booking_date), s.category_id, s.province, b.status",
+            nativeQuery = true)
+    int insertFromBookings(@Param("now") Instant now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_revenue_cube"))
+    @Query(value = "DELETE FROM booking_revenue_cube", nativeQuery = true)
+    int deleteAllRows();
+
+    // One service's bookings per day and status, for moving them between cells when the service changes category
+    @Query(value = "SELECT DATE(b.booking_date), b.status, COUNT(*), SUM(b.total_amount) "
+            + "FROM bookings b WHERE b.service_id = :serviceId "
+            + "GROUP BY DATE(b.booking_date), b.status", nativeQuery = true)
+    List<Object[]> findServiceTotalsByDayAndStatus(@Param("serviceId") Long serviceId);
+}
@@ -0,0 +1,56 @@
+package com.fixitnow.backend.repository;
+
+import com.fixitnow.backend.model.ProviderRatingStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface ProviderRatingStatsRepository extends JpaRepository<ProviderRatingStats, Long> {
+
+    // Add a delta to a provider's totals in one statement; creates the row on first use,
+    // so concurrent reviews for the same provider never lose an update
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "provider_rating_stats"))
+    @Query(value = "INSERT INTO provider_rating_stats (provider_id, review_count, rating_sum, "
+            + "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) "
+            + "VALUES (:providerId, :count, :sum, :r1, :r2, :r3, :r4, :r5, :now) "
+            + "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), "
+            + "rating_sum = rating_sum + VALUES(rating_sum), "
+            + "rating_1 = rating_1 + VALUES(rating_1), rating_2 = rating_2 + VALUES(rating_2), "
+            + "rating_3 = rating_3 + VALUES(rating_3), rating_4 = rating_4 + VALUES(rating_4), "
+            + "rating_5 = rating_5 + VALUES(rating_5), updated_at = VALUES(updated_at)", nativeQuery = true)
+    void applyDelta(@Param("providerId") Long providerId,
+            @Param("count") long count,
+            @Param("sum") long sum,
+            @Param("r1") long r1,
+            @Param("r2") long r2,
+            @Param("r3") long r3,
+            @Param("r4") long r4,
+            @Param("r5") long r5,
+            @Param("now") Instant now);
+
+    // Recompute every provider's totals from the reviews table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "provider_rating_stats"))
+    @Query(value = "INSERT INTO provider_rating_stats (provider_id, review_count, rating_sum, "
+            + "rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) "
+            + "SELECT provider_id, COUNT(*), SUM(rating), "
+            + "SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), :now "
+            + "FROM reviews GROUP BY provider_id", nativeQuery = true)
+    int insertFromReviews(@Param("now") Instant now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "provider_rating_stats"))
+    @Query(value = "DELETE FROM provider_rating_stats", nativeQuery = true)
+    int deleteAllRows();
+}
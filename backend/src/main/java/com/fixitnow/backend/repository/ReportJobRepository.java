@@ -0,0 +1,26 @@
+package com.fixitnow.backend.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fixitnow.backend.model.ReportJob;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, String> {
+
+    // An identical job that is still queued or running, if any
+    Optional<ReportJob> findFirstByFormatAndFromDateAndToDateAndStatusIn(
+            ReportJob.Format format, LocalDate fromDate, LocalDate toDate, Collection<ReportJob.Status> statuses);
+
+    List<ReportJob> findByStatusIn(Collection<ReportJob.Status> statuses);
+
+    List<ReportJob> findByExpiresAtBefore(Instant now);
+
+    List<ReportJob> findTop50ByOrderByCreatedAtDesc();
+}
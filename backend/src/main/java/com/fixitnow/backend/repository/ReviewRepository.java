@@ -1,15 +1,35 @@
 package com.fixitnow.backend.repository;
 
+import com.fixitnow.backend.controller.dto.ReviewDtos.ReviewResponse;
 import com.fixitnow.backend.model.Review;
-import com.fixitnow.backend.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByProviderUserIdOrderByCreatedAtDesc(Long providerId);
-    List<Review> findByCustomerUserIdOrderByCreatedAtDesc(Long customerId);
-}
+    // Review DTOs in one query; pages are keyed on reviewId (newest first)
+    String RESPONSE_SELECT = "SELECT new com.fixitnow.backend.controller.dto.ReviewDtos$ReviewResponse("
+            + "r.reviewId, b.bookingId, cu.userId, cu.fullName, p.userId, p.fullName, s.serviceTitle, "
+            + "r.rating, r.comment, r.createdAt) "
+            + "FROM Review r JOIN r.booking b JOIN b.service s JOIN r.customer cu JOIN r.provider p ";
+
+    @Query(RESPONSE_SELECT + "WHERE p.userId = :providerId AND r.reviewId < :beforeId ORDER BY r.reviewId DESC")
+    List<ReviewResponse> findPageByProvider(@Param("providerId") Long providerId,
+            @Param("beforeId") Long beforeId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE cu.userId = :customerId AND r.reviewId < :beforeId ORDER BY r.reviewId DESC")
+    List<ReviewResponse> findPageByCustomer(@Param("customerId") Long customerId,
+            @Param("beforeId") Long beforeId, Limit limit);
 
+    @Query(RESPONSE_SELECT + "WHERE r.reviewId < :beforeId ORDER BY r.reviewId DESC")
+    List<ReviewResponse> findPage(@Param("beforeId") Long beforeId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE r.reviewId = :reviewId")
+    Optional<ReviewResponse> findResponseById(@Param("reviewId") Long reviewId);
+}
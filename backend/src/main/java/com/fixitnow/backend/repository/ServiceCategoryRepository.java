@@ -1,9 +1,20 @@
 package com.fixitnow.backend.repository;
 
 import com.fixitnow.backend.model.ServiceCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface ServiceCategoryRepository extends JpaRepository<ServiceCategory, Long> {
+
+    // Read on every category listing and import; cached until the next category write
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ServiceCategory> findAll();
+
     boolean existsByCategoryName(String categoryName);
 }
 
@@ -1,16 +1,32 @@
 package com.fixitnow.backend.repository;
 
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
 import com.fixitnow.backend.model.Service;
 import com.fixitnow.backend.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ServiceRepository extends JpaRepository<Service, Long> {
+public interface ServiceRepository extends JpaRepository<Service, Long>, JpaSpecificationExecutor<Service> {
+
+    // List-view projection: selects the description snippet, never the @Lob description
+    String SUMMARY_SELECT = "SELECT new com.fixitnow.backend.controller.dto.ServiceDtos$ServiceSummaryResponse("
+            + "s.serviceId, s.serviceTitle, s.descriptionSnippet, c.categoryId, c.categoryName, s.price, "
+            + "s.availabilityStatus, p.userId, p.fullName, s.createdAt, s.province) "
+            + "FROM Service s JOIN s.category c JOIN s.provider p ";
 
     // Find all services by a specific provider
     List<Service> findByProvider(User provider);
@@ -57,4 +73,51 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
 
     // Check if service exists by ID and provider
     boolean existsByServiceIdAndProvider(Long serviceId, User provider);
+
+    // Same, locking the row for the rest of the transaction: a category change holds it while it moves the
+    // service's bookings between revenue cube cells
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Service s WHERE s.serviceId = :serviceId AND s.provider = :provider")
+    Optional<Service> findByServiceIdAndProviderForUpdate(@Param("serviceId") Long serviceId,
+            @Param("provider") User provider);
+
+    // Category and province (the revenue cube cell) of a service, read under a shared lock so a booking
+    // write and a concurrent category move are serialised
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s.category.categoryId, s.province FROM Service s WHERE s.serviceId = :serviceId")
+    List<Object[]> findCubeCellForShare(@Param("serviceId") Long serviceId);
+
+    @Query(SUMMARY_SELECT + "ORDER BY s.serviceId")
+    List<ServiceSummaryResponse> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE s.serviceId = :serviceId")
+    Optional<ServiceSummaryResponse> findSummaryById(@Param("serviceId") Long serviceId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :providerId ORDER BY s.serviceId")
+    List<ServiceSummaryResponse> findSummariesByProviderId(@Param("providerId") Long providerId);
+
+    @Query(SUMMARY_SELECT + "WHERE c.categoryId = :categoryId ORDER BY s.serviceId")
+    List<ServiceSummaryResponse> findSummariesByCategoryId(@Param("categoryId") Long categoryId);
+
+    // Still matches against the full description, but only the snippet leaves the database
+    @Query(SUMMARY_SELECT + "WHERE s.serviceTitle LIKE CONCAT('%', :term, '%') "
+            + "OR s.serviceDescription LIKE CONCAT('%', :term, '%') ORDER BY s.serviceId")
+    List<ServiceSummaryResponse> searchSummaries(@Param("term") String term);
+
+    // Services ordered by their provider's average rating, from the maintained rating aggregates
+    @Query(SUMMARY_SELECT + "JOIN ProviderRatingStats r ON r.providerId = p.userId "
+            + "WHERE r.reviewCount >= :minReviews AND (:categoryId IS NULL OR c.categoryId = :categoryId) "
+            + "ORDER BY (r.ratingSum * 1.0 / r.reviewCount) DESC, r.reviewCount DESC, s.serviceId DESC")
+    List<ServiceSummaryResponse> findTopRatedSummaries(@Param("categoryId") Long categoryId,
+            @Param("minReviews") long minReviews, Pageable pageable);
+
+    // Fill snippets for rows written before the column existed (native: JPQL string functions reject @Lob arguments)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "services"))
+    @Query(value = "UPDATE services SET description_snippet = CASE "
+            + "WHEN CHAR_LENGTH(service_description) > " + Service.SNIPPET_LENGTH
+            + " THEN CONCAT(SUBSTRING(service_description, 1, " + (Service.SNIPPET_LENGTH - 1) + "), '\u2026') "
+            + "ELSE service_description END "
+            + "WHERE description_snippet IS NULL AND service_description IS NOT NULL", nativeQuery = true)
+    int backfillDescriptionSnippets();
 }
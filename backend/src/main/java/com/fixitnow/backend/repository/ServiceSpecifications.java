@@ -0,0 +1,79 @@
+package com.fixitnow.backend.repository;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fixitnow.backend.model.Service;
+
+/**
+ * Reusable filter predicates for browsing services. Every factory returns
+ * {@code null} when its argument is absent so callers can combine them freely
+ * with {@link Specification#allOf}.
+ */
+public final class ServiceSpecifications {
+
+    private ServiceSpecifications() {
+    }
+
+    public static Specification<Service> hasCategory(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category").get("categoryId"), categoryId);
+    }
+
+    public static Specification<Service> inProvince(String province) {
+        if (province == null || province.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("province"), province);
+    }
+
+    public static Specification<Service> priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minPrice == null) {
+                return cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+            }
+            if (maxPrice == null) {
+                return cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+            }
+            return cb.between(root.get("price"), minPrice, maxPrice);
+        };
+    }
+
+    public static Specification<Service> hasAvailability(Service.AvailabilityStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("availabilityStatus"), status);
+    }
+
+    public static Specification<Service> hasProvider(Long providerId) {
+        if (providerId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("provider").get("userId"), providerId);
+    }
+
+    // Keyset predicates: rows strictly after the last row of the previous page
+
+    public static Specification<Service> idBefore(Long serviceId) {
+        return (root, query, cb) -> cb.lessThan(root.get("serviceId"), serviceId);
+    }
+
+    public static Specification<Service> priceAfter(BigDecimal price, Long serviceId) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("price"), price),
+                cb.and(cb.equal(root.get("price"), price), cb.greaterThan(root.get("serviceId"), serviceId)));
+    }
+
+    public static Specification<Service> priceBefore(BigDecimal price, Long serviceId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("price"), price),
+                cb.and(cb.equal(root.get("price"), price), cb.lessThan(root.get("serviceId"), serviceId)));
+    }
+}
@@ -15,11 +15,14 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${security.jwt.secret}")
-    private String secret;
+    private final String secret;
+    private final long jwtExpirationMs;
 
-    @Value("${security.jwt.expiration-ms:86400000}")
-    private long jwtExpirationMs;
+    public JwtUtil(@Value("${security.jwt.secret}") String secret,
+            @Value("${security.jwt.expiration-ms:86400000}") long jwtExpirationMs) {
+        this.secret = secret;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
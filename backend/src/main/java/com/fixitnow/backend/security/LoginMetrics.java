@@ -0,0 +1,42 @@
+package com.fixitnow.backend.security;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts password logins by outcome. Only POST /api/auth/login goes through
+ * the AuthenticationManager, so requests authenticated by their JWT are not
+ * counted.
+ */
+@Component
+public class LoginMetrics {
+
+    private final Counter successes;
+    private final Counter failures;
+
+    public LoginMetrics(MeterRegistry registry) {
+        this.successes = Counter.builder("auth.logins")
+                .description("Password logins")
+                .tag("outcome", "success")
+                .register(registry);
+        this.failures = Counter.builder("auth.logins")
+                .description("Password logins")
+                .tag("outcome", "failure")
+                .register(registry);
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successes.increment();
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        failures.increment();
+    }
+}
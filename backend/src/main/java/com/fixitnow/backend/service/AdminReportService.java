@@ -1,75 +1,302 @@
 package com.fixitnow.backend.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingReportRow;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactQueryResult;
+import com.fixitnow.backend.controller.dto.ReportDtos.Leaderboards;
+import com.fixitnow.backend.controller.dto.ReportDtos.PeriodTotal;
+import com.fixitnow.backend.controller.dto.ReportDtos.ProviderReach;
+import com.fixitnow.backend.controller.dto.ReportDtos.ReportCacheStats;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.repository.BookingDailyStatsRepository;
+import com.fixitnow.backend.repository.BookingPeriodStatsRepository;
 import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.service.BookingFactStore.FactQuery;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * Admin dashboard and PDF figures, aggregated from the booking_daily_stats
+ * rollup, the booking_period_stats buckets (time series) and
+ * provider_rating_stats (ratings), so the cost follows the requested date
+ * range rather than the size of the bookings table. A null bound leaves that
+ * side of the range open.
+ *
+ * Results go through {@link ReportCache}: each report has its own TTL, after
+ * which the old figures keep being served while a background load replaces
+ * them. Loads run in a read-only transaction (the replica when configured).
+ * Ad hoc breakdowns over individual bookings are answered by the in-memory
+ * {@link BookingFactStore} without a database round trip, and rolling
+ * leaderboards by the streaming sketches in {@link BookingLeaderboards}.
+ */
 @Service
-@RequiredArgsConstructor
 public class AdminReportService {
 
+    public static final int DEFAULT_REVENUE_DAYS = 30;
+
+    public static final int DETAIL_PAGE_SIZE = 500;
+
+    // Upper bound on the buckets of one time series, e.g. about ten years of days
+    public static final int MAX_SERIES_BUCKETS = 3700;
+
+    public static final Duration REVENUE_TTL = Duration.ofMinutes(1);
+    public static final Duration STATUS_TTL = Duration.ofSeconds(30);
+    public static final Duration TOP_LIST_TTL = Duration.ofMinutes(2);
+
+    private final BookingDailyStatsRepository statsRepository;
+    private final BookingPeriodStatsRepository periodStatsRepository;
     private final BookingRepository bookingRepository;
+    private final ReportCache reportCache;
+    private final BookingFactStore bookingFactStore;
+    private final BookingLeaderboards bookingLeaderboards;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public AdminReportService(BookingDailyStatsRepository statsRepository,
+            BookingPeriodStatsRepository periodStatsRepository, BookingRepository bookingRepository,
+            ReportCache reportCache, BookingFactStore bookingFactStore, BookingLeaderboards bookingLeaderboards,
+            PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.periodStatsRepository = periodStatsRepository;
+        this.bookingRepository = bookingRepository;
+        this.reportCache = reportCache;
+        this.bookingFactStore = bookingFactStore;
+        this.bookingLeaderboards = bookingLeaderboards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     public List<Map<String, Object>> getRevenueLast30Days() {
-        List<Object[]> raw = bookingRepository.findRevenueByDayLast30Days();
-        return raw.stream().map(row -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("date", row[0] != null ? row[0].toString() : null);
-            m.put("revenue", row[1] != null ? new BigDecimal(row[1].toString()) : BigDecimal.ZERO);
-            return m;
-        }).collect(Collectors.toList());
+        return getRevenue(LocalDate.now().minusDays(DEFAULT_REVENUE_DAYS), null);
+    }
+
+    public List<Map<String, Object>> getRevenue(LocalDate from, LocalDate to) {
+        return cached("revenue", REVENUE_TTL, from, to, () -> {
+            List<Object[]> raw = periodStatsRepository.findSeries(Granularity.DAY.name(),
+                    List.of(Booking.BookingStatus.COMPLETED.name()), from, to);
+            return raw.stream().map(AdminReportService::revenueRow).collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Booking count and amount per day, week or month, over the given
+     * statuses (all when empty). Buckets are whole periods: a range starting
+     * mid-month includes that entire month. When both bounds are set, buckets
+     * without bookings are returned with zero totals.
+     */
+    public List<PeriodTotal> getSeries(Granularity granularity, LocalDate from, LocalDate to,
+            Collection<Booking.BookingStatus> statuses) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        LocalDate start = from != null ? granularity.start(from) : null;
+        LocalDate end = to != null ? granularity.start(to) : null;
+        if (start != null && end != null && bucketCount(granularity, start, end) > MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("Range too large for " + granularity.name().toLowerCase()
+                    + " buckets; use a coarser granularity");
+        }
+        Set<Booking.BookingStatus> selected = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(Booking.BookingStatus.class) : EnumSet.copyOf(statuses);
+
+        String key = "series:" + granularity + ":" + selected + ":" + start + ":" + end;
+        return reportCache.get("series", key, REVENUE_TTL, () -> readOnlyTransaction.execute(status -> {
+            List<Object[]> raw = periodStatsRepository.findSeries(granularity.name(),
+                    selected.stream().map(Enum::name).toList(), start, end);
+            Map<LocalDate, PeriodTotal> byStart = new HashMap<>();
+            for (Object[] row : raw) {
+                LocalDate periodStart = LocalDate.parse(row[0].toString());
+                byStart.put(periodStart, new PeriodTotal(periodStart,
+                        granularity.next(periodStart).minusDays(1),
+                        row[1] != null ? Long.parseLong(row[1].toString()) : 0L,
+                        row[2] != null ? new BigDecimal(row[2].toString()) : BigDecimal.ZERO));
+            }
+            if (start == null || end == null) {
+                return raw.stream().map(row -> byStart.get(LocalDate.parse(row[0].toString()))).toList();
+            }
+            List<PeriodTotal> series = new ArrayList<>();
+            for (LocalDate p = start; !p.isAfter(end); p = granularity.next(p)) {
+                PeriodTotal total = byStart.get(p);
+                series.add(total != null ? total
+                        : new PeriodTotal(p, granularity.next(p).minusDays(1), 0L, BigDecimal.ZERO.setScale(2)));
+            }
+            return series;
+        }));
     }
 
     public List<Map<String, Object>> getStatusDistribution() {
-        List<Object[]> raw = bookingRepository.countBookingsByStatus();
-        return raw.stream().map(row -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("status", row[0] != null ? row[0].toString() : null);
-            m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
-            return m;
-        }).collect(Collectors.toList());
+        return getStatusDistribution(null, null);
+    }
+
+    public List<Map<String, Object>> getStatusDistribution(LocalDate from, LocalDate to) {
+        return cached("status", STATUS_TTL, from, to, () -> {
+            List<Object[]> raw = statsRepository.countByStatus(from, to);
+            return raw.stream().map(AdminReportService::statusRow).collect(Collectors.toList());
+        });
     }
 
     public List<Map<String, Object>> getTopServices() {
-        List<Object[]> raw = bookingRepository.findTopServicesByBookings();
-        return raw.stream().map(row -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("serviceName", row[0] != null ? row[0].toString() : null);
-            m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
-            return m;
-        }).collect(Collectors.toList());
+        return getTopServices(null, null);
+    }
+
+    public List<Map<String, Object>> getTopServices(LocalDate from, LocalDate to) {
+        return cached("topServices", TOP_LIST_TTL, from, to, () -> {
+            List<Object[]> raw = statsRepository.findTopServices(from, to);
+            return raw.stream().map(AdminReportService::topServiceRow).collect(Collectors.toList());
+        });
     }
 
     public List<Map<String, Object>> getTopProviders() {
-        List<Object[]> raw = bookingRepository.findTopProviders();
-        return raw.stream().map(row -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("providerId", row[0] != null ? Long.parseLong(row[0].toString()) : null);
-            m.put("providerName", row[1] != null ? row[1].toString() : null);
-            m.put("completedCount", row[2] != null ? Long.parseLong(row[2].toString()) : 0L);
-            m.put("avgRating", row[3] != null ? Double.parseDouble(row[3].toString()) : 0.0);
-            return m;
-        }).collect(Collectors.toList());
+        return getTopProviders(null, null);
+    }
+
+    public List<Map<String, Object>> getTopProviders(LocalDate from, LocalDate to) {
+        return cached("topProviders", TOP_LIST_TTL, from, to, () -> {
+            List<Object[]> raw = statsRepository.findTopProviders(from, to);
+            return raw.stream().map(AdminReportService::topProviderRow).collect(Collectors.toList());
+        });
     }
 
     public List<Map<String, Object>> getTopCustomers() {
-        List<Object[]> raw = bookingRepository.findTopCustomersByBookings();
-        return raw.stream().map(row -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("customerName", row[0] != null ? row[0].toString() : null);
-            m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
-            return m;
-        }).collect(Collectors.toList());
+        return getTopCustomers(null, null);
+    }
+
+    public List<Map<String, Object>> getTopCustomers(LocalDate from, LocalDate to) {
+        return cached("topCustomers", TOP_LIST_TTL, from, to, () -> {
+            List<Object[]> raw = statsRepository.findTopCustomers(from, to);
+            return raw.stream().map(AdminReportService::topCustomerRow).collect(Collectors.toList());
+        });
     }
-}
 
+    /**
+     * Ad hoc count and amount breakdown scanned from the in-memory booking
+     * facts. Not cached: every call sees bookings changed since the last one.
+     */
+    public FactQueryResult analyzeBookings(FactQuery query) {
+        return bookingFactStore.query(query);
+    }
+
+    /**
+     * Approximate top services, providers and customers for a rolling window,
+     * from in-memory sketches; every count carries its error bound.
+     */
+    public Leaderboards getLeaderboards(BookingLeaderboards.Window window, int limit) {
+        return bookingLeaderboards.get(window, limit);
+    }
 
+    public ProviderReach getProviderReach(Long providerId, BookingLeaderboards.Window window) {
+        return bookingLeaderboards.getProviderReach(providerId, window);
+    }
+
+    public List<ReportCacheStats> getCacheStats() {
+        return reportCache.getStats();
+    }
+
+    // Drop cached figures, e.g. after the rollup was rebuilt
+    public void invalidateCache() {
+        reportCache.invalidateAll();
+    }
+
+    /**
+     * Feed every booking scheduled in [from, to] to {@code consumer}, in date
+     * order, one keyset page at a time so memory stays bounded by the page
+     * size. Each page is read in its own short read-only transaction and
+     * handed to the consumer after it commits, so a slow consumer (a client
+     * downloading the PDF) does not hold a pooled connection. The keyset
+     * order keeps pages from overlapping or skipping rows; a booking written
+     * between two pages shows up only if it sorts after the current one.
+     */
+    public void forEachBooking(LocalDate from, LocalDate to, Consumer<BookingReportRow> consumer) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        LocalDateTime afterDate = start.minusSeconds(1);
+        long afterId = 0;
+        while (true) {
+            LocalDateTime pageAfterDate = afterDate;
+            long pageAfterId = afterId;
+            List<BookingReportRow> page = readOnlyTransaction.execute(status -> bookingRepository.findReportPage(
+                    start, end, pageAfterDate, pageAfterId, Limit.of(DETAIL_PAGE_SIZE)));
+            page.forEach(consumer);
+            if (page.size() < DETAIL_PAGE_SIZE) {
+                return;
+            }
+            BookingReportRow last = page.get(page.size() - 1);
+            afterDate = last.bookingDate();
+            afterId = last.bookingId();
+        }
+    }
+
+    // ---------- row mapping (native query rows to dashboard JSON) ----------
+
+    // date, revenue
+    static Map<String, Object> revenueRow(Object[] row) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("date", row[0] != null ? row[0].toString() : null);
+        m.put("revenue", row[1] != null ? new BigDecimal(row[1].toString()) : BigDecimal.ZERO);
+        return m;
+    }
+
+    // status, count
+    static Map<String, Object> statusRow(Object[] row) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("status", row[0] != null ? row[0].toString() : null);
+        m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
+        return m;
+    }
+
+    // serviceName, count
+    static Map<String, Object> topServiceRow(Object[] row) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("serviceName", row[0] != null ? row[0].toString() : null);
+        m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
+        return m;
+    }
+
+    // providerId, providerName, completedCount, avgRating
+    static Map<String, Object> topProviderRow(Object[] row) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("providerId", row[0] != null ? Long.parseLong(row[0].toString()) : null);
+        m.put("providerName", row[1] != null ? row[1].toString() : null);
+        m.put("completedCount", row[2] != null ? Long.parseLong(row[2].toString()) : 0L);
+        m.put("avgRating", row[3] != null ? Double.parseDouble(row[3].toString()) : 0.0);
+        return m;
+    }
+
+    // customerName, count
+    static Map<String, Object> topCustomerRow(Object[] row) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("customerName", row[0] != null ? row[0].toString() : null);
+        m.put("count", row[1] != null ? Long.parseLong(row[1].toString()) : 0L);
+        return m;
+    }
+
+    private static long bucketCount(Granularity granularity, LocalDate start, LocalDate end) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS.between(start, end) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(start, end) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(start, end) + 1;
+        };
+    }
+
+    private <T> T cached(String report, Duration ttl, LocalDate from, LocalDate to, Supplier<T> loader) {
+        return reportCache.get(report, report + ":" + from + ":" + to, ttl,
+                () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+}
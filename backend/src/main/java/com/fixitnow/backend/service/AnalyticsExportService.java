@@ -0,0 +1,387 @@
+package com.fixitnow.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.message.IpcOption;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Nightly export of bookings, services, users and reviews to local disk for
+ * offline BI, so analysts stop querying the production database.
+ *
+ * Each run exports the rows whose {@code updated_at} falls between the
+ * previous run's watermark and now (less {@code app.export.commit-lag}, so
+ * transactions still in flight are picked up next time). Files are Arrow IPC
+ * files (Feather v2) with LZ4-compressed record batches, one per table, under
+ * a directory per day; the column types are in each file's Arrow schema. The
+ * day's {@code manifest.json} lists every run with the columns, row counts,
+ * checksums and watermark range of each file. Consumers upsert by the table's
+ * key: a row changed twice appears in both runs. Deleted rows are not
+ * exported. Credentials and contact details are left out.
+ *
+ * Rows are read in keyset pages of (updated_at, id), each page in its own
+ * short read-only transaction (the replica when configured), and written
+ * straight to the file as one record batch, so memory stays bounded by the
+ * page size and no database lock outlives a page. Watermarks are read back
+ * from the latest manifest; an empty directory starts over with a full
+ * export.
+ */
+@Service
+public class AnalyticsExportService {
+
+    public static final String FORMAT = "arrow-ipc+lz4";
+
+    private static final String MANIFEST = "manifest.json";
+    private static final DateTimeFormatter RUN_STAMP = DateTimeFormatter.ofPattern("HHmmssSSS")
+            .withZone(ZoneOffset.UTC);
+
+    private static final ArrowType BIGINT = new ArrowType.Int(64, true);
+    private static final ArrowType INTEGER = new ArrowType.Int(32, true);
+    private static final ArrowType TEXT = ArrowType.Utf8.INSTANCE;
+    private static final ArrowType MONEY = new ArrowType.Decimal(10, 2, 128);
+    // Wall-clock time without a zone (booking_date), and instants in UTC
+    private static final ArrowType LOCAL_TIMESTAMP = new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+    private static final ArrowType TIMESTAMP = new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC");
+
+    // A column as listed in the manifest; type is the Arrow type as Arrow prints it, e.g. Int(64, true)
+    public record Column(String name, String type) {}
+
+    /**
+     * One exported table; {@code select} lists the JPQL paths of the
+     * schema's fields in order, with the entity alias {@code e}. The first
+     * field is the key and the last one updated_at.
+     */
+    public record Table(String name, String entity, String idPath, String select, Schema schema) {
+
+        List<Column> columns() {
+            return schema.getFields().stream().map(f -> new Column(f.getName(), f.getType().toString())).toList();
+        }
+    }
+
+    public record TableExport(
+            String table,
+            String file,
+            String key,
+            long rows,
+            long bytes,
+            String sha256,
+            Instant fromUpdatedAt,
+            Instant toUpdatedAt,
+            List<Column> columns
+    ) {}
+
+    public record Run(String runId, Instant startedAt, Instant completedAt, List<TableExport> tables) {}
+
+    public record Manifest(LocalDate date, String format, List<Run> runs) {}
+
+    static final List<Table> TABLES = List.of(
+            new Table("bookings", "Booking", "e.bookingId",
+                    "e.bookingId, e.customer.userId, e.service.serviceId, e.bookingDate, e.status, e.totalAmount, "
+                            + "e.createdAt, e.updatedAt",
+                    schema(key("booking_id"), column("customer_id", BIGINT), column("service_id", BIGINT),
+                            column("booking_date", LOCAL_TIMESTAMP), column("status", TEXT),
+                            column("total_amount", MONEY), column("created_at", TIMESTAMP),
+                            column("updated_at", TIMESTAMP))),
+            new Table("services", "Service", "e.serviceId",
+                    "e.serviceId, e.provider.userId, e.category.categoryId, e.serviceTitle, e.province, e.price, "
+                            + "e.availabilityStatus, e.createdAt, e.updatedAt",
+                    schema(key("service_id"), column("provider_id", BIGINT), column("category_id", BIGINT),
+                            column("service_title", TEXT), column("province", TEXT), column("price", MONEY),
+                            column("availability_status", TEXT), column("created_at", TIMESTAMP),
+                            column("updated_at", TIMESTAMP))),
+            new Table("users", "User", "e.userId",
+                    "e.userId, e.fullName, e.role, e.createdAt, e.updatedAt",
+                    schema(key("user_id"), column("full_name", TEXT), column("role", TEXT),
+                            column("created_at", TIMESTAMP), column("updated_at", TIMESTAMP))),
+            new Table("reviews", "Review", "e.reviewId",
+                    "e.reviewId, e.booking.bookingId, e.customer.userId, e.provider.userId, e.rating, e.comment, "
+                            + "e.createdAt, e.updatedAt",
+                    schema(key("review_id"), column("booking_id", BIGINT), column("customer_id", BIGINT),
+                            column("provider_id", BIGINT), column("rating", INTEGER), column("comment", TEXT),
+                            column("created_at", TIMESTAMP), column("updated_at", TIMESTAMP))));
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private final Path directory;
+    private final int pageSize;
+    private final Duration commitLag;
+    private final int stampBatchSize;
+
+    public AnalyticsExportService(EntityManager entityManager, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.export.dir:${java.io.tmpdir}/fixitnow-export}") String directory,
+            @Value("${app.export.page-size:2000}") int pageSize,
+            @Value("${app.export.commit-lag:5m}") Duration commitLag,
+            @Value("${app.export.stamp-batch-size:1000}") int stampBatchSize) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Paths.get(directory);
+        this.pageSize = pageSize;
+        this.commitLag = commitLag;
+        this.stampBatchSize = stampBatchSize;
+    }
+
+    @Scheduled(cron = "${app.export.cron:0 30 2 * * *}")
+    public void scheduledExport() throws IOException {
+        export();
+    }
+
+    /**
+     * Export every table's changes since the last run and record them in
+     * today's manifest.
+     */
+    public Run export() throws IOException {
+        return export(Instant.now());
+    }
+
+    // The run as if started at startedAt; tests pick the time to place rows inside or outside the commit lag
+    synchronized Run export(Instant startedAt) throws IOException {
+        Instant until = startedAt.minus(commitLag);
+        LocalDate day = LocalDate.ofInstant(startedAt, ZoneOffset.UTC);
+        Path dayDirectory = directory.resolve(day.toString());
+        Files.createDirectories(dayDirectory);
+
+        Map<String, Instant> watermarks = watermarks();
+        String runId = RUN_STAMP.format(startedAt);
+        List<TableExport> exports = new ArrayList<>();
+        for (Table table : TABLES) {
+            Instant from = watermarks.getOrDefault(table.name(), Instant.EPOCH);
+            exports.add(exportTable(table, from, until, dayDirectory.resolve(table.name() + "-" + runId + ".arrow")));
+        }
+
+        Run run = new Run(runId, startedAt, Instant.now(), exports);
+        Manifest existing = readManifest(dayDirectory).orElse(new Manifest(day, FORMAT, List.of()));
+        List<Run> runs = new ArrayList<>(existing.runs());
+        runs.add(run);
+        writeAtomically(dayDirectory.resolve(MANIFEST),
+                out -> objectMapper.writeValue(out, new Manifest(day, FORMAT, runs)));
+        return run;
+    }
+
+    /**
+     * The newest manifest, if any run has completed.
+     */
+    public Optional<Manifest> latestManifest() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        List<Path> days;
+        try (Stream<Path> entries = Files.list(directory)) {
+            days = entries.filter(p -> Files.isRegularFile(p.resolve(MANIFEST))).sorted().toList();
+        }
+        return days.isEmpty() ? Optional.empty() : readManifest(days.get(days.size() - 1));
+    }
+
+    private Map<String, Instant> watermarks() throws IOException {
+        return latestManifest()
+                .filter(manifest -> !manifest.runs().isEmpty())
+                .map(manifest -> manifest.runs().get(manifest.runs().size() - 1).tables().stream()
+                        .collect(Collectors.toMap(TableExport::table, TableExport::toUpdatedAt)))
+                .orElse(Map.of());
+    }
+
+    private TableExport exportTable(Table table, Instant from, Instant until, Path file) throws IOException {
+        stampMissingUpdatedAt(table);
+
+        String pageQuery = "SELECT " + table.select() + " FROM " + table.entity() + " e "
+                + "WHERE e.updatedAt < :until AND (e.updatedAt > :afterTime "
+                + "OR (e.updatedAt = :afterTime AND " + table.idPath() + " > :afterId)) "
+                + "ORDER BY e.updatedAt ASC, " + table.idPath() + " ASC";
+        int updatedAtIndex = table.schema().getFields().size() - 1;
+
+        MessageDigest digest = sha256();
+        long[] rows = {0};
+        writeAtomically(file, out -> {
+            try (BufferAllocator allocator = new RootAllocator();
+                    VectorSchemaRoot root = VectorSchemaRoot.create(table.schema(), allocator);
+                    ArrowFileWriter writer = new ArrowFileWriter(root, new DictionaryProvider.MapDictionaryProvider(),
+                            Channels.newChannel(new DigestOutputStream(out, digest)), Map.of(), IpcOption.DEFAULT,
+                            CommonsCompressionFactory.INSTANCE, CompressionUtil.CodecType.LZ4_FRAME)) {
+                writer.start();
+                // The previous run stopped before its watermark, so rows stamped exactly at `from` belong to this one
+                Instant afterTime = from;
+                long afterId = -1;
+                while (true) {
+                    Instant pageAfterTime = afterTime;
+                    long pageAfterId = afterId;
+                    List<Object[]> page = readOnlyTransaction.execute(status -> entityManager
+                            .createQuery(pageQuery, Object[].class)
+                            .setParameter("until", until)
+                            .setParameter("afterTime", pageAfterTime)
+                            .setParameter("afterId", pageAfterId)
+                            .setMaxResults(pageSize)
+                            .getResultList());
+                    if (!page.isEmpty()) {
+                        root.allocateNew();
+                        for (int r = 0; r < page.size(); r++) {
+                            Object[] row = page.get(r);
+                            for (int c = 0; c < row.length; c++) {
+                                set(root.getVector(c), r, row[c]);
+                            }
+                        }
+                        root.setRowCount(page.size());
+                        writer.writeBatch();
+                    }
+                    rows[0] += page.size();
+                    if (page.size() < pageSize) {
+                        break;
+                    }
+                    Object[] last = page.get(page.size() - 1);
+                    afterTime = (Instant) last[updatedAtIndex];
+                    afterId = ((Number) last[0]).longValue();
+                }
+                writer.end();
+            }
+        });
+
+        return new TableExport(table.name(), file.getFileName().toString(), table.columns().get(0).name(),
+                rows[0], Files.size(file), HexFormat.of().formatHex(digest.digest()), from, until, table.columns());
+    }
+
+    /**
+     * Rows written before updated_at existed (or inserted without it) would
+     * never pass a watermark; stamp them with created_at. Each batch is its
+     * own short transaction so the primary never holds more than a batch of
+     * row locks; once everything is stamped a run costs one index lookup.
+     */
+    private void stampMissingUpdatedAt(Table table) {
+        String update = "UPDATE " + table.name() + " SET updated_at = created_at WHERE updated_at IS NULL LIMIT "
+                + stampBatchSize;
+        int stamped;
+        do {
+            stamped = transaction.execute(status -> entityManager.createNativeQuery(update)
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, table.name())
+                    .executeUpdate());
+        } while (stamped == stampBatchSize);
+    }
+
+    private Optional<Manifest> readManifest(Path dayDirectory) throws IOException {
+        Path file = dayDirectory.resolve(MANIFEST);
+        return Files.isRegularFile(file) ? Optional.of(objectMapper.readValue(file.toFile(), Manifest.class))
+                : Optional.empty();
+    }
+
+    private interface Content {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // Write to a sibling .part file and move it into place, so readers never see a partial file
+    private static void writeAtomically(Path file, Content content) throws IOException {
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                content.write(out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    // Instants as microseconds since the epoch in UTC, wall-clock times as if in UTC, enums by name
+    private static void set(FieldVector vector, int index, Object value) {
+        if (value == null) {
+            if (vector instanceof BaseFixedWidthVector fixed) {
+                fixed.setNull(index);
+            } else {
+                ((BaseVariableWidthVector) vector).setNull(index);
+            }
+        } else if (vector instanceof BigIntVector bigInt) {
+            bigInt.setSafe(index, ((Number) value).longValue());
+        } else if (vector instanceof IntVector integer) {
+            integer.setSafe(index, ((Number) value).intValue());
+        } else if (vector instanceof DecimalVector decimal) {
+            decimal.setSafe(index, ((BigDecimal) value).setScale(decimal.getScale()));
+        } else if (vector instanceof TimeStampMicroTZVector instant) {
+            instant.setSafe(index, ChronoUnit.MICROS.between(Instant.EPOCH, (Instant) value));
+        } else if (vector instanceof TimeStampMicroVector local) {
+            local.setSafe(index, ChronoUnit.MICROS.between(Instant.EPOCH,
+                    ((LocalDateTime) value).toInstant(ZoneOffset.UTC)));
+        } else {
+            String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+            ((VarCharVector) vector).setSafe(index, text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Schema schema(Field... fields) {
+        return new Schema(List.of(fields));
+    }
+
+    private static Field key(String name) {
+        return new Field(name, FieldType.notNullable(BIGINT), null);
+    }
+
+    private static Field column(String name, ArrowType type) {
+        return new Field(name, FieldType.nullable(type), null);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,601 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingFactRow;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactCell;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactQueryResult;
+import com.fixitnow.backend.event.BookingChangedEvent;
+import com.fixitnow.backend.event.ServiceChangedEvent;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.repository.BookingRepository;
+
+/**
+ * In-memory, column-oriented copy of booking facts for ad hoc admin
+ * analytics, so exploratory group-by queries never reach MySQL.
+ *
+ * Every booking occupies one row across parallel primitive arrays: status
+ * ordinal, epoch day, amount in cents and dictionary codes for service,
+ * category and province. A query compiles its filters into lookup tables and
+ * its grouping into one integer group index per row, then makes a single
+ * branch-light pass over the arrays, split across the fork-join pool for
+ * large tables. Rows are refreshed after each booking commit and reloaded in
+ * full on a schedule to pick up anything written outside the application.
+ *
+ * Rows are kept sorted by booking id and found by binary search, so there is
+ * no per-row index on the heap. A row costs 33 bytes (id and amount 8 each,
+ * four int columns, one status byte): about 33 MB per million bookings, up to
+ * twice that just after the arrays double. A reload rewrites the live columns
+ * page by page instead of building a second copy beside them.
+ */
+@Component
+public class BookingFactStore {
+
+    public enum Dimension {
+        CATEGORY, PROVINCE, STATUS, SERVICE
+    }
+
+    public record FactQuery(
+            Set<Dimension> groupBy,
+            Granularity granularity,
+            LocalDate from,
+            LocalDate to,
+            Set<Long> categoryIds,
+            Set<String> provinces,
+            Set<Booking.BookingStatus> statuses,
+            Boolean parallel
+    ) {}
+
+    // Groups one query may produce; each needs a count and a sum slot per scan partition
+    public static final int MAX_GROUPS = 1 << 22;
+
+    // Tables at least this large are scanned in parallel unless the query says otherwise
+    public static final int PARALLEL_THRESHOLD = 200_000;
+
+    // Parallel partitions each hold their own accumulators, so only small group spaces are split
+    private static final int MAX_PARALLEL_GROUPS = 1 << 16;
+
+    // Days one time-bucketed query may span (about 270 years)
+    private static final int MAX_SPAN_DAYS = 100_000;
+
+    private static final int LOAD_PAGE_SIZE = 5_000;
+    private static final byte REMOVED = -1;
+    private static final Booking.BookingStatus[] STATUSES = Booking.BookingStatus.values();
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Columns columns = new Columns();
+
+    // Bookings changed while a reload was running; re-read once the reloaded columns are in place
+    private final Set<Long> changedDuringReload = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloading;
+
+    public BookingFactStore(BookingRepository bookingRepository, PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Re-read every booking into the live columns, one keyset page at a time:
+     * each page overwrites the rows in its id range and drops those no longer
+     * in the database, then tombstones are compacted away. Every page is read
+     * in its own short read-only transaction and merged under a brief write
+     * lock, so neither the database nor queries wait for the whole reload.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.reports.facts.refresh-interval:6h}",
+            initialDelayString = "${app.reports.facts.refresh-interval:6h}")
+    public synchronized void reload() {
+        reloading = true;
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<BookingFactRow> page = readOnlyTransaction.execute(
+                    status -> bookingRepository.findFactPage(after, Limit.of(LOAD_PAGE_SIZE)));
+            boolean last = page.size() < LOAD_PAGE_SIZE;
+            lock.writeLock().lock();
+            try {
+                columns.merge(after, page, last);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (last) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).bookingId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            columns.compact();
+            reloading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Long bookingId : changedDuringReload) {
+            changedDuringReload.remove(bookingId);
+            refresh(bookingId);
+        }
+    }
+
+    /**
+     * Apply a single booking write; runs after commit when published inside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        refresh(event.bookingId());
+    }
+
+    /**
+     * A service may have moved category; re-read the facts of its bookings.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        if (event.deleted()) {
+            return;
+        }
+        List<BookingFactRow> facts = bookingRepository.findFactsByServiceId(event.serviceId());
+        if (reloading) {
+            facts.forEach(fact -> changedDuringReload.add(fact.bookingId()));
+        }
+        lock.writeLock().lock();
+        try {
+            facts.forEach(columns::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count and sum bookings matching the query's filters, grouped by its
+     * dimensions and optional time bucket.
+     */
+    public FactQueryResult query(FactQuery query) {
+        long started = System.nanoTime();
+        if (query.from() != null && query.to() != null && query.from().isAfter(query.to())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            Plan plan = plan(c, query);
+            if (plan == null) {
+                return new FactQueryResult(c.size, 0, micros(started), false, List.of());
+            }
+
+            boolean parallel = (query.parallel() != null ? query.parallel() : c.size >= PARALLEL_THRESHOLD)
+                    && plan.groups <= MAX_PARALLEL_GROUPS && c.size > 1;
+            Partial total;
+            if (parallel) {
+                int parts = Math.max(2, Math.min(ForkJoinPool.getCommonPoolParallelism(), c.size / 1024 + 1));
+                int step = (c.size + parts - 1) / parts;
+                total = IntStream.range(0, parts).parallel()
+                        .mapToObj(p -> scan(c, plan, p * step, Math.min(c.size, (p + 1) * step)))
+                        .reduce(Partial::merge)
+                        .orElseThrow();
+            } else {
+                total = scan(c, plan, 0, c.size);
+            }
+            return new FactQueryResult(c.size, total.matched, micros(started), parallel, cells(c, plan, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refresh(Long bookingId) {
+        if (reloading) {
+            changedDuringReload.add(bookingId);
+        }
+        Optional<BookingFactRow> fact = bookingRepository.findFactById(bookingId);
+        lock.writeLock().lock();
+        try {
+            if (fact.isPresent()) {
+                columns.upsert(fact.get());
+            } else {
+                columns.remove(bookingId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------- query internals (callers hold the read lock) ----------
+
+    /**
+     * Filters and grouping of one query, resolved against the current
+     * dictionaries. Each grouped dimension contributes code * multiplier to a
+     * row's group index; ungrouped dimensions have multiplier 0.
+     */
+    private record Plan(
+            int fromDay,
+            int toDay,
+            int[] dayBucket,
+            List<LocalDate> bucketStarts,
+            boolean[] categoryAllowed,
+            boolean[] provinceAllowed,
+            int statusMask,
+            int periodMul,
+            int categoryMul,
+            int provinceMul,
+            int statusMul,
+            int serviceMul,
+            int categories,
+            int provinces,
+            int statuses,
+            int services,
+            int groups
+    ) {}
+
+    // Null when nothing can match
+    private static Plan plan(Columns c, FactQuery query) {
+        Set<Dimension> groupBy = query.groupBy() != null ? query.groupBy() : Set.of();
+        int fromDay = Math.max(c.minDay, query.from() != null ? (int) query.from().toEpochDay() : Integer.MIN_VALUE);
+        int toDay = Math.min(c.maxDay, query.to() != null ? (int) query.to().toEpochDay() : Integer.MAX_VALUE);
+        if (c.size == 0 || fromDay > toDay) {
+            return null;
+        }
+
+        int[] dayBucket = null;
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        Granularity granularity = query.granularity();
+        if (granularity != null) {
+            long span = (long) toDay - fromDay + 1;
+            if (span > MAX_SPAN_DAYS) {
+                throw new IllegalArgumentException("Range too large for a time breakdown; set from and to");
+            }
+            dayBucket = new int[(int) span];
+            LocalDate previous = null;
+            for (int d = 0; d < span; d++) {
+                LocalDate start = granularity.start(LocalDate.ofEpochDay(fromDay + d));
+                if (!start.equals(previous)) {
+                    bucketStarts.add(start);
+                    previous = start;
+                }
+                dayBucket[d] = bucketStarts.size() - 1;
+            }
+        } else {
+            bucketStarts.add(null);
+        }
+
+        boolean[] categoryAllowed = allowed(c.categories, query.categoryIds());
+        boolean[] provinceAllowed = allowed(c.provinces, query.provinces());
+        int statusMask = 0;
+        if (query.statuses() == null || query.statuses().isEmpty()) {
+            statusMask = (1 << STATUSES.length) - 1;
+        } else {
+            for (Booking.BookingStatus status : query.statuses()) {
+                statusMask |= 1 << status.ordinal();
+            }
+        }
+
+        int services = groupBy.contains(Dimension.SERVICE) ? Math.max(1, c.services.size()) : 1;
+        int statuses = groupBy.contains(Dimension.STATUS) ? STATUSES.length : 1;
+        int provinces = groupBy.contains(Dimension.PROVINCE) ? Math.max(1, c.provinces.size()) : 1;
+        int categories = groupBy.contains(Dimension.CATEGORY) ? Math.max(1, c.categories.size()) : 1;
+        long groups = (long) bucketStarts.size() * categories * provinces * statuses * services;
+        if (groups > MAX_GROUPS) {
+            throw new IllegalArgumentException("Query has more than " + MAX_GROUPS
+                    + " groups; use fewer dimensions or a coarser granularity");
+        }
+
+        int serviceMul = groupBy.contains(Dimension.SERVICE) ? 1 : 0;
+        int statusMul = groupBy.contains(Dimension.STATUS) ? services : 0;
+        int provinceMul = groupBy.contains(Dimension.PROVINCE) ? services * statuses : 0;
+        int categoryMul = groupBy.contains(Dimension.CATEGORY) ? services * statuses * provinces : 0;
+        int periodMul = granularity != null ? services * statuses * provinces * categories : 0;
+        return new Plan(fromDay, toDay, dayBucket, bucketStarts, categoryAllowed, provinceAllowed, statusMask,
+                periodMul, categoryMul, provinceMul, statusMul, serviceMul,
+                categories, provinces, statuses, services, (int) groups);
+    }
+
+    // Lookup table by dictionary code, or null when the dimension is unrestricted
+    private static <T> boolean[] allowed(Dictionary<T> dictionary, Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] allowed = new boolean[dictionary.size()];
+        for (T value : values) {
+            Integer code = dictionary.codes.get(value);
+            if (code != null) {
+                allowed[code] = true;
+            }
+        }
+        return allowed;
+    }
+
+    private static final class Partial {
+        final long[] counts;
+        final long[] cents;
+        long matched;
+
+        Partial(int groups) {
+            counts = new long[groups];
+            cents = new long[groups];
+        }
+
+        Partial merge(Partial other) {
+            for (int g = 0; g < counts.length; g++) {
+                counts[g] += other.counts[g];
+                cents[g] += other.cents[g];
+            }
+            matched += other.matched;
+            return this;
+        }
+    }
+
+    private static Partial scan(Columns c, Plan plan, int from, int to) {
+        Partial partial = new Partial(plan.groups);
+        long[] counts = partial.counts;
+        long[] cents = partial.cents;
+        byte[] statuses = c.statuses;
+        int[] days = c.epochDays;
+        int[] categories = c.categoryCodes;
+        int[] provinces = c.provinceCodes;
+        int[] services = c.serviceCodes;
+        long[] amounts = c.amountCents;
+        int[] dayBucket = plan.dayBucket;
+        boolean[] categoryAllowed = plan.categoryAllowed;
+        boolean[] provinceAllowed = plan.provinceAllowed;
+        int fromDay = plan.fromDay;
+        int toDay = plan.toDay;
+        int statusMask = plan.statusMask;
+        long matched = 0;
+
+        for (int i = from; i < to; i++) {
+            int status = statuses[i];
+            int day = days[i];
+            // REMOVED (-1) shifts to bit 31, which no status mask sets
+            if ((statusMask & (1 << (status & 31))) == 0 || day < fromDay || day > toDay
+                    || (categoryAllowed != null && !categoryAllowed[categories[i]])
+                    || (provinceAllowed != null && !provinceAllowed[provinces[i]])) {
+                continue;
+            }
+            int group = (dayBucket != null ? dayBucket[day - fromDay] * plan.periodMul : 0)
+                    + categories[i] * plan.categoryMul
+                    + provinces[i] * plan.provinceMul
+                    + status * plan.statusMul
+                    + services[i] * plan.serviceMul;
+            counts[group]++;
+            cents[group] += amounts[i];
+            matched++;
+        }
+        partial.matched = matched;
+        return partial;
+    }
+
+    private static List<FactCell> cells(Columns c, Plan plan, Partial total) {
+        List<FactCell> cells = new ArrayList<>();
+        for (int g = 0; g < plan.groups; g++) {
+            if (total.counts[g] == 0) {
+                continue;
+            }
+            int rest = g;
+            int service = rest % plan.services;
+            rest /= plan.services;
+            int status = rest % plan.statuses;
+            rest /= plan.statuses;
+            int province = rest % plan.provinces;
+            rest /= plan.provinces;
+            int category = rest % plan.categories;
+            int period = rest / plan.categories;
+            cells.add(new FactCell(
+                    plan.bucketStarts.get(period),
+                    plan.categoryMul != 0 ? c.categories.values.get(category) : null,
+                    plan.provinceMul != 0 ? c.provinces.values.get(province) : null,
+                    plan.statusMul != 0 ? STATUSES[status] : null,
+                    plan.serviceMul != 0 ? c.services.values.get(service) : null,
+                    total.counts[g],
+                    BigDecimal.valueOf(total.cents[g], 2)));
+        }
+        cells.sort(Comparator.comparing(FactCell::periodStart, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(FactCell::totalAmount, Comparator.reverseOrder()));
+        return cells;
+    }
+
+    private static long micros(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000;
+    }
+
+    // ---------- storage ----------
+
+    // Dense codes for the distinct values of one column
+    private static final class Dictionary<T> {
+        final Map<T, Integer> codes = new HashMap<>();
+        final List<T> values = new ArrayList<>();
+
+        int code(T value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    // Parallel arrays sorted by booking id, first `size` slots in use; removed bookings keep their slot as a
+    // tombstone until the next reload compacts them away
+    private static final class Columns {
+        long[] bookingIds = new long[0];
+        int[] serviceCodes = new int[0];
+        int[] categoryCodes = new int[0];
+        int[] provinceCodes = new int[0];
+        byte[] statuses = new byte[0];
+        int[] epochDays = new int[0];
+        long[] amountCents = new long[0];
+        int size;
+        int live;
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+
+        final Dictionary<Long> services = new Dictionary<>();
+        final Dictionary<Long> categories = new Dictionary<>();
+        final Dictionary<String> provinces = new Dictionary<>();
+
+        void upsert(BookingFactRow fact) {
+            int row = rowAtOrAfter(fact.bookingId());
+            if (row == size || bookingIds[row] != fact.bookingId()) {
+                insertAt(row, fact.bookingId());
+            } else if (statuses[row] == REMOVED) {
+                live++;
+            }
+            set(row, fact);
+        }
+
+        void remove(Long bookingId) {
+            int row = rowAtOrAfter(bookingId);
+            if (row < size && bookingIds[row] == bookingId) {
+                tombstone(row);
+            }
+        }
+
+        /**
+         * Make the rows with ids in (afterId, last id of the page] match the
+         * page, which is sorted by id; ids in that range missing from it were
+         * deleted. The last page also covers every id above it.
+         */
+        void merge(long afterId, List<BookingFactRow> page, boolean last) {
+            int row = rowAtOrAfter(afterId + 1);
+            for (BookingFactRow fact : page) {
+                while (row < size && bookingIds[row] < fact.bookingId()) {
+                    tombstone(row++);
+                }
+                if (row == size || bookingIds[row] != fact.bookingId()) {
+                    insertAt(row, fact.bookingId());
+                } else if (statuses[row] == REMOVED) {
+                    live++;
+                }
+                set(row++, fact);
+            }
+            if (last) {
+                while (row < size) {
+                    tombstone(row++);
+                }
+            }
+        }
+
+        // Drops tombstones in place and recomputes the day range
+        void compact() {
+            int out = 0;
+            minDay = Integer.MAX_VALUE;
+            maxDay = Integer.MIN_VALUE;
+            for (int row = 0; row < size; row++) {
+                if (statuses[row] == REMOVED) {
+                    continue;
+                }
+                if (out != row) {
+                    bookingIds[out] = bookingIds[row];
+                    serviceCodes[out] = serviceCodes[row];
+                    categoryCodes[out] = categoryCodes[row];
+                    provinceCodes[out] = provinceCodes[row];
+                    statuses[out] = statuses[row];
+                    epochDays[out] = epochDays[row];
+                    amountCents[out] = amountCents[row];
+                }
+                minDay = Math.min(minDay, epochDays[out]);
+                maxDay = Math.max(maxDay, epochDays[out]);
+                out++;
+            }
+            size = out;
+        }
+
+        // Index of the booking's row, or of the first row with a larger id when it has none
+        private int rowAtOrAfter(long bookingId) {
+            int found = Arrays.binarySearch(bookingIds, 0, size, bookingId);
+            return found >= 0 ? found : -(found + 1);
+        }
+
+        // Ids mostly arrive in ascending order, so the shifted tail is usually empty or short
+        private void insertAt(int row, long bookingId) {
+            if (size == bookingIds.length) {
+                grow();
+            }
+            int tail = size - row;
+            if (tail > 0) {
+                System.arraycopy(bookingIds, row, bookingIds, row + 1, tail);
+                System.arraycopy(serviceCodes, row, serviceCodes, row + 1, tail);
+                System.arraycopy(categoryCodes, row, categoryCodes, row + 1, tail);
+                System.arraycopy(provinceCodes, row, provinceCodes, row + 1, tail);
+                System.arraycopy(statuses, row, statuses, row + 1, tail);
+                System.arraycopy(epochDays, row, epochDays, row + 1, tail);
+                System.arraycopy(amountCents, row, amountCents, row + 1, tail);
+            }
+            bookingIds[row] = bookingId;
+            size++;
+            live++;
+        }
+
+        private void set(int row, BookingFactRow fact) {
+            int day = (int) fact.bookingDate().toLocalDate().toEpochDay();
+            serviceCodes[row] = services.code(fact.serviceId());
+            categoryCodes[row] = categories.code(fact.categoryId());
+            provinceCodes[row] = provinces.code(fact.province());
+            statuses[row] = (byte) fact.status().ordinal();
+            epochDays[row] = day;
+            amountCents[row] = fact.totalAmount().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            minDay = Math.min(minDay, day);
+            maxDay = Math.max(maxDay, day);
+        }
+
+        private void tombstone(int row) {
+            if (statuses[row] != REMOVED) {
+                statuses[row] = REMOVED;
+                live--;
+            }
+        }
+
+        private void grow() {
+            int capacity = Math.max(1024, bookingIds.length * 2);
+            bookingIds = Arrays.copyOf(bookingIds, capacity);
+            serviceCodes = Arrays.copyOf(serviceCodes, capacity);
+            categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+            provinceCodes = Arrays.copyOf(provinceCodes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+        }
+    }
+}
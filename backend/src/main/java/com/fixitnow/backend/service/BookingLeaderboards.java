@@ -0,0 +1,322 @@
+package com.fixitnow.backend.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingActivityRow;
+import com.fixitnow.backend.controller.dto.ReportDtos.Leaderboard;
+import com.fixitnow.backend.controller.dto.ReportDtos.LeaderboardEntry;
+import com.fixitnow.backend.controller.dto.ReportDtos.Leaderboards;
+import com.fixitnow.backend.controller.dto.ReportDtos.ProviderReach;
+import com.fixitnow.backend.event.BookingChangedEvent;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+
+/**
+ * Streaming leaderboards kept in memory: top services and customers by
+ * bookings made, top providers by bookings completed, and distinct customers
+ * per provider, for the last day, week, month or all time.
+ *
+ * Counts live in {@link SpaceSaving} summaries and distinct customers in
+ * {@link HyperLogLog} sketches, one set for all time and one per calendar day
+ * of activity (a month of days is kept); a window merges its days. Sketches
+ * are replayed from the bookings table at startup and then fed by booking
+ * creation and completion events, so reading a leaderboard costs a merge of
+ * at most a month of small summaries plus one lookup for the winners' names.
+ *
+ * Error bounds: each count is an upper bound at most its maxError above the
+ * truth, and any id with more than the leaderboard's errorBound events is
+ * guaranteed to be ranked. Distinct-customer estimates have a relative
+ * standard error of {@link HyperLogLog#relativeStandardError(int)} at
+ * {@link #PRECISION}.
+ */
+@Component
+public class BookingLeaderboards {
+
+    public enum Window {
+        DAY(1), WEEK(7), MONTH(30), ALL(0);
+
+        private final int days;
+
+        Window(int days) {
+            this.days = days;
+        }
+    }
+
+    public static final int PRECISION = 10;
+
+    private static final int LOAD_PAGE_SIZE = 5_000;
+
+    private final BookingRepository bookingRepository;
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int capacity;
+
+    // Guarded by this
+    private Sketches allTime;
+    private final NavigableMap<LocalDate, Sketches> days = new TreeMap<>();
+    // Events received while a replay is running; null otherwise
+    private List<BookingChangedEvent> pending = new ArrayList<>();
+
+    public BookingLeaderboards(BookingRepository bookingRepository, ServiceRepository serviceRepository,
+            UserRepository userRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.reports.leaderboards.capacity:200}") int capacity) {
+        this.bookingRepository = bookingRepository;
+        this.serviceRepository = serviceRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.capacity = capacity;
+        this.allTime = new Sketches(capacity);
+    }
+
+    /**
+     * Replay every booking into fresh sketches: bookings by creation day,
+     * completions by the day the booking last changed. Events received in the
+     * meantime are applied afterwards unless the replay already saw them. If
+     * the replay fails, the current sketches are kept and the held events are
+     * applied to them, so later events are not held forever.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        synchronized (this) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+            }
+        }
+        Sketches all = new Sketches(capacity);
+        NavigableMap<LocalDate, Sketches> recent = new TreeMap<>();
+        LocalDate oldest = LocalDate.now().minusDays(Window.MONTH.days - 1);
+        IdSet booked = new IdSet();
+        IdSet completed = new IdSet();
+        boolean replayed = false;
+
+        try {
+            long afterId = 0;
+            while (true) {
+                long after = afterId;
+                List<BookingActivityRow> page = readOnlyTransaction.execute(
+                        status -> bookingRepository.findActivityPage(after, Limit.of(LOAD_PAGE_SIZE)));
+                for (BookingActivityRow row : page) {
+                    booked.add(row.bookingId());
+                    all.booked(row.serviceId(), row.customerId(), row.providerId());
+                    LocalDate createdOn = day(row.createdAt());
+                    if (!createdOn.isBefore(oldest)) {
+                        recent.computeIfAbsent(createdOn, d -> new Sketches(capacity))
+                                .booked(row.serviceId(), row.customerId(), row.providerId());
+                    }
+                    if (row.status() == Booking.BookingStatus.COMPLETED) {
+                        completed.add(row.bookingId());
+                        all.completed(row.providerId());
+                        LocalDate completedOn = day(row.updatedAt());
+                        if (!completedOn.isBefore(oldest)) {
+                            recent.computeIfAbsent(completedOn, d -> new Sketches(capacity))
+                                    .completed(row.providerId());
+                        }
+                    }
+                }
+                if (page.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).bookingId();
+            }
+            replayed = true;
+        } finally {
+            synchronized (this) {
+                if (replayed) {
+                    allTime = all;
+                    days.clear();
+                    days.putAll(recent);
+                }
+                for (BookingChangedEvent event : pending) {
+                    apply(event, !replayed || !booked.contains(event.bookingId()),
+                            !replayed || !completed.contains(event.bookingId()));
+                }
+                pending = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookingChanged(BookingChangedEvent event) {
+        if (!event.isCreated() && !event.isCompleted()) {
+            return;
+        }
+        if (pending != null) {
+            pending.add(event);
+            return;
+        }
+        apply(event, true, true);
+    }
+
+    /**
+     * The {@code limit} leaders of each list in {@code window}.
+     */
+    public Leaderboards get(Window window, int limit) {
+        if (limit < 1 || limit > capacity) {
+            throw new IllegalArgumentException("limit must be between 1 and " + capacity);
+        }
+        Leaderboard services;
+        Leaderboard providers;
+        Leaderboard customers;
+        Map<Long, Long> reach = new HashMap<>();
+        synchronized (this) {
+            List<Sketches> sources = sources(window);
+            services = rank(sources, s -> s.services, limit);
+            providers = rank(sources, s -> s.providers, limit);
+            customers = rank(sources, s -> s.customers, limit);
+            providers.entries().forEach(e -> reach.put(e.id(), uniqueCustomers(sources, e.id())));
+        }
+
+        Map<Long, String> serviceNames = new HashMap<>();
+        Map<Long, String> userNames = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            serviceRepository.findAllById(ids(services)).forEach(s -> serviceNames.put(s.getServiceId(), s.getServiceTitle()));
+            List<Long> users = new ArrayList<>(ids(providers));
+            users.addAll(ids(customers));
+            userRepository.findAllById(users).forEach(u -> userNames.put(u.getUserId(), u.getFullName()));
+        });
+
+        return new Leaderboards(window.name(),
+                named(services, serviceNames, null),
+                named(providers, userNames, reach),
+                named(customers, userNames, null),
+                HyperLogLog.relativeStandardError(PRECISION));
+    }
+
+    public synchronized ProviderReach getProviderReach(Long providerId, Window window) {
+        return new ProviderReach(providerId, window.name(), uniqueCustomers(sources(window), providerId),
+                HyperLogLog.relativeStandardError(PRECISION));
+    }
+
+    // ---------- internals (callers hold the monitor) ----------
+
+    private void apply(BookingChangedEvent event, boolean countBooking, boolean countCompletion) {
+        Sketches today = today();
+        if (event.isCreated() && countBooking) {
+            allTime.booked(event.serviceId(), event.customerId(), event.providerId());
+            today.booked(event.serviceId(), event.customerId(), event.providerId());
+        }
+        if (event.isCompleted() && countCompletion) {
+            allTime.completed(event.providerId());
+            today.completed(event.providerId());
+        }
+    }
+
+    private Sketches today() {
+        LocalDate today = LocalDate.now();
+        days.headMap(today.minusDays(Window.MONTH.days - 1)).clear();
+        return days.computeIfAbsent(today, d -> new Sketches(capacity));
+    }
+
+    private List<Sketches> sources(Window window) {
+        if (window == Window.ALL) {
+            return List.of(allTime);
+        }
+        return List.copyOf(days.tailMap(LocalDate.now().minusDays(window.days - 1), true).values());
+    }
+
+    private static Leaderboard rank(List<Sketches> sources, Function<Sketches, SpaceSaving> list, int limit) {
+        List<SpaceSaving> summaries = sources.stream().map(list).toList();
+        List<LeaderboardEntry> entries = SpaceSaving.mergeTop(summaries, limit).stream()
+                .map(e -> new LeaderboardEntry(e.key(), null, e.count(), e.error(), null))
+                .toList();
+        return new Leaderboard(
+                summaries.stream().mapToLong(SpaceSaving::total).sum(),
+                summaries.stream().mapToLong(SpaceSaving::untrackedBound).sum(),
+                entries);
+    }
+
+    private static long uniqueCustomers(Collection<Sketches> sources, Long providerId) {
+        HyperLogLog merged = new HyperLogLog(PRECISION);
+        for (Sketches sketches : sources) {
+            HyperLogLog sketch = sketches.customersByProvider.get(providerId);
+            if (sketch != null) {
+                merged.merge(sketch);
+            }
+        }
+        return merged.estimate();
+    }
+
+    private static List<Long> ids(Leaderboard leaderboard) {
+        return leaderboard.entries().stream().map(LeaderboardEntry::id).toList();
+    }
+
+    private static Leaderboard named(Leaderboard leaderboard, Map<Long, String> names, Map<Long, Long> reach) {
+        return new Leaderboard(leaderboard.total(), leaderboard.errorBound(), leaderboard.entries().stream()
+                .map(e -> new LeaderboardEntry(e.id(), names.get(e.id()), e.count(), e.maxError(),
+                        reach != null ? reach.get(e.id()) : null))
+                .collect(Collectors.toList()));
+    }
+
+    private static LocalDate day(Instant instant) {
+        return instant != null ? LocalDate.ofInstant(instant, ZoneId.systemDefault()) : LocalDate.MIN;
+    }
+
+    // Booking ids the replay counted. Ids are dense, so a bit per id in 16M-id chunks keeps this compact
+    // without assuming they fit in an int
+    private static final class IdSet {
+        private static final int CHUNK_BITS = 24;
+        private final Map<Long, BitSet> chunks = new HashMap<>();
+
+        void add(long id) {
+            chunks.computeIfAbsent(id >>> CHUNK_BITS, c -> new BitSet()).set(offset(id));
+        }
+
+        boolean contains(long id) {
+            BitSet chunk = chunks.get(id >>> CHUNK_BITS);
+            return chunk != null && chunk.get(offset(id));
+        }
+
+        private static int offset(long id) {
+            return (int) (id & ((1L << CHUNK_BITS) - 1));
+        }
+    }
+
+    // One window's worth of summaries
+    private static final class Sketches {
+        final SpaceSaving services;
+        final SpaceSaving customers;
+        final SpaceSaving providers;
+        final Map<Long, HyperLogLog> customersByProvider = new HashMap<>();
+
+        Sketches(int capacity) {
+            services = new SpaceSaving(capacity);
+            customers = new SpaceSaving(capacity);
+            providers = new SpaceSaving(capacity);
+        }
+
+        void booked(Long serviceId, Long customerId, Long providerId) {
+            services.add(serviceId);
+            customers.add(customerId);
+            customersByProvider.computeIfAbsent(providerId, id -> new HyperLogLog(PRECISION)).add(customerId);
+        }
+
+        void completed(Long providerId) {
+            providers.add(providerId);
+        }
+    }
+}
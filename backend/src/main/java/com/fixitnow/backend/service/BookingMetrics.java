@@ -0,0 +1,50 @@
+package com.fixitnow.backend.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fixitnow.backend.event.BookingChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Booking meters: creations and status transitions, counted from committed
+ * {@link BookingChangedEvent}s so rolled-back writes do not show up, and
+ * creations rejected because the time slot was taken.
+ */
+@Component
+public class BookingMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter created;
+    private final Counter conflicts;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.created = Counter.builder("bookings.creations")
+                .description("Bookings created")
+                .register(registry);
+        this.conflicts = Counter.builder("bookings.conflicts")
+                .description("Booking creations rejected because the time slot was already booked")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.isCreated()) {
+            created.increment();
+        } else if (event.previousStatus() != event.status()) {
+            Counter.builder("bookings.status.transitions")
+                    .description("Booking status changes")
+                    .tag("from", event.previousStatus().name())
+                    .tag("to", event.status().name())
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    public void conflictRejected() {
+        conflicts.increment();
+    }
+}
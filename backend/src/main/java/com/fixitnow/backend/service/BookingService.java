@@ -1,17 +1,20 @@
 package com.fixitnow.backend.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fixitnow.backend.config.ReadYourWrites;
 import com.fixitnow.backend.controller.dto.BookingDtos.BookingResponse;
 import com.fixitnow.backend.controller.dto.BookingDtos.BookingStatsResponse;
 import com.fixitnow.backend.controller.dto.BookingDtos.BookingSummaryResponse;
 import com.fixitnow.backend.controller.dto.BookingDtos.CreateBookingRequest;
 import com.fixitnow.backend.controller.dto.BookingDtos.UpdateBookingRequest;
 import com.fixitnow.backend.controller.dto.BookingDtos.UpdateBookingStatusRequest;
+import com.fixitnow.backend.event.BookingChangedEvent;
 import com.fixitnow.backend.model.Booking;
 import com.fixitnow.backend.model.Role;
 import com.fixitnow.backend.model.Service;
@@ -30,6 +33,10 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
+    private final BookingStatsService bookingStatsService;
+    private final ReadYourWrites readYourWrites;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingMetrics bookingMetrics;
 
     /**
      * Create a new booking
@@ -55,6 +62,7 @@ public class BookingService {
 
         // Check for conflicting bookings
         if (bookingRepository.existsConflictingBooking(service, request.bookingDate())) {
+            bookingMetrics.conflictRejected();
             throw new IllegalArgumentException("Time slot is already booked");
         }
 
@@ -71,6 +79,9 @@ public class BookingService {
                 .build();
 
         Booking savedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordCreated(savedBooking);
+        recordWrite(savedBooking);
+        eventPublisher.publishEvent(BookingChangedEvent.created(savedBooking));
         return new BookingResponse(savedBooking);
     }
 
@@ -101,10 +112,7 @@ public class BookingService {
         User customer = userRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
 
-        return bookingRepository.findByCustomerOrderByCreatedAtDesc(customer)
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findSummariesByCustomerId(customer.getUserId());
     }
 
     /**
@@ -115,10 +123,7 @@ public class BookingService {
         User provider = userRepository.findByEmail(providerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Provider not found"));
 
-        return bookingRepository.findByServiceProviderOrderByCreatedAtDesc(provider)
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findSummariesByProviderId(provider.getUserId());
     }
 
     /**
@@ -129,10 +134,7 @@ public class BookingService {
         User customer = userRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
 
-        return bookingRepository.findByCustomerAndStatusOrderByCreatedAtDesc(customer, status)
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findSummariesByCustomerIdAndStatus(customer.getUserId(), status);
     }
 
     /**
@@ -143,10 +145,7 @@ public class BookingService {
         User provider = userRepository.findByEmail(providerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Provider not found"));
 
-        return bookingRepository.findByServiceProviderAndStatusOrderByCreatedAtDesc(provider, status)
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findSummariesByProviderIdAndStatus(provider.getUserId(), status);
     }
 
     /**
@@ -158,14 +157,19 @@ public class BookingService {
 
         Booking booking = bookingRepository.findByBookingIdAndServiceProvider(bookingId, provider)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found or access denied"));
+        LocalDate previousDay = booking.getBookingDate().toLocalDate();
+        Booking.BookingStatus previousStatus = booking.getStatus();
 
         // Validate status transition
-        if (!isValidStatusTransition(booking.getStatus(), request.status())) {
+        if (!booking.getStatus().canTransitionTo(request.status())) {
             throw new IllegalArgumentException("Invalid status transition from " + booking.getStatus() + " to " + request.status());
         }
 
         booking.setStatus(request.status());
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordChanged(updatedBooking, previousDay, previousStatus);
+        recordWrite(updatedBooking);
+        eventPublisher.publishEvent(BookingChangedEvent.changed(updatedBooking, previousStatus));
 
         return new BookingResponse(updatedBooking);
     }
@@ -179,6 +183,8 @@ public class BookingService {
 
         Booking booking = bookingRepository.findByBookingIdAndCustomer(bookingId, customer)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found or access denied"));
+        LocalDate previousDay = booking.getBookingDate().toLocalDate();
+        Booking.BookingStatus previousStatus = booking.getStatus();
 
         // Only allow updates for PENDING bookings
         if (booking.getStatus() != Booking.BookingStatus.PENDING) {
@@ -207,6 +213,9 @@ public class BookingService {
         }
 
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordChanged(updatedBooking, previousDay, previousStatus);
+        recordWrite(updatedBooking);
+        eventPublisher.publishEvent(BookingChangedEvent.changed(updatedBooking, previousStatus));
         return new BookingResponse(updatedBooking);
     }
 
@@ -219,6 +228,8 @@ public class BookingService {
 
         Booking booking = bookingRepository.findByBookingIdAndCustomer(bookingId, customer)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found or access denied"));
+        LocalDate previousDay = booking.getBookingDate().toLocalDate();
+        Booking.BookingStatus previousStatus = booking.getStatus();
 
         // Only allow cancellation of PENDING or CONFIRMED bookings
         if (booking.getStatus() != Booking.BookingStatus.PENDING && 
@@ -228,6 +239,9 @@ public class BookingService {
 
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordChanged(updatedBooking, previousDay, previousStatus);
+        recordWrite(updatedBooking);
+        eventPublisher.publishEvent(BookingChangedEvent.changed(updatedBooking, previousStatus));
 
         return new BookingResponse(updatedBooking);
     }
@@ -240,10 +254,7 @@ public class BookingService {
         User customer = userRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
 
-        return bookingRepository.findUpcomingBookingsForCustomer(customer, LocalDateTime.now())
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingSummariesForCustomer(customer.getUserId(), LocalDateTime.now());
     }
 
     /**
@@ -254,10 +265,7 @@ public class BookingService {
         User provider = userRepository.findByEmail(providerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Provider not found"));
 
-        return bookingRepository.findUpcomingBookingsForProvider(provider, LocalDateTime.now())
-                .stream()
-                .map(BookingSummaryResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingSummariesForProvider(provider.getUserId(), LocalDateTime.now());
     }
 
     /**
@@ -307,24 +315,13 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<BookingResponse> getAllBookings() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(BookingResponse::new)
-                .collect(Collectors.toList());
+        return bookingRepository.findAllResponses();
     }
 
     /**
-     * Validate status transition
+     * Keep both parties' reads on the primary until the replica has the change
      */
-    private boolean isValidStatusTransition(Booking.BookingStatus currentStatus, Booking.BookingStatus newStatus) {
-        return switch (currentStatus) {
-            case PENDING -> newStatus == Booking.BookingStatus.CONFIRMED || 
-                           newStatus == Booking.BookingStatus.CANCELLED;
-            case CONFIRMED -> newStatus == Booking.BookingStatus.IN_PROGRESS || 
-                             newStatus == Booking.BookingStatus.CANCELLED;
-            case IN_PROGRESS -> newStatus == Booking.BookingStatus.COMPLETED || 
-                               newStatus == Booking.BookingStatus.CANCELLED;
-            case COMPLETED, CANCELLED -> false; // Terminal states
-        };
+    private void recordWrite(Booking booking) {
+        readYourWrites.recordWrite(booking.getCustomer().getEmail(), booking.getService().getProvider().getEmail());
     }
 }
@@ -0,0 +1,166 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.repository.BookingDailyStatsRepository;
+import com.fixitnow.backend.repository.BookingPeriodStatsRepository;
+import com.fixitnow.backend.repository.BookingRevenueCubeRepository;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains the booking_daily_stats rollup, the day/week/month buckets of
+ * booking_period_stats and the booking_revenue_cube. The record* methods run
+ * inside the caller's booking transaction, so the rollups commit or roll back
+ * together with the booking itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingStatsService {
+
+    private final BookingDailyStatsRepository statsRepository;
+    private final BookingPeriodStatsRepository periodStatsRepository;
+    private final BookingRevenueCubeRepository revenueCubeRepository;
+    private final BookingRepository bookingRepository;
+    private final ServiceRepository serviceRepository;
+
+    public void recordCreated(Booking booking) {
+        apply(booking, cubeCell(booking), booking.getBookingDate().toLocalDate(), booking.getStatus(), 1);
+    }
+
+    /**
+     * Move a booking's contribution from its previous day and status to its current ones.
+     */
+    public void recordChanged(Booking booking, LocalDate previousDay, Booking.BookingStatus previousStatus) {
+        LocalDate day = booking.getBookingDate().toLocalDate();
+        if (day.equals(previousDay) && booking.getStatus() == previousStatus) {
+            return;
+        }
+        CubeCell cell = cubeCell(booking);
+        apply(booking, cell, previousDay, previousStatus, -1);
+        apply(booking, cell, day, booking.getStatus(), 1);
+    }
+
+    /**
+     * Move a service's bookings to another category's cube cells after the
+     * service was recategorised. Must run in the transaction that saved the
+     * new category, with the service row locked for update: booking writes
+     * read their cube cell under a shared lock on that row, so every booking
+     * counted here has its delta in the previous category and none committed
+     * later is moved twice.
+     */
+    @Transactional
+    public void recordCategoryChanged(com.fixitnow.backend.model.Service service, Long previousCategoryId) {
+        Long categoryId = service.getCategory().getCategoryId();
+        if (categoryId.equals(previousCategoryId)) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (Object[] row : revenueCubeRepository.findServiceTotalsByDayAndStatus(service.getServiceId())) {
+            LocalDate day = LocalDate.parse(row[0].toString());
+            String status = row[1].toString();
+            long count = Long.parseLong(row[2].toString());
+            BigDecimal amount = new BigDecimal(row[3].toString());
+            revenueCubeRepository.applyDelta(day, previousCategoryId, service.getProvince(), status, -count,
+                    amount.negate(), now);
+            revenueCubeRepository.applyDelta(day, categoryId, service.getProvince(), status, count, amount, now);
+        }
+    }
+
+    /**
+     * Fill the rollups from existing bookings the first time the tables are
+     * used. Called by {@link RollupBackfill} before the web server starts.
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (statsRepository.count() == 0 && bookingRepository.count() > 0) {
+            statsRepository.insertFromBookings(Instant.now());
+        }
+        if (periodStatsRepository.count() == 0 && statsRepository.count() > 0) {
+            rebuildPeriods();
+        }
+        if (revenueCubeRepository.count() == 0 && bookingRepository.count() > 0) {
+            revenueCubeRepository.insertFromBookings(Instant.now());
+        }
+    }
+
+    /**
+     * Recompute all rollups from the bookings table; returns the number of daily rows written.
+     */
+    @Transactional
+    public int rebuild() {
+        Instant now = Instant.now();
+        statsRepository.deleteAllRows();
+        int rows = statsRepository.insertFromBookings(now);
+        periodStatsRepository.deleteAllRows();
+        rebuildPeriods();
+        revenueCubeRepository.deleteAllRows();
+        revenueCubeRepository.insertFromBookings(now);
+        return rows;
+    }
+
+    // Period buckets are summed from the daily rollup, which is already small: one row per day and status
+    private void rebuildPeriods() {
+        Map<BookingPeriodStats.Key, long[]> counts = new HashMap<>();
+        Map<BookingPeriodStats.Key, BigDecimal> amounts = new HashMap<>();
+        for (Object[] row : statsRepository.findTotalsByDayAndStatus()) {
+            LocalDate day = LocalDate.parse(row[0].toString());
+            Booking.BookingStatus status = Booking.BookingStatus.valueOf(row[1].toString());
+            long count = Long.parseLong(row[2].toString());
+            BigDecimal amount = new BigDecimal(row[3].toString());
+            for (Granularity granularity : Granularity.values()) {
+                BookingPeriodStats.Key key = new BookingPeriodStats.Key(granularity, granularity.start(day), status);
+                counts.computeIfAbsent(key, k -> new long[1])[0] += count;
+                amounts.merge(key, amount, BigDecimal::add);
+            }
+        }
+        // One native insert per bucket: saveAll would merge the assigned ids, selecting each row first
+        Instant now = Instant.now();
+        counts.forEach((key, count) -> periodStatsRepository.applyDelta(key.getGranularity().name(),
+                key.getPeriodStart(), key.getStatus().name(), count[0], amounts.get(key), now));
+    }
+
+    // Read from the locked service row, not the booking's service entity, which may predate a category move
+    private CubeCell cubeCell(Booking booking) {
+        Object[] row = serviceRepository.findCubeCellForShare(booking.getService().getServiceId()).get(0);
+        return new CubeCell(((Number) row[0]).longValue(), (String) row[1]);
+    }
+
+    private void apply(Booking booking, CubeCell cell, LocalDate day, Booking.BookingStatus status, int sign) {
+        BigDecimal amount = sign > 0 ? booking.getTotalAmount() : booking.getTotalAmount().negate();
+        Instant now = Instant.now();
+        statsRepository.applyDelta(day,
+                booking.getService().getServiceId(),
+                booking.getCustomer().getUserId(),
+                status.name(),
+                booking.getService().getProvider().getUserId(),
+                sign,
+                amount,
+                now);
+        for (Granularity granularity : Granularity.values()) {
+            periodStatsRepository.applyDelta(granularity.name(), granularity.start(day), status.name(), sign,
+                    amount, now);
+        }
+        revenueCubeRepository.applyDelta(day,
+                cell.categoryId(),
+                cell.province(),
+                status.name(),
+                sign,
+                amount,
+                now);
+    }
+
+    private record CubeCell(Long categoryId, String province) {}
+}
@@ -0,0 +1,129 @@
+package com.fixitnow.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fixitnow.backend.event.CategoryChangedEvent;
+import com.fixitnow.backend.event.ServiceChangedEvent;
+import com.fixitnow.backend.event.ServicesImportedEvent;
+import com.fixitnow.backend.event.UserProfileChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the serialized (and gzip-compressed) JSON of read-mostly catalog
+ * responses, tagged with a catalog version that bumps on every service or
+ * category write. A snapshot is rebuilt lazily by the first request that sees
+ * a newer version; every other request is served from the stored bytes.
+ * Profile changes bump the version too, since entries embed provider names.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshots {
+
+    public static final String SERVICES = "services";
+    public static final String PROVINCES = "provinces";
+    public static final String CATEGORIES = "categories";
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+
+    public record Snapshot(long version, byte[] json, byte[] gzip, String etag) {
+
+        // Strong validators must differ per content-coding
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+
+    /**
+     * Return the snapshot for {@code key}, serializing {@code loader}'s result
+     * if the catalog changed since the snapshot was taken.
+     */
+    public Snapshot get(String key, Supplier<?> loader) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.version() == version.get()) {
+            return snapshot;
+        }
+        synchronized (buildLocks.computeIfAbsent(key, k -> new Object())) {
+            // Read the version before loading so a concurrent write forces another rebuild
+            long current = version.get();
+            snapshot = snapshots.get(key);
+            if (snapshot != null && snapshot.version() == current) {
+                return snapshot;
+            }
+            snapshot = build(current, loader.get());
+            snapshots.put(key, snapshot);
+            return snapshot;
+        }
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServicesImported(ServicesImportedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private Snapshot build(long atVersion, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new Snapshot(atVersion, json, gzip(json), "\"" + digest(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog snapshot", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
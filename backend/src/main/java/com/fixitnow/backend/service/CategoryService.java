@@ -1,7 +1,9 @@
 package com.fixitnow.backend.service;
 
+import com.fixitnow.backend.event.CategoryChangedEvent;
 import com.fixitnow.backend.model.ServiceCategory;
 import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,9 +12,11 @@ import java.util.List;
 public class CategoryService {
 
     private final ServiceCategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryService(ServiceCategoryRepository categoryRepository) {
+    public CategoryService(ServiceCategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<ServiceCategory> findAll() {
@@ -20,7 +24,9 @@ public class CategoryService {
     }
 
     public ServiceCategory create(ServiceCategory category) {
-        return categoryRepository.save(category);
+        ServiceCategory saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(CategoryChangedEvent.saved(saved.getCategoryId()));
+        return saved;
     }
 
     public ServiceCategory update(Long id, ServiceCategory updated) {
@@ -28,12 +34,14 @@ public class CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
         existing.setCategoryName(updated.getCategoryName());
         existing.setDescription(updated.getDescription());
-        return categoryRepository.save(existing);
+        ServiceCategory saved = categoryRepository.save(existing);
+        eventPublisher.publishEvent(CategoryChangedEvent.saved(saved.getCategoryId()));
+        return saved;
     }
 
     public void delete(Long id) {
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id));
     }
 }
 
-
@@ -0,0 +1,106 @@
+package com.fixitnow.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma-separated fields, double-quoted
+ * fields may contain commas, line breaks and doubled quotes. Holds one record
+ * in memory at a time, and refuses fields and records longer than the given
+ * limits, so a stray quote cannot pull the rest of the input into memory.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private final int maxFieldChars;
+    private final int maxRecordChars;
+    private int pending = -2; // one character of look-ahead, -2 when empty
+    private boolean started;
+
+    CsvRecordReader(Reader reader, int maxFieldChars, int maxRecordChars) {
+        this.reader = reader;
+        this.maxFieldChars = maxFieldChars;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * Next record, or {@code null} at end of input.
+     *
+     * @throws IllegalStateException if a quoted field is never closed
+     * @throws IllegalArgumentException if a field or the record is longer than the limits
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int recordChars = 0;
+        while (true) {
+            if (++recordChars > maxRecordChars) {
+                throw new IllegalArgumentException("Record is longer than " + maxRecordChars + " characters");
+            }
+            if (field.length() > maxFieldChars) {
+                throw new IllegalArgumentException("Field is longer than " + maxFieldChars + " characters");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalStateException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        unread(n);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
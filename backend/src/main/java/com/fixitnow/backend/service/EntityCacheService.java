@@ -0,0 +1,54 @@
+package com.fixitnow.backend.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.fixitnow.backend.controller.dto.ReportDtos.CacheRegionStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counters of Hibernate's second-level cache regions (categories, services,
+ * users and the query cache). Regions are invalidated by Hibernate on writes;
+ * {@link #evictAll()} is for changes made to the tables behind its back.
+ */
+@Service
+public class EntityCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public List<CacheRegionStats> getRegionStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> toResponse(name, statistics.getCacheRegionStatistics(name)))
+                .toList();
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private static CacheRegionStats toResponse(String region, CacheRegionStatistics s) {
+        long hits = s.getHitCount();
+        long misses = s.getMissCount();
+        long requests = hits + misses;
+        long inMemory = s.getElementCountInMemory();
+        return new CacheRegionStats(
+                region,
+                hits,
+                misses,
+                requests > 0 ? (double) hits / requests : 0.0,
+                s.getPutCount(),
+                inMemory >= 0 ? inMemory : null);
+    }
+}
@@ -0,0 +1,123 @@
+package com.fixitnow.backend.service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fixitnow.backend.controller.dto.ReviewDtos.ProviderRatingResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.RatedServiceResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.model.ProviderRatingStats;
+import com.fixitnow.backend.repository.ProviderRatingStatsRepository;
+import com.fixitnow.backend.repository.ReviewRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains per-provider rating aggregates (count, sum and a 1-5 histogram).
+ * The record* methods run inside the caller's review transaction, so the
+ * aggregate commits or rolls back together with the review itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProviderRatingService {
+
+    public static final int MAX_TOP_RATED = 100;
+
+    private final ProviderRatingStatsRepository statsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ServiceRepository serviceRepository;
+
+    public void recordAdded(Long providerId, int rating) {
+        long[] histogram = new long[6];
+        histogram[rating]++;
+        apply(providerId, 1, rating, histogram);
+    }
+
+    public void recordRemoved(Long providerId, int rating) {
+        long[] histogram = new long[6];
+        histogram[rating]--;
+        apply(providerId, -1, -rating, histogram);
+    }
+
+    public void recordChanged(Long providerId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        long[] histogram = new long[6];
+        histogram[oldRating]--;
+        histogram[newRating]++;
+        apply(providerId, 0, newRating - oldRating, histogram);
+    }
+
+    @Transactional(readOnly = true)
+    public ProviderRatingResponse getProviderRating(Long providerId) {
+        ProviderRatingStats stats = statsRepository.findById(providerId)
+                .orElseGet(() -> ProviderRatingStats.builder().providerId(providerId).build());
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, stats.getRating1());
+        histogram.put(2, stats.getRating2());
+        histogram.put(3, stats.getRating3());
+        histogram.put(4, stats.getRating4());
+        histogram.put(5, stats.getRating5());
+        return new ProviderRatingResponse(providerId, stats.getReviewCount(), stats.getAverageRating(), histogram);
+    }
+
+    /**
+     * Services ranked by their provider's average rating; providers need at
+     * least {@code minReviews} reviews to be ranked.
+     */
+    @Transactional(readOnly = true)
+    public List<RatedServiceResponse> getTopRatedServices(Long categoryId, long minReviews, int limit) {
+        if (limit < 1 || limit > MAX_TOP_RATED) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_RATED);
+        }
+        List<ServiceSummaryResponse> services = serviceRepository.findTopRatedSummaries(
+                categoryId, Math.max(1, minReviews), PageRequest.of(0, limit));
+        Map<Long, ProviderRatingStats> stats = statsRepository
+                .findAllById(services.stream().map(ServiceSummaryResponse::providerId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(ProviderRatingStats::getProviderId, Function.identity()));
+        return services.stream()
+                .map(service -> {
+                    ProviderRatingStats s = stats.get(service.providerId());
+                    return s != null
+                            ? new RatedServiceResponse(service, s.getAverageRating(), s.getReviewCount())
+                            : new RatedServiceResponse(service, null, 0);
+                })
+                .toList();
+    }
+
+    /**
+     * Fill the aggregates from existing reviews the first time the table is
+     * used. Called by {@link RollupBackfill} before the web server starts.
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (statsRepository.count() == 0 && reviewRepository.count() > 0) {
+            statsRepository.insertFromReviews(Instant.now());
+        }
+    }
+
+    /**
+     * Recompute the aggregates from the reviews table; returns the number of providers with reviews.
+     */
+    @Transactional
+    public int rebuild() {
+        statsRepository.deleteAllRows();
+        return statsRepository.insertFromReviews(Instant.now());
+    }
+
+    private void apply(Long providerId, long count, long sum, long[] histogram) {
+        statsRepository.applyDelta(providerId, count, sum,
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5], Instant.now());
+    }
+}
@@ -0,0 +1,193 @@
+package com.fixitnow.backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.fixitnow.backend.controller.dto.ReportDtos.ReportCacheStats;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Stale-while-revalidate cache for report results.
+ *
+ * A value younger than its TTL is returned as is. An older value is still
+ * returned immediately while one background load replaces it. Only a key
+ * that has never loaded makes the caller wait, and concurrent callers for
+ * the same key share a single load (single flight), so a burst of dashboard
+ * refreshes costs one query per report.
+ */
+@Component
+public class ReportCache {
+
+    // Distinct keys kept (report x parameters); the least recently loaded is dropped beyond this
+    public static final int MAX_ENTRIES = 256;
+
+    private record Loaded(Object value, long loadedAtNanos) {}
+
+    private static final class Entry {
+        volatile Loaded loaded;
+        final AtomicReference<CompletableFuture<Object>> inFlight = new AtomicReference<>();
+    }
+
+    private static final class Stats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder staleHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder loads = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder computeNanos = new LongAdder();
+        volatile Long lastComputeNanos;
+        volatile Instant lastRefresh;
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private final ExecutorService refresher = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "report-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Cached result of {@code loader} for {@code key}; {@code report} names the
+     * report method the statistics are recorded under.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String report, String key, Duration ttl, Supplier<T> loader) {
+        Stats reportStats = stats.computeIfAbsent(report, r -> new Stats());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            evictIfFull();
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+
+        Loaded current = entry.loaded;
+        if (current != null) {
+            if (System.nanoTime() - current.loadedAtNanos() < ttl.toNanos()) {
+                reportStats.hits.increment();
+            } else {
+                reportStats.staleHits.increment();
+                load(entry, reportStats, loader, true);
+            }
+            return (T) current.value();
+        }
+
+        reportStats.misses.increment();
+        try {
+            return (T) load(entry, reportStats, loader, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forget every cached value; the next request for each key loads afresh.
+     * Loads already running finish into entries that are no longer reachable,
+     * so a result read before the invalidation is never served after it.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public List<ReportCacheStats> getStats() {
+        return stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> toResponse(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // Starts a load unless one is already running for this entry; returns the load everyone shares
+    private CompletableFuture<Object> load(Entry entry, Stats reportStats, Supplier<?> loader, boolean background) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = entry.inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            return running;
+        }
+        Runnable task = () -> {
+            long start = System.nanoTime();
+            try {
+                Object value = loader.get();
+                long elapsed = System.nanoTime() - start;
+                entry.loaded = new Loaded(value, System.nanoTime());
+                reportStats.loads.increment();
+                reportStats.computeNanos.add(elapsed);
+                reportStats.lastComputeNanos = elapsed;
+                reportStats.lastRefresh = Instant.now();
+                mine.complete(value);
+            } catch (Throwable e) {
+                // Anything short of completing the future would leave the callers sharing it waiting forever
+                reportStats.failures.increment();
+                mine.completeExceptionally(e);
+            } finally {
+                entry.inFlight.set(null);
+            }
+        };
+        if (background) {
+            try {
+                refresher.execute(task);
+            } catch (RejectedExecutionException e) {
+                entry.inFlight.set(null);
+                mine.completeExceptionally(e);
+            }
+        } else {
+            task.run();
+        }
+        return mine;
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < MAX_ENTRIES) {
+            return;
+        }
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().loaded != null && e.getValue().inFlight.get() == null)
+                .min(Comparator.comparingLong(e -> e.getValue().loaded.loadedAtNanos()))
+                .ifPresent(e -> entries.remove(e.getKey(), e.getValue()));
+    }
+
+    private static ReportCacheStats toResponse(String report, Stats s) {
+        long hits = s.hits.sum();
+        long staleHits = s.staleHits.sum();
+        long misses = s.misses.sum();
+        long requests = hits + staleHits + misses;
+        long loads = s.loads.sum();
+        Long last = s.lastComputeNanos;
+        return new ReportCacheStats(
+                report,
+                hits,
+                staleHits,
+                misses,
+                requests > 0 ? (double) (hits + staleHits) / requests : 0.0,
+                loads,
+                s.failures.sum(),
+                last != null ? Duration.ofNanos(last).toMillis() : null,
+                loads > 0 ? s.computeNanos.sum() / 1_000_000.0 / loads : null,
+                s.lastRefresh != null ? s.lastRefresh.toString() : null);
+    }
+}
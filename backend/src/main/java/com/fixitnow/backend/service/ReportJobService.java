@@ -0,0 +1,254 @@
+package com.fixitnow.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingReportRow;
+import com.fixitnow.backend.model.ReportJob;
+import com.fixitnow.backend.repository.ReportJobRepository;
+
+/**
+ * Runs report exports in the background on the bounded report job pool and
+ * keeps each finished artifact on local disk until it expires. A request for
+ * the same format and date range as a job that is still queued or running
+ * gets that job back instead of a new one.
+ *
+ * Job rows record progress so clients can poll; artifacts are written to a
+ * temporary file and moved into place when complete, so a download never sees
+ * a partial file.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Set<ReportJob.Status> ACTIVE = EnumSet.of(ReportJob.Status.QUEUED, ReportJob.Status.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReportJobRepository reportJobRepository;
+    private final AdminReportService adminReportService;
+    private final ReportSections reportSections;
+    private final ReportPdfRenderer reportPdfRenderer;
+    private final ExecutorService executor;
+    private final Path directory;
+    private final Duration retention;
+
+    public ReportJobService(ReportJobRepository reportJobRepository,
+            AdminReportService adminReportService,
+            ReportSections reportSections,
+            ReportPdfRenderer reportPdfRenderer,
+            @Qualifier("reportJobExecutor") ExecutorService executor,
+            @Value("${app.reports.jobs.dir:${java.io.tmpdir}/fixitnow-reports}") String directory,
+            @Value("${app.reports.jobs.retention:24h}") Duration retention) {
+        this.reportJobRepository = reportJobRepository;
+        this.adminReportService = adminReportService;
+        this.reportSections = reportSections;
+        this.reportPdfRenderer = reportPdfRenderer;
+        this.executor = executor;
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+    }
+
+    /**
+     * Queue an export of bookings between {@code from} and {@code to}
+     * (inclusive), or return the identical job already in progress.
+     */
+    public ReportJob submit(ReportJob.Format format, LocalDate from, LocalDate to, String requestedBy) {
+        if (format == null || from == null || to == null) {
+            throw new IllegalArgumentException("format, from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        ReportJob job;
+        // Serialises the check-then-insert so concurrent identical requests share one job
+        synchronized (this) {
+            Optional<ReportJob> active = reportJobRepository.findFirstByFormatAndFromDateAndToDateAndStatusIn(
+                    format, from, to, ACTIVE);
+            if (active.isPresent()) {
+                return active.get();
+            }
+            job = reportJobRepository.save(ReportJob.builder()
+                    .jobId(UUID.randomUUID().toString())
+                    .format(format)
+                    .fromDate(from)
+                    .toDate(to)
+                    .status(ReportJob.Status.QUEUED)
+                    .requestedBy(requestedBy)
+                    .build());
+        }
+
+        String jobId = job.getJobId();
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            fail(job, "Report queue is full");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Report queue is full, try again later");
+        }
+        return job;
+    }
+
+    public Optional<ReportJob> getJob(String jobId) {
+        return reportJobRepository.findById(jobId);
+    }
+
+    public List<ReportJob> getRecentJobs() {
+        return reportJobRepository.findTop50ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * The finished artifact of a completed job, if it has not expired yet.
+     */
+    public Optional<Path> getArtifact(ReportJob job) {
+        if (job.getStatus() != ReportJob.Status.COMPLETED) {
+            return Optional.empty();
+        }
+        Path file = artifactPath(job);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    public String fileName(ReportJob job) {
+        return "admin-report-" + job.getFromDate() + "-to-" + job.getToDate() + "."
+                + job.getFormat().name().toLowerCase();
+    }
+
+    /**
+     * Jobs that were queued or running when the application stopped will
+     * never finish; mark them failed so clients stop polling.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        for (ReportJob job : reportJobRepository.findByStatusIn(ACTIVE)) {
+            fail(job, "Interrupted by a restart");
+        }
+    }
+
+    /**
+     * Delete expired jobs together with their artifacts.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.cleanup-interval:15m}")
+    public void purgeExpired() {
+        for (ReportJob job : reportJobRepository.findByExpiresAtBefore(Instant.now())) {
+            try {
+                Files.deleteIfExists(artifactPath(job));
+            } catch (IOException e) {
+                // Keep the row so the next sweep retries the delete
+                continue;
+            }
+            reportJobRepository.delete(job);
+        }
+    }
+
+    private void run(String jobId) {
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        job.setStatus(ReportJob.Status.RUNNING);
+        job.setStartedAt(Instant.now());
+        job = reportJobRepository.save(job);
+
+        Path file = artifactPath(job);
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                if (job.getFormat() == ReportJob.Format.PDF) {
+                    reportPdfRenderer.render(reportSections.fetchSummary(job.getFromDate(), job.getToDate()),
+                            job.getFromDate(), job.getToDate(), out);
+                } else {
+                    writeCsv(job, out);
+                }
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Instant now = Instant.now();
+            job.setStatus(ReportJob.Status.COMPLETED);
+            job.setSizeBytes(Files.size(file));
+            job.setCompletedAt(now);
+            job.setExpiresAt(now.plus(retention));
+            reportJobRepository.save(job);
+        } catch (Exception e) {
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // The expiry sweep only removes finished artifacts; a stray .part file is harmless
+            }
+            fail(job, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void writeCsv(ReportJob job, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("bookingId,bookingDate,status,totalAmount,service,customer,provider\n");
+        try {
+            adminReportService.forEachBooking(job.getFromDate(), job.getToDate(), (BookingReportRow row) -> {
+                try {
+                    writer.write(row.bookingId() + "," + row.bookingDate() + "," + row.status() + ","
+                            + row.totalAmount().toPlainString() + "," + csv(row.serviceTitle()) + ","
+                            + csv(row.customerName()) + "," + csv(row.providerName()) + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // Quote a field when it contains a delimiter, quote or line break. Titles and names are user input, so text
+    // a spreadsheet would run as a formula (leading =, +, -, @, tab or CR) is prefixed with an apostrophe first
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private void fail(ReportJob job, String error) {
+        Instant now = Instant.now();
+        job.setStatus(ReportJob.Status.FAILED);
+        job.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        job.setCompletedAt(now);
+        job.setExpiresAt(now.plus(retention));
+        reportJobRepository.save(job);
+    }
+
+    private Path artifactPath(ReportJob job) {
+        return directory.resolve(job.getJobId() + "." + job.getFormat().name().toLowerCase());
+    }
+}
@@ -0,0 +1,350 @@
+package com.fixitnow.backend.service;
+
+import java.awt.Color;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingReportRow;
+import com.fixitnow.backend.service.ReportSections.Section;
+import com.fixitnow.backend.service.ReportSections.SummaryReport;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Renders the admin summary PDF straight into an output stream (the HTTP
+ * response), so pages reach the client as they are completed and the
+ * document is never held in memory as a whole.
+ *
+ * Fonts, colours and the header rows of every table are built once and
+ * shared; each request copies a table template instead of rebuilding it.
+ * The optional detail section lists every booking of a period: its table is
+ * added incrementally, so only a small batch of rows is in memory at a time.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportPdfRenderer {
+
+    // Rows buffered in the detail table before they are laid out and written
+    private static final int DETAIL_FLUSH_ROWS = 100;
+
+    private static final Color BRAND_BLUE = new Color(25, 118, 210);
+    private static final Color ZEBRA = new Color(245, 248, 255);
+    private static final Color TOTAL_BG = new Color(230, 240, 255);
+    private static final Color[] STATUS_COLORS = {
+        new Color(224, 242, 254), // light blue
+        new Color(220, 252, 231), // light green
+        new Color(254, 240, 138), // light yellow
+        new Color(204, 251, 241), // light cyan
+        new Color(254, 226, 226)  // light red
+    };
+
+    private static final Font TITLE_FONT = new Font(Font.HELVETICA, 22, Font.BOLD, BRAND_BLUE);
+    private static final Font SUB_FONT = new Font(Font.HELVETICA, 12);
+    private static final Font LOGO_FONT = new Font(Font.HELVETICA, 14, Font.BOLD);
+    private static final Font H_FONT = new Font(Font.HELVETICA, 16, Font.BOLD, BRAND_BLUE);
+    private static final Font TH_FONT = new Font(Font.HELVETICA, 11, Font.BOLD);
+    private static final Font TD_FONT = new Font(Font.HELVETICA, 11);
+    private static final Font TOP_FONT = new Font(Font.HELVETICA, 11, Font.BOLD, new Color(16, 185, 129));
+    private static final Font SMALL_FONT = new Font(Font.HELVETICA, 9);
+    private static final Font FOOTER_FONT = new Font(Font.HELVETICA, 9);
+
+    private static final DateTimeFormatter FOOTER_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter DETAIL_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final PdfPTable REVENUE_TABLE = template(new float[] { 3f, 2f }, "Date", "Revenue");
+    private static final PdfPTable STATUS_TABLE = template(new float[] { 3f, 1.5f }, "Status", "Count");
+    private static final PdfPTable SERVICES_TABLE = template(new float[] { 4f, 1.5f }, "Service Name", "Bookings");
+    private static final PdfPTable PROVIDERS_TABLE = template(new float[] { 3f, 2f, 2f }, "Provider", "Completed", "Avg. Rating");
+    private static final PdfPTable CUSTOMERS_TABLE = template(new float[] { 3.5f, 1.5f }, "Customer", "Bookings");
+    private static final PdfPTable DETAIL_TABLE = template(new float[] { 2.2f, 3f, 2.4f, 2.4f, 1.8f, 1.4f },
+            "Date", "Service", "Customer", "Provider", "Status", "Amount");
+
+    private final AdminReportService adminReportService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Write the summary report, followed by every booking scheduled between
+     * {@code detailFrom} and {@code detailTo} (inclusive) when both are set.
+     * Timed as {@code reports.pdf.export}, tagged by detail and outcome; for a
+     * streamed export that includes the time the client takes to read it.
+     */
+    public void render(SummaryReport report, LocalDate detailFrom, LocalDate detailTo, OutputStream out)
+            throws DocumentException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            write(report, detailFrom, detailTo, out);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("reports.pdf.export")
+                    .description("Admin summary PDF rendering")
+                    .tag("detail", String.valueOf(detailFrom != null && detailTo != null))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void write(SummaryReport report, LocalDate detailFrom, LocalDate detailTo, OutputStream out)
+            throws DocumentException {
+        Document document = new Document(PageSize.A4, 36, 36, 54, 54);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        // The servlet container owns the response stream
+        writer.setCloseStream(false);
+        writer.setPageEvent(new Footer(LocalDateTime.now()));
+
+        document.open();
+        addTitlePage(document);
+        document.newPage();
+
+        // A ranged summary names its range; the default one keeps its fixed windows
+        String range = report.from() != null ? " (" + report.from() + " to " + report.to() + ")" : "";
+        addSectionHeader(document, report.from() != null ? "Revenue Report" + range : "Revenue Report (Last 30 Days)");
+        if (report.revenue().available()) {
+            addRevenue(document, report.revenue().data());
+        } else {
+            addUnavailable(document, report.revenue());
+        }
+        document.add(new Paragraph(" "));
+
+        addSectionHeader(document, "Booking Status Distribution" + range);
+        if (report.status().available()) {
+            addStatus(document, report.status().data());
+        } else {
+            addUnavailable(document, report.status());
+        }
+        document.add(new Paragraph(" "));
+
+        addSectionHeader(document, "Top Services" + range);
+        if (report.topServices().available()) {
+            addTopServices(document, report.topServices().data());
+        } else {
+            addUnavailable(document, report.topServices());
+        }
+        document.add(new Paragraph(" "));
+
+        addSectionHeader(document, "Provider Performance" + range);
+        if (report.topProviders().available()) {
+            addProviders(document, report.topProviders().data());
+        } else {
+            addUnavailable(document, report.topProviders());
+        }
+        document.add(new Paragraph(" "));
+
+        addSectionHeader(document, "Top Customers" + range);
+        if (report.topCustomers().available()) {
+            addCustomers(document, report.topCustomers().data());
+        } else {
+            addUnavailable(document, report.topCustomers());
+        }
+
+        if (detailFrom != null && detailTo != null) {
+            document.newPage();
+            addBookingDetail(document, detailFrom, detailTo);
+        }
+
+        document.close();
+    }
+
+    private void addTitlePage(Document document) throws DocumentException {
+        Paragraph title = new Paragraph("FixIt Now - Admin Reports", TITLE_FONT);
+        title.setAlignment(Element.ALIGN_CENTER);
+        title.setSpacingBefore(180);
+        document.add(title);
+
+        Paragraph logoPh = new Paragraph("[ Logo ]", LOGO_FONT);
+        logoPh.setAlignment(Element.ALIGN_CENTER);
+        logoPh.setSpacingBefore(10);
+        document.add(logoPh);
+
+        Paragraph datePh = new Paragraph("Date: " + LocalDate.now(), SUB_FONT);
+        datePh.setAlignment(Element.ALIGN_CENTER);
+        datePh.setSpacingBefore(10);
+        document.add(datePh);
+    }
+
+    private void addRevenue(Document document, List<Map<String, Object>> revenue) throws DocumentException {
+        PdfPTable table = new PdfPTable(REVENUE_TABLE);
+        BigDecimal total = BigDecimal.ZERO;
+        boolean zebraToggle = false;
+        for (Map<String, Object> r : revenue) {
+            BigDecimal val = new BigDecimal(String.valueOf(r.get("revenue")));
+            total = total.add(val);
+            addBodyCell(table, String.valueOf(r.get("date")), TD_FONT, zebraToggle ? ZEBRA : Color.WHITE);
+            addBodyCell(table, val.toPlainString(), TD_FONT, zebraToggle ? ZEBRA : Color.WHITE);
+            zebraToggle = !zebraToggle;
+        }
+        // Total row
+        PdfPCell totalCell = new PdfPCell(new Phrase("Total", TH_FONT));
+        totalCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        totalCell.setBackgroundColor(TOTAL_BG);
+        table.addCell(totalCell);
+        PdfPCell totalValCell = new PdfPCell(new Phrase(total.toPlainString(), TH_FONT));
+        totalValCell.setBackgroundColor(TOTAL_BG);
+        table.addCell(totalValCell);
+        document.add(table);
+    }
+
+    private void addStatus(Document document, List<Map<String, Object>> status) throws DocumentException {
+        PdfPTable table = new PdfPTable(STATUS_TABLE);
+        int colorIndex = 0;
+        for (Map<String, Object> s : status) {
+            Color bg = STATUS_COLORS[colorIndex % STATUS_COLORS.length];
+            addBodyCell(table, String.valueOf(s.get("status")), TD_FONT, bg);
+            addBodyCell(table, String.valueOf(s.get("count")), TD_FONT, bg);
+            colorIndex++;
+        }
+        document.add(table);
+    }
+
+    private void addTopServices(Document document, List<Map<String, Object>> topServices) throws DocumentException {
+        PdfPTable table = new PdfPTable(SERVICES_TABLE);
+        boolean zebraToggle = false;
+        boolean first = true;
+        for (Map<String, Object> s : topServices) {
+            Color bg = zebraToggle ? ZEBRA : Color.WHITE;
+            Font cellFont = first ? TOP_FONT : TD_FONT;
+            addBodyCell(table, String.valueOf(s.get("serviceName")), cellFont, bg);
+            addBodyCell(table, String.valueOf(s.get("count")), cellFont, bg);
+            zebraToggle = !zebraToggle;
+            first = false;
+        }
+        document.add(table);
+    }
+
+    private void addProviders(Document document, List<Map<String, Object>> topProviders) throws DocumentException {
+        PdfPTable table = new PdfPTable(PROVIDERS_TABLE);
+        boolean zebraToggle = false;
+        for (Map<String, Object> p : topProviders) {
+            Color bg = zebraToggle ? ZEBRA : Color.WHITE;
+            addBodyCell(table, String.valueOf(p.get("providerName")), TD_FONT, bg);
+            addBodyCell(table, String.valueOf(p.get("completedCount")), TD_FONT, bg);
+            int stars = (int) Math.round(Double.parseDouble(String.valueOf(p.get("avgRating"))));
+            String starStr = stars <= 0 ? "-" : "★".repeat(Math.max(1, Math.min(stars, 5)));
+            addBodyCell(table, starStr, TD_FONT, bg);
+            zebraToggle = !zebraToggle;
+        }
+        document.add(table);
+    }
+
+    private void addCustomers(Document document, List<Map<String, Object>> topCustomers) throws DocumentException {
+        PdfPTable table = new PdfPTable(CUSTOMERS_TABLE);
+        boolean zebraToggle = false;
+        for (Map<String, Object> c : topCustomers) {
+            Color bg = zebraToggle ? ZEBRA : Color.WHITE;
+            addBodyCell(table, String.valueOf(c.get("customerName")), TD_FONT, bg);
+            addBodyCell(table, String.valueOf(c.get("count")), TD_FONT, bg);
+            zebraToggle = !zebraToggle;
+        }
+        document.add(table);
+    }
+
+    // Incomplete tables are laid out and dropped from memory each time they are added
+    private void addBookingDetail(Document document, LocalDate from, LocalDate to) throws DocumentException {
+        addSectionHeader(document, "Bookings " + from + " to " + to);
+        PdfPTable table = new PdfPTable(DETAIL_TABLE);
+        table.setComplete(false);
+
+        long[] count = new long[1];
+        BigDecimal[] total = { BigDecimal.ZERO };
+        adminReportService.forEachBooking(from, to, (BookingReportRow row) -> {
+            Color bg = count[0] % 2 == 1 ? ZEBRA : Color.WHITE;
+            addBodyCell(table, DETAIL_TIME.format(row.bookingDate()), SMALL_FONT, bg);
+            addBodyCell(table, row.serviceTitle(), SMALL_FONT, bg);
+            addBodyCell(table, row.customerName(), SMALL_FONT, bg);
+            addBodyCell(table, row.providerName(), SMALL_FONT, bg);
+            addBodyCell(table, row.status().name(), SMALL_FONT, bg);
+            addBodyCell(table, row.totalAmount().toPlainString(), SMALL_FONT, bg);
+            count[0]++;
+            total[0] = total[0].add(row.totalAmount());
+            if (count[0] % DETAIL_FLUSH_ROWS == 0) {
+                try {
+                    document.add(table);
+                } catch (DocumentException e) {
+                    throw new ExceptionConverter(e);
+                }
+            }
+        });
+
+        table.setComplete(true);
+        document.add(table);
+
+        Paragraph summary = new Paragraph(count[0] + " bookings, total amount " + total[0].toPlainString(), TH_FONT);
+        summary.setSpacingBefore(6);
+        document.add(summary);
+    }
+
+    private static void addUnavailable(Document document, Section section) throws DocumentException {
+        Paragraph p = new Paragraph("This section is unavailable (" + section.error() + ").", TD_FONT);
+        p.setSpacingAfter(6);
+        document.add(p);
+    }
+
+    private static void addSectionHeader(Document document, String text) throws DocumentException {
+        Paragraph h = new Paragraph(text, H_FONT);
+        h.setSpacingBefore(10);
+        h.setSpacingAfter(6);
+        document.add(h);
+    }
+
+    // Full-width table whose header row repeats on every page it spans
+    private static PdfPTable template(float[] widths, String... headers) {
+        PdfPTable table = new PdfPTable(widths);
+        table.setWidthPercentage(100);
+        for (String header : headers) {
+            PdfPCell cell = new PdfPCell(new Phrase(header, TH_FONT));
+            cell.setBackgroundColor(BRAND_BLUE);
+            cell.setHorizontalAlignment(Element.ALIGN_LEFT);
+            cell.setPadding(6);
+            table.addCell(cell);
+        }
+        table.setHeaderRows(1);
+        return table;
+    }
+
+    private static void addBodyCell(PdfPTable table, String text, Font font, Color bg) {
+        PdfPCell cell = new PdfPCell(new Phrase(text, font));
+        cell.setBackgroundColor(bg);
+        cell.setHorizontalAlignment(Element.ALIGN_LEFT);
+        cell.setPadding(6);
+        table.addCell(cell);
+    }
+
+    // Page number and generation time at the bottom of every page
+    private static final class Footer extends PdfPageEventHelper {
+
+        private final String generated;
+
+        Footer(LocalDateTime generatedAt) {
+            this.generated = FOOTER_TIME.format(generatedAt);
+        }
+
+        @Override
+        public void onEndPage(PdfWriter writer, Document document) {
+            String footer = "Page " + writer.getPageNumber() + "  •  Generated " + generated;
+            ColumnText.showTextAligned(writer.getDirectContent(), Element.ALIGN_CENTER, new Phrase(footer, FOOTER_FONT),
+                    (document.right() - document.left()) / 2 + document.leftMargin(), document.bottom() - 10, 0);
+        }
+    }
+}
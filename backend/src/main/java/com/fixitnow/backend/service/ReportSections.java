@@ -0,0 +1,142 @@
+package com.fixitnow.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the sections of the admin summary report concurrently on the
+ * bounded report executor. Every section gets the same deadline measured from
+ * the start of the fetch; a section that fails or misses it is reported as
+ * unavailable instead of failing the whole report.
+ */
+@Component
+public class ReportSections {
+
+    // One fetched section; data is null when error is set
+    public record Section(String name, List<Map<String, Object>> data, long durationNanos, String error) {
+
+        public boolean available() {
+            return error == null;
+        }
+    }
+
+    // from and to are null for the default summary: revenue of the last 30 days, everything else all-time
+    public record SummaryReport(
+            LocalDate from,
+            LocalDate to,
+            Section revenue,
+            Section status,
+            Section topServices,
+            Section topProviders,
+            Section topCustomers
+    ) {
+        public List<Section> all() {
+            return List.of(revenue, status, topServices, topProviders, topCustomers);
+        }
+    }
+
+    private final AdminReportService adminReportService;
+    private final ExecutorService executor;
+    private final Duration sectionTimeout;
+
+    public ReportSections(AdminReportService adminReportService,
+            @Qualifier("reportExecutor") ExecutorService executor,
+            @Value("${app.reports.section-timeout:10s}") Duration sectionTimeout) {
+        this.adminReportService = adminReportService;
+        this.executor = executor;
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    public SummaryReport fetchSummary() {
+        Map<String, Supplier<List<Map<String, Object>>>> sections = new LinkedHashMap<>();
+        sections.put("revenue", adminReportService::getRevenueLast30Days);
+        sections.put("status", adminReportService::getStatusDistribution);
+        sections.put("topServices", adminReportService::getTopServices);
+        sections.put("topProviders", adminReportService::getTopProviders);
+        sections.put("topCustomers", adminReportService::getTopCustomers);
+        return summary(null, null, fetch(sections));
+    }
+
+    /**
+     * The summary with every section limited to bookings scheduled in
+     * [from, to], e.g. to head a report of that range's bookings.
+     */
+    public SummaryReport fetchSummary(LocalDate from, LocalDate to) {
+        Map<String, Supplier<List<Map<String, Object>>>> sections = new LinkedHashMap<>();
+        sections.put("revenue", () -> adminReportService.getRevenue(from, to));
+        sections.put("status", () -> adminReportService.getStatusDistribution(from, to));
+        sections.put("topServices", () -> adminReportService.getTopServices(from, to));
+        sections.put("topProviders", () -> adminReportService.getTopProviders(from, to));
+        sections.put("topCustomers", () -> adminReportService.getTopCustomers(from, to));
+        return summary(from, to, fetch(sections));
+    }
+
+    private static SummaryReport summary(LocalDate from, LocalDate to, List<Section> results) {
+        return new SummaryReport(from, to, results.get(0), results.get(1), results.get(2), results.get(3),
+                results.get(4));
+    }
+
+    private List<Section> fetch(Map<String, Supplier<List<Map<String, Object>>>> sections) {
+        long start = System.nanoTime();
+        long deadline = start + sectionTimeout.toNanos();
+
+        List<String> names = new ArrayList<>(sections.keySet());
+        List<Future<Section>> futures = new ArrayList<>();
+        for (Map.Entry<String, Supplier<List<Map<String, Object>>>> section : sections.entrySet()) {
+            try {
+                futures.add(executor.submit(() -> run(section.getKey(), section.getValue())));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        List<Section> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<Section> future = futures.get(i);
+            String name = names.get(i);
+            if (future == null) {
+                results.add(new Section(name, null, 0, "report executor is busy"));
+                continue;
+            }
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.add(new Section(name, null, System.nanoTime() - start,
+                        "timed out after " + sectionTimeout.toMillis() + " ms"));
+            } catch (ExecutionException e) {
+                results.add(new Section(name, null, System.nanoTime() - start, String.valueOf(e.getCause())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.stream().skip(i).filter(f -> f != null).forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Interrupted while fetching report sections", e);
+            }
+        }
+        return results;
+    }
+
+    private static Section run(String name, Supplier<List<Map<String, Object>>> supplier) {
+        long start = System.nanoTime();
+        try {
+            return new Section(name, supplier.get(), System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            return new Section(name, null, System.nanoTime() - start,
+                    e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fixitnow.backend.controller.dto.ReportDtos.RevenueCubeCell;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.model.BookingRevenueCube;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Slices and rolls up the booking_revenue_cube (day x category x province x
+ * status). Filters restrict any dimension; the result is grouped by the
+ * requested dimensions plus, optionally, a day/week/month time bucket. The
+ * database groups by day, and weeks and months are folded from those rows,
+ * so no query touches bookings or services.
+ */
+@org.springframework.stereotype.Service
+public class RevenueCubeService {
+
+    public enum Dimension {
+        CATEGORY, PROVINCE, STATUS
+    }
+
+    // Cells returned by one query; narrower filters or fewer dimensions keep results below this
+    public static final int MAX_CELLS = 10_000;
+
+    // Day-level rows read for one query before weeks and months are folded
+    public static final int MAX_ROWS = 200_000;
+
+    public static final Duration CUBE_TTL = Duration.ofMinutes(1);
+
+    private final EntityManager entityManager;
+    private final ServiceCategoryRepository categoryRepository;
+    private final ReportCache reportCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RevenueCubeService(EntityManager entityManager, ServiceCategoryRepository categoryRepository,
+            ReportCache reportCache, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.categoryRepository = categoryRepository;
+        this.reportCache = reportCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Booking count and amount grouped by {@code dimensions} and, when
+     * {@code granularity} is set, by time bucket. Empty filter collections and
+     * null bounds leave that dimension unrestricted.
+     */
+    public List<RevenueCubeCell> query(Collection<Dimension> dimensions, Granularity granularity,
+            LocalDate from, LocalDate to, Collection<Long> categoryIds, Collection<String> provinces,
+            Collection<Booking.BookingStatus> statuses) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        Set<Dimension> groupBy = dimensions == null || dimensions.isEmpty()
+                ? EnumSet.noneOf(Dimension.class) : EnumSet.copyOf(dimensions);
+        Set<Long> categoryFilter = categoryIds == null ? Set.of() : new TreeSet<>(categoryIds);
+        Set<String> provinceFilter = provinces == null ? Set.of() : new TreeSet<>(provinces);
+        Set<Booking.BookingStatus> statusFilter = statuses == null || statuses.isEmpty()
+                ? EnumSet.noneOf(Booking.BookingStatus.class) : EnumSet.copyOf(statuses);
+
+        String key = "cube:" + groupBy + ":" + granularity + ":" + from + ":" + to + ":" + categoryFilter
+                + ":" + provinceFilter + ":" + statusFilter;
+        return reportCache.get("cube", key, CUBE_TTL, () -> readOnlyTransaction.execute(status ->
+                load(groupBy, granularity, from, to, categoryFilter, provinceFilter, statusFilter)));
+    }
+
+    private List<RevenueCubeCell> load(Set<Dimension> groupBy, Granularity granularity, LocalDate from,
+            LocalDate to, Set<Long> categoryIds, Set<String> provinces, Set<Booking.BookingStatus> statuses) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BookingRevenueCube> root = query.from(BookingRevenueCube.class);
+        Path<LocalDate> day = root.get("id").get("statDate");
+        Path<Long> category = root.get("id").get("categoryId");
+        Path<String> province = root.get("id").get("province");
+        Path<Booking.BookingStatus> status = root.get("id").get("status");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(day, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(day, to));
+        }
+        if (!categoryIds.isEmpty()) {
+            predicates.add(category.in(categoryIds));
+        }
+        if (!provinces.isEmpty()) {
+            predicates.add(province.in(provinces));
+        }
+        if (!statuses.isEmpty()) {
+            predicates.add(status.in(statuses));
+        }
+
+        List<Expression<?>> groups = new ArrayList<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        if (granularity != null) {
+            groups.add(day);
+            selections.add(day.alias("day"));
+        }
+        if (groupBy.contains(Dimension.CATEGORY)) {
+            groups.add(category);
+            selections.add(category.alias("category"));
+        }
+        if (groupBy.contains(Dimension.PROVINCE)) {
+            groups.add(province);
+            selections.add(province.alias("province"));
+        }
+        if (groupBy.contains(Dimension.STATUS)) {
+            groups.add(status);
+            selections.add(status.alias("status"));
+        }
+        selections.add(cb.sum(root.<Long>get("bookingCount")).alias("bookingCount"));
+        selections.add(cb.sum(root.<BigDecimal>get("totalAmount")).alias("totalAmount"));
+        query.multiselect(selections).where(predicates.toArray(Predicate[]::new)).groupBy(groups);
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(MAX_ROWS + 1).getResultList();
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("Query covers too many cells; narrow the range or filters");
+        }
+
+        // Fold day rows into the requested buckets (a no-op for DAY and for no time dimension)
+        Map<CellKey, long[]> counts = new LinkedHashMap<>();
+        Map<CellKey, BigDecimal> amounts = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            CellKey cell = new CellKey(
+                    granularity != null ? granularity.start(row.get("day", LocalDate.class)) : null,
+                    groupBy.contains(Dimension.CATEGORY) ? row.get("category", Long.class) : null,
+                    groupBy.contains(Dimension.PROVINCE) ? row.get("province", String.class) : null,
+                    groupBy.contains(Dimension.STATUS) ? row.get("status", Booking.BookingStatus.class) : null);
+            Number count = row.get("bookingCount", Number.class);
+            BigDecimal amount = row.get("totalAmount", BigDecimal.class);
+            counts.computeIfAbsent(cell, k -> new long[1])[0] += count != null ? count.longValue() : 0L;
+            amounts.merge(cell, amount != null ? amount : BigDecimal.ZERO, BigDecimal::add);
+        }
+        if (counts.size() > MAX_CELLS) {
+            throw new IllegalArgumentException("Query returns more than " + MAX_CELLS
+                    + " cells; use fewer dimensions or a coarser granularity");
+        }
+
+        Map<Long, String> categoryNames = groupBy.contains(Dimension.CATEGORY)
+                ? categoryRepository.findAllById(counts.keySet().stream().map(CellKey::categoryId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+                        .collect(Collectors.toMap(ServiceCategory::getCategoryId, ServiceCategory::getCategoryName))
+                : Map.of();
+
+        // Cells whose bookings all moved to another day or status remain as zero rows
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue()[0] != 0)
+                .map(e -> new RevenueCubeCell(
+                        e.getKey().periodStart(),
+                        e.getKey().categoryId(),
+                        e.getKey().categoryId() != null
+                                ? categoryNames.getOrDefault(e.getKey().categoryId(), "Unknown") : null,
+                        e.getKey().province(),
+                        e.getKey().status(),
+                        e.getValue()[0],
+                        amounts.get(e.getKey())))
+                .sorted(Comparator.comparing(RevenueCubeCell::periodStart, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(RevenueCubeCell::totalAmount, Comparator.reverseOrder())
+                        .thenComparing(RevenueCubeCell::categoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(RevenueCubeCell::province, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(RevenueCubeCell::status, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    private record CellKey(LocalDate periodStart, Long categoryId, String province, Booking.BookingStatus status) {
+    }
+}
@@ -1,28 +1,47 @@
 package com.fixitnow.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fixitnow.backend.config.ReadYourWrites;
+import com.fixitnow.backend.controller.dto.ReviewDtos.ProviderRatingResponse;
+import com.fixitnow.backend.controller.dto.ReviewDtos.ReviewPage;
+import com.fixitnow.backend.controller.dto.ReviewDtos.ReviewResponse;
 import com.fixitnow.backend.model.Booking;
 import com.fixitnow.backend.model.Review;
 import com.fixitnow.backend.model.User;
 import com.fixitnow.backend.repository.BookingRepository;
 import com.fixitnow.backend.repository.ReviewRepository;
 import com.fixitnow.backend.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 1000;
+
     private final ReviewRepository reviewRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final ProviderRatingService providerRatingService;
+    private final ObjectMapper objectMapper;
+    private final ReadYourWrites readYourWrites;
 
     @Transactional
-    public Review addReview(Long bookingId, Long customerId, Long providerId, int rating, String comment) {
+    public ReviewResponse addReview(Long bookingId, Long customerId, Long providerId, int rating, String comment) {
+        if (rating < 1 || rating > 5) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Rating must be between 1 and 5");
+        }
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
         if (booking.getStatus() != Booking.BookingStatus.COMPLETED) {
@@ -39,23 +58,60 @@ public class ReviewService {
                 .rating(rating)
                 .comment(comment)
                 .build();
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        providerRatingService.recordAdded(providerId, rating);
+        readYourWrites.recordWrite(customer.getEmail(), provider.getEmail());
+        return new ReviewResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public ProviderRatingResponse getProviderRating(Long providerId) {
+        return providerRatingService.getProviderRating(providerId);
     }
 
-    public List<Review> getReviewsByProvider(Long providerId) {
-        return reviewRepository.findByProviderUserIdOrderByCreatedAtDesc(providerId);
+    @Transactional(readOnly = true)
+    public ReviewPage getReviewsByProvider(Long providerId, int size, String cursor) {
+        checkPageSize(size);
+        return page(reviewRepository.findPageByProvider(providerId, decodeCursor(cursor), Limit.of(size + 1)), size);
     }
 
-    public List<Review> getReviewsByCustomer(Long customerId) {
-        return reviewRepository.findByCustomerUserIdOrderByCreatedAtDesc(customerId);
+    @Transactional(readOnly = true)
+    public ReviewPage getReviewsByCustomer(Long customerId, int size, String cursor) {
+        checkPageSize(size);
+        return page(reviewRepository.findPageByCustomer(customerId, decodeCursor(cursor), Limit.of(size + 1)), size);
     }
 
-    public List<Review> getAllReviews() {
-        return reviewRepository.findAll();
+    @Transactional(readOnly = true)
+    public ReviewPage getAllReviews(int size, String cursor) {
+        checkPageSize(size);
+        return page(reviewRepository.findPage(decodeCursor(cursor), Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Write every review as one JSON object per line, newest first. Reads in
+     * keyset chunks so neither the database nor the heap holds more than one
+     * chunk at a time. One read-only transaction spans the export so it reads
+     * a consistent view (from the replica when one is configured).
+     */
+    @Transactional(readOnly = true)
+    public void streamAllReviews(OutputStream out) throws IOException {
+        long beforeId = Long.MAX_VALUE;
+        while (true) {
+            List<ReviewResponse> chunk = reviewRepository.findPage(beforeId, Limit.of(STREAM_CHUNK_SIZE));
+            for (ReviewResponse review : chunk) {
+                out.write(objectMapper.writeValueAsBytes(review));
+                out.write('\n');
+            }
+            out.flush();
+            if (chunk.size() < STREAM_CHUNK_SIZE) {
+                return;
+            }
+            beforeId = chunk.get(chunk.size() - 1).reviewId();
+        }
     }
 
     @Transactional
-    public Review updateReview(Long reviewId, int rating, String comment) {
+    public ReviewResponse updateReview(Long reviewId, int rating, String comment) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
         
@@ -69,10 +125,14 @@ public class ReviewService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Comment cannot be empty");
         }
         
+        int previousRating = review.getRating();
         review.setRating(rating);
         review.setComment(comment.trim());
         
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        providerRatingService.recordChanged(review.getProvider().getUserId(), previousRating, rating);
+        readYourWrites.recordWrite(review.getCustomer().getEmail(), review.getProvider().getEmail());
+        return new ReviewResponse(saved);
     }
 
     @Transactional
@@ -81,6 +141,36 @@ public class ReviewService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
         
         reviewRepository.delete(review);
+        providerRatingService.recordRemoved(review.getProvider().getUserId(), review.getRating());
+        readYourWrites.recordWrite(review.getCustomer().getEmail(), review.getProvider().getEmail());
     }
-}
 
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Fetches size + 1 rows; the extra row only signals that another page exists
+    private static ReviewPage page(List<ReviewResponse> rows, int size) {
+        if (rows.size() <= size) {
+            return new ReviewPage(rows, null);
+        }
+        List<ReviewResponse> items = rows.subList(0, size);
+        String next = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(items.get(size - 1).reviewId()).getBytes(StandardCharsets.UTF_8));
+        return new ReviewPage(items, next);
+    }
+
+    // Cursor (base64url) holds the last reviewId of the previous page
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
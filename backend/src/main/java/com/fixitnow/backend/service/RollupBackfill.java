@@ -0,0 +1,26 @@
+package com.fixitnow.backend.service;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fills empty rollups (booking stats, rating aggregates) from their source
+ * tables. Runs once every singleton exists but before the web server starts,
+ * so no booking or review can commit between the emptiness check and the
+ * INSERT ... SELECT and then be counted a second time by its own delta.
+ */
+@Component
+@RequiredArgsConstructor
+public class RollupBackfill implements SmartInitializingSingleton {
+
+    private final BookingStatsService bookingStatsService;
+    private final ProviderRatingService providerRatingService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        bookingStatsService.backfillIfEmpty();
+        providerRatingService.backfillIfEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fixitnow.backend.controller.dto.ServiceDtos.BrowseSort;
+import com.fixitnow.backend.controller.dto.ServiceDtos.CategoryFacet;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ProvinceFacet;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseRequest;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceFacets;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceSpecifications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ServiceBrowseService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Filter, sort and keyset-paginate services in the database, returning one
+     * page together with category and province facet counts.
+     */
+    public ServiceBrowseResponse browse(ServiceBrowseRequest request) {
+        if (request.size() < 1 || request.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (request.minPrice() != null && request.maxPrice() != null
+                && request.minPrice().compareTo(request.maxPrice()) > 0) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        BrowseSort sort = request.sort() != null ? request.sort() : BrowseSort.NEWEST;
+
+        // Filters that do not take part in faceting
+        Specification<Service> common = Specification.allOf(
+                ServiceSpecifications.priceBetween(request.minPrice(), request.maxPrice()),
+                ServiceSpecifications.hasAvailability(request.availability()),
+                ServiceSpecifications.hasProvider(request.providerId()));
+
+        Specification<Service> pageSpec = Specification.allOf(
+                common,
+                ServiceSpecifications.hasCategory(request.categoryId()),
+                ServiceSpecifications.inProvince(request.province()),
+                keysetAfter(sort, request.cursor()));
+
+        List<ServiceSummaryResponse> rows = page(pageSpec, sort, request.size() + 1);
+
+        String nextCursor = null;
+        if (rows.size() > request.size()) {
+            rows = rows.subList(0, request.size());
+            nextCursor = encodeCursor(sort, rows.get(rows.size() - 1));
+        }
+
+        return new ServiceBrowseResponse(rows, nextCursor, facets(common, request.categoryId(), request.province()));
+    }
+
+    /**
+     * Select one page of summaries with a constructor projection, so the
+     * description LOB is never read.
+     */
+    private List<ServiceSummaryResponse> page(Specification<Service> spec, BrowseSort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServiceSummaryResponse> query = cb.createQuery(ServiceSummaryResponse.class);
+        Root<Service> root = query.from(Service.class);
+        Join<Service, ServiceCategory> category = root.join("category");
+        Join<Service, User> provider = root.join("provider");
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(ServiceSummaryResponse.class,
+                root.get("serviceId"),
+                root.get("serviceTitle"),
+                root.get("descriptionSnippet"),
+                category.get("categoryId"),
+                category.get("categoryName"),
+                root.get("price"),
+                root.get("availabilityStatus"),
+                provider.get("userId"),
+                provider.get("fullName"),
+                root.get("createdAt"),
+                root.get("province")));
+        query.orderBy(switch (sort) {
+            case NEWEST -> List.of(cb.desc(root.get("serviceId")));
+            case PRICE_ASC -> List.of(cb.asc(root.get("price")), cb.asc(root.get("serviceId")));
+            case PRICE_DESC -> List.of(cb.desc(root.get("price")), cb.desc(root.get("serviceId")));
+        });
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Count services per (category, province) pair in a single GROUP BY and fold
+     * the result into both facets. Each facet honours every filter except its
+     * own dimension, so the client can show counts for alternative selections.
+     */
+    private ServiceFacets facets(Specification<Service> common, Long categoryId, String province) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Service> root = query.from(Service.class);
+        Join<Service, ServiceCategory> category = root.join("category");
+
+        Predicate predicate = common.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(
+                category.get("categoryId"),
+                category.get("categoryName"),
+                root.get("province"),
+                cb.count(root));
+        query.groupBy(category.get("categoryId"), category.get("categoryName"), root.get("province"));
+
+        boolean provinceSelected = province != null && !province.isBlank();
+        Map<Long, CategoryFacet> categories = new LinkedHashMap<>();
+        Map<String, Long> provinces = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            Long rowCategoryId = row.get(0, Long.class);
+            String rowCategoryName = row.get(1, String.class);
+            String rowProvince = row.get(2, String.class);
+            long count = row.get(3, Long.class);
+
+            if (!provinceSelected || Objects.equals(province, rowProvince)) {
+                categories.merge(rowCategoryId, new CategoryFacet(rowCategoryId, rowCategoryName, count),
+                        (a, b) -> new CategoryFacet(a.categoryId(), a.categoryName(), a.count() + b.count()));
+            }
+            if (categoryId == null || categoryId.equals(rowCategoryId)) {
+                provinces.merge(rowProvince, count, Long::sum);
+            }
+        }
+
+        List<CategoryFacet> categoryFacets = new ArrayList<>(categories.values());
+        categoryFacets.sort(Comparator.comparingLong(CategoryFacet::count).reversed());
+        List<ProvinceFacet> provinceFacets = new ArrayList<>();
+        provinces.forEach((name, count) -> provinceFacets.add(new ProvinceFacet(name, count)));
+        provinceFacets.sort(Comparator.comparingLong(ProvinceFacet::count).reversed());
+        return new ServiceFacets(categoryFacets, provinceFacets);
+    }
+
+    // Cursor format (base64url): "<serviceId>" for NEWEST, "<price>:<serviceId>" for price sorts
+
+    private Specification<Service> keysetAfter(BrowseSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (sort == BrowseSort.NEWEST) {
+                return ServiceSpecifications.idBefore(Long.parseLong(decoded));
+            }
+            int sep = decoded.indexOf(':');
+            BigDecimal price = new BigDecimal(decoded.substring(0, sep));
+            Long serviceId = Long.parseLong(decoded.substring(sep + 1));
+            return sort == BrowseSort.PRICE_ASC
+                    ? ServiceSpecifications.priceAfter(price, serviceId)
+                    : ServiceSpecifications.priceBefore(price, serviceId);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private String encodeCursor(BrowseSort sort, ServiceSummaryResponse last) {
+        String raw = sort == BrowseSort.NEWEST
+                ? String.valueOf(last.serviceId())
+                : last.price().toPlainString() + ":" + last.serviceId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
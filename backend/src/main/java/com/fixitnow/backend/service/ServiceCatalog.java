@@ -0,0 +1,322 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fixitnow.backend.controller.dto.ServiceDtos.BrowseSort;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.event.CategoryChangedEvent;
+import com.fixitnow.backend.event.ServiceChangedEvent;
+import com.fixitnow.backend.event.ServicesImportedEvent;
+import com.fixitnow.backend.event.UserProfileChangedEvent;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.repository.ServiceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-optimized, in-memory copy of the public service catalog, held as list
+ * summaries (description snippets only).
+ *
+ * Each service occupies the bit at its id in one bitmap per category, province
+ * and availability status, so a filter combination is a handful of
+ * {@link BitSet#and} calls. Prices live in a parallel pair of primitive arrays
+ * sorted by (price, id) that answer range filters by binary search and provide
+ * price ordering without sorting at query time.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceCatalog {
+
+    private final ServiceRepository serviceRepository;
+
+    // Price filters beyond this many cents match every price or none; clamped so the +1 below cannot overflow
+    private static final BigDecimal MAX_FILTER_PRICE = BigDecimal.valueOf(Long.MAX_VALUE - 1, 2);
+    private static final BigDecimal MIN_FILTER_PRICE = BigDecimal.valueOf(Long.MIN_VALUE, 2);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Services changed while a rebuild was reading; re-read once the rebuilt catalog is in place
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    private final Map<Long, ServiceSummaryResponse> entries = new HashMap<>();
+    private final BitSet all = new BitSet();
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byProvince = new HashMap<>();
+    private final Map<Service.AvailabilityStatus, BitSet> byAvailability = new EnumMap<>(Service.AvailabilityStatus.class);
+
+    // Price index: sortedPrices[i] / sortedIds[i] ordered by (price, id), first `size` slots in use
+    private long[] sortedPrices = new long[0];
+    private int[] sortedIds = new int[0];
+    private int size;
+
+    public record CatalogQuery(
+            Long categoryId,
+            String province,
+            Service.AvailabilityStatus availability,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            BrowseSort sort,
+            int limit
+    ) {}
+
+    /**
+     * Rebuild the whole catalog from the database. Single changes applied
+     * while the rows are being read are replayed afterwards, so the older
+     * snapshot cannot overwrite them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rebuilding = true;
+        List<ServiceSummaryResponse> services = serviceRepository.findAllSummaries();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            all.clear();
+            byCategory.clear();
+            byProvince.clear();
+            byAvailability.clear();
+            sortedPrices = new long[Math.max(16, services.size())];
+            sortedIds = new int[sortedPrices.length];
+            size = 0;
+            for (ServiceSummaryResponse service : services) {
+                addEntry(service);
+            }
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Long serviceId : changedDuringRebuild) {
+            changedDuringRebuild.remove(serviceId);
+            refresh(serviceId, false);
+        }
+    }
+
+    /**
+     * Apply a single service write; runs after commit when published inside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        refresh(event.serviceId(), event.deleted());
+    }
+
+    /**
+     * A provider's name is part of each of their entries; re-read them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        List<ServiceSummaryResponse> services = serviceRepository.findSummariesByProviderId(event.userId());
+        if (rebuilding) {
+            services.forEach(service -> changedDuringRebuild.add(service.serviceId()));
+        }
+        lock.writeLock().lock();
+        try {
+            for (ServiceSummaryResponse service : services) {
+                ServiceSummaryResponse previous = entries.get(service.serviceId());
+                if (previous != null) {
+                    removeEntry(previous);
+                }
+                addEntry(service);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServicesImported(ServicesImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Category renames change every entry of that category; categories change
+     * rarely enough that a full rebuild is the simplest correct refresh.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Resolve a filter combination by bitmap intersection.
+     */
+    public List<ServiceSummaryResponse> find(CatalogQuery query) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) all.clone();
+            if (query.categoryId() != null) {
+                matches.and(byCategory.getOrDefault(query.categoryId(), new BitSet()));
+            }
+            if (query.province() != null && !query.province().isBlank()) {
+                matches.and(byProvince.getOrDefault(query.province(), new BitSet()));
+            }
+            if (query.availability() != null) {
+                matches.and(byAvailability.getOrDefault(query.availability(), new BitSet()));
+            }
+
+            int from = query.minPrice() != null ? lowerBound(filterCents(query.minPrice())) : 0;
+            int to = query.maxPrice() != null ? lowerBound(filterCents(query.maxPrice()) + 1) : size;
+            if (from > 0 || to < size) {
+                BitSet inRange = new BitSet();
+                for (int i = from; i < to; i++) {
+                    inRange.set(sortedIds[i]);
+                }
+                matches.and(inRange);
+            }
+
+            int limit = query.limit() > 0 ? query.limit() : Integer.MAX_VALUE;
+            List<ServiceSummaryResponse> result = new ArrayList<>(Math.min(matches.cardinality(), Math.min(limit, 1024)));
+            BrowseSort sort = query.sort() != null ? query.sort() : BrowseSort.NEWEST;
+            switch (sort) {
+                case NEWEST -> {
+                    for (int id = matches.length() - 1; id >= 0 && result.size() < limit; id = matches.previousSetBit(id - 1)) {
+                        result.add(entries.get((long) id));
+                    }
+                }
+                case PRICE_ASC -> {
+                    for (int i = from; i < to && result.size() < limit; i++) {
+                        if (matches.get(sortedIds[i])) {
+                            result.add(entries.get((long) sortedIds[i]));
+                        }
+                    }
+                }
+                case PRICE_DESC -> {
+                    for (int i = to - 1; i >= from && result.size() < limit; i--) {
+                        if (matches.get(sortedIds[i])) {
+                            result.add(entries.get((long) sortedIds[i]));
+                        }
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refresh(Long serviceId, boolean deleted) {
+        if (rebuilding) {
+            changedDuringRebuild.add(serviceId);
+        }
+        ServiceSummaryResponse fresh = deleted ? null : serviceRepository.findSummaryById(serviceId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            ServiceSummaryResponse previous = entries.get(serviceId);
+            if (previous != null) {
+                removeEntry(previous);
+            }
+            if (fresh != null) {
+                addEntry(fresh);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------- internals (callers hold the write lock) ----------
+
+    private void addEntry(ServiceSummaryResponse entry) {
+        int bit = Math.toIntExact(entry.serviceId());
+        entries.put(entry.serviceId(), entry);
+        all.set(bit);
+        byCategory.computeIfAbsent(entry.categoryId(), k -> new BitSet()).set(bit);
+        if (entry.province() != null) {
+            byProvince.computeIfAbsent(entry.province(), k -> new BitSet()).set(bit);
+        }
+        byAvailability.computeIfAbsent(entry.availabilityStatus(), k -> new BitSet()).set(bit);
+
+        long cents = toCents(entry.price());
+        int pos = insertionPoint(cents, bit);
+        if (size == sortedPrices.length) {
+            sortedPrices = Arrays.copyOf(sortedPrices, Math.max(16, size * 2));
+            sortedIds = Arrays.copyOf(sortedIds, sortedPrices.length);
+        }
+        System.arraycopy(sortedPrices, pos, sortedPrices, pos + 1, size - pos);
+        System.arraycopy(sortedIds, pos, sortedIds, pos + 1, size - pos);
+        sortedPrices[pos] = cents;
+        sortedIds[pos] = bit;
+        size++;
+    }
+
+    private void removeEntry(ServiceSummaryResponse entry) {
+        int bit = Math.toIntExact(entry.serviceId());
+        entries.remove(entry.serviceId());
+        all.clear(bit);
+        clearBit(byCategory, entry.categoryId(), bit);
+        if (entry.province() != null) {
+            clearBit(byProvince, entry.province(), bit);
+        }
+        clearBit(byAvailability, entry.availabilityStatus(), bit);
+
+        int pos = insertionPoint(toCents(entry.price()), bit);
+        if (pos < size && sortedIds[pos] == bit) {
+            System.arraycopy(sortedPrices, pos + 1, sortedPrices, pos, size - pos - 1);
+            System.arraycopy(sortedIds, pos + 1, sortedIds, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> index, K key, int bit) {
+        BitSet bits = index.get(key);
+        if (bits != null) {
+            bits.clear(bit);
+            if (bits.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // First slot whose (price, id) is >= the given pair
+    private int insertionPoint(long cents, int id) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedPrices[mid] < cents || (sortedPrices[mid] == cents && sortedIds[mid] < id)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First slot whose price is >= cents
+    private int lowerBound(long cents) {
+        return insertionPoint(cents, Integer.MIN_VALUE);
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long filterCents(BigDecimal price) {
+        return toCents(price.max(MIN_FILTER_PRICE).min(MAX_FILTER_PRICE));
+    }
+}
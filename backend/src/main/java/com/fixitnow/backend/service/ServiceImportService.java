@@ -0,0 +1,402 @@
+package com.fixitnow.backend.service;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ImportRowError;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceImportResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceImportRow;
+import com.fixitnow.backend.event.CategoryChangedEvent;
+import com.fixitnow.backend.event.ServicesImportedEvent;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+
+/**
+ * Streams a CSV or NDJSON upload of services for one provider. Rows are
+ * validated one at a time and valid ones are inserted with JDBC batches, one
+ * transaction per chunk, so memory stays bounded by the chunk size no matter
+ * how large the upload is. Uploads larger than
+ * {@code app.services.import.max-size}, and CSV fields or records (NDJSON
+ * lines) beyond fixed lengths, stop the import with an
+ * {@link IllegalArgumentException}; chunks committed before that point stay.
+ */
+@org.springframework.stereotype.Service
+public class ServiceImportService {
+
+    public static final int CHUNK_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    // A description fits a TEXT column; a record holds a few such fields at most
+    public static final int MAX_FIELD_CHARS = 65_535;
+    public static final int MAX_RECORD_CHARS = 4 * MAX_FIELD_CHARS;
+
+    private static final String INSERT_SQL = "INSERT INTO services (provider_id, category_id, service_title, "
+            + "service_description, description_snippet, province, price, availability_status, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ServiceCategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxBytes;
+
+    // Category id by lower-cased name and by id; dropped whenever a category changes
+    private volatile Map<String, Long> categoryLookup;
+
+    public ServiceImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            ServiceCategoryRepository categoryRepository, ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.services.import.max-size:50MB}") DataSize maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    // A validated row ready for insertion
+    private record ValidRow(Long categoryId, String title, String description, BigDecimal price,
+            Service.AvailabilityStatus status, String province) {}
+
+    public ServiceImportResponse importServices(User provider, InputStream body, Format format) throws IOException {
+        Map<String, Long> categories = categories();
+        Import run = new Import(provider.getUserId(), categories);
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new LimitedInputStream(body, maxBytes), StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+            run.flush();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Import stopped at row " + (run.rows + 1) + ": " + e.getMessage()
+                    + "; " + run.imported + " rows before it were imported", e);
+        } finally {
+            // Chunks already committed must reach the catalog even if the rest of the upload was refused
+            if (run.imported > 0) {
+                eventPublisher.publishEvent(new ServicesImportedEvent(provider.getUserId(), (int) run.imported));
+            }
+        }
+        return new ServiceImportResponse(run.rows, run.imported, run.failed, run.errors,
+                run.failed > run.errors.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        categoryLookup = null;
+    }
+
+    private void readCsv(BufferedReader reader, Import run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, MAX_FIELD_CHARS, MAX_RECORD_CHARS);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV upload is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("serviceTitle", "price", "province")) {
+            if (!columns.containsKey(required.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        if (!columns.containsKey("categoryid") && !columns.containsKey("categoryname")) {
+            throw new IllegalArgumentException("CSV header needs a categoryId or categoryName column");
+        }
+
+        while (true) {
+            List<String> fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalStateException e) {
+                // The rest of the input belongs to the broken field; nothing after it can be read
+                run.reject(++run.rows, e.getMessage());
+                return;
+            }
+            if (fields == null) {
+                return;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long row = ++run.rows;
+            try {
+                String categoryId = field(fields, columns, "categoryid");
+                String price = field(fields, columns, "price");
+                run.accept(row, new ServiceImportRow(
+                        field(fields, columns, "servicetitle"),
+                        field(fields, columns, "servicedescription"),
+                        categoryId != null ? Long.valueOf(categoryId) : null,
+                        field(fields, columns, "categoryname"),
+                        price != null ? new BigDecimal(price) : null,
+                        field(fields, columns, "availabilitystatus"),
+                        field(fields, columns, "province")));
+            } catch (NumberFormatException e) {
+                run.reject(row, "Invalid number in categoryId or price");
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Import run) throws IOException {
+        String line;
+        while ((line = readLine(reader)) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = ++run.rows;
+            try {
+                run.accept(row, objectMapper.readValue(line, ServiceImportRow.class));
+            } catch (JsonProcessingException e) {
+                run.reject(row, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // BufferedReader.readLine without a length limit would buffer a newline-free upload whole
+    private static String readLine(BufferedReader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() == MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("Line is longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            line.append((char) c);
+        }
+        if (c == -1 && line.isEmpty()) {
+            return null;
+        }
+        int end = line.length();
+        return end > 0 && line.charAt(end - 1) == '\r' ? line.substring(0, end - 1) : line.toString();
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Map<String, Long> categories() {
+        Map<String, Long> lookup = categoryLookup;
+        if (lookup == null) {
+            lookup = new HashMap<>();
+            for (ServiceCategory category : categoryRepository.findAll()) {
+                lookup.put("#" + category.getCategoryId(), category.getCategoryId());
+                lookup.put(category.getCategoryName().toLowerCase(Locale.ROOT), category.getCategoryId());
+            }
+            categoryLookup = lookup;
+        }
+        return lookup;
+    }
+
+    /**
+     * State of one import: the current chunk, counters and the capped error list.
+     */
+    private class Import {
+
+        private final Long providerId;
+        private final Map<String, Long> categories;
+        private final List<ValidRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long failed;
+
+        Import(Long providerId, Map<String, Long> categories) {
+            this.providerId = providerId;
+            this.categories = categories;
+        }
+
+        void accept(long row, ServiceImportRow input) {
+            String error = validate(input);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+            chunk.add(new ValidRow(
+                    resolveCategory(input),
+                    input.serviceTitle().trim(),
+                    input.serviceDescription(),
+                    input.price(),
+                    input.availabilityStatus() != null
+                            ? Service.AvailabilityStatus.valueOf(input.availabilityStatus().trim().toUpperCase(Locale.ROOT))
+                            : Service.AvailabilityStatus.AVAILABLE,
+                    input.province().trim()));
+            chunkRows.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Timestamp now = Timestamp.from(Instant.now());
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                ValidRow row = chunk.get(i);
+                                ps.setLong(1, providerId);
+                                ps.setLong(2, row.categoryId());
+                                ps.setString(3, row.title());
+                                if (row.description() != null) {
+                                    ps.setString(4, row.description());
+                                } else {
+                                    ps.setNull(4, Types.CLOB);
+                                }
+                                ps.setString(5, Service.snippetOf(row.description()));
+                                ps.setString(6, row.province());
+                                ps.setBigDecimal(7, row.price());
+                                ps.setString(8, row.status().name());
+                                ps.setTimestamp(9, now, Calendar.getInstance(UTC));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        }));
+                imported += chunk.size();
+            } catch (DataAccessException e) {
+                // The whole chunk rolled back; report each of its rows
+                for (Long row : chunkRows) {
+                    reject(row, "Database error: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        private String validate(ServiceImportRow input) {
+            if (input.serviceTitle() == null || input.serviceTitle().isBlank()) {
+                return "serviceTitle is required";
+            }
+            if (input.serviceTitle().trim().length() > 150) {
+                return "serviceTitle cannot exceed 150 characters";
+            }
+            if (input.price() == null || input.price().signum() <= 0) {
+                return "price must be greater than 0";
+            }
+            if (input.price().scale() > 2 || input.price().precision() - input.price().scale() > 8) {
+                return "price must have at most 8 integer digits and 2 decimals";
+            }
+            if (input.province() == null || input.province().isBlank()) {
+                return "province is required";
+            }
+            if (input.province().trim().length() > 100) {
+                return "province cannot exceed 100 characters";
+            }
+            if (input.availabilityStatus() != null
+                    && !Service.isValidAvailabilityStatus(input.availabilityStatus().trim().toUpperCase(Locale.ROOT))) {
+                return "availabilityStatus must be AVAILABLE or UNAVAILABLE";
+            }
+            if (resolveCategory(input) == null) {
+                return "Unknown category";
+            }
+            return null;
+        }
+
+        private Long resolveCategory(ServiceImportRow input) {
+            if (input.categoryId() != null) {
+                return categories.get("#" + input.categoryId());
+            }
+            if (input.categoryName() != null) {
+                return categories.get(input.categoryName().trim().toLowerCase(Locale.ROOT));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Fails the read once more than {@code max} bytes have come through.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long max;
+        private long read;
+
+        LimitedInputStream(InputStream in, long max) {
+            super(in);
+            this.max = max;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > max) {
+                throw new IllegalArgumentException("Upload is larger than " + max + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fixitnow.backend.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fixitnow.backend.repository.ServiceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fills {@code description_snippet} for services saved before the column
+ * existed. Runs before the catalog is built so list views never see a
+ * missing snippet.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceSnippetBackfill {
+
+    private final ServiceRepository serviceRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfill() {
+        serviceRepository.backfillDescriptionSnippets();
+    }
+}
@@ -0,0 +1,78 @@
+package com.fixitnow.backend.service;
+
+import com.fixitnow.backend.controller.ServiceController.UpdateServiceRequest;
+import com.fixitnow.backend.event.ServiceChangedEvent;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Applies a provider's edit to one of their services. The save and the move
+ * of the service's bookings to its new category's revenue cube cells commit
+ * together, with the service row locked so no booking write interleaves.
+ */
+@org.springframework.stereotype.Service
+public class ServiceUpdateService {
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceCategoryRepository categoryRepository;
+    private final BookingStatsService bookingStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ServiceUpdateService(ServiceRepository serviceRepository, ServiceCategoryRepository categoryRepository,
+            BookingStatsService bookingStatsService, ApplicationEventPublisher eventPublisher) {
+        this.serviceRepository = serviceRepository;
+        this.categoryRepository = categoryRepository;
+        this.bookingStatsService = bookingStatsService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * The updated service, or empty when the provider has no service with this
+     * id. An invalid category or availability status is an
+     * IllegalArgumentException, and nothing is changed.
+     */
+    @Transactional
+    public Optional<Service> update(Long serviceId, User provider, UpdateServiceRequest request) {
+        Optional<Service> serviceOpt = serviceRepository.findByServiceIdAndProviderForUpdate(serviceId, provider);
+        if (serviceOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Service service = serviceOpt.get();
+        Long previousCategoryId = service.getCategory().getCategoryId();
+
+        if (request.getServiceTitle() != null) {
+            service.setServiceTitle(request.getServiceTitle());
+        }
+        if (request.getServiceDescription() != null) {
+            service.setServiceDescription(request.getServiceDescription());
+        }
+        if (request.getCategoryId() != null) {
+            ServiceCategory category = categoryRepository.findById(request.getCategoryId())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid category ID"));
+            service.setCategory(category);
+        }
+        if (request.getPrice() != null) {
+            service.setPrice(request.getPrice());
+        }
+        if (request.getAvailabilityStatus() != null) {
+            try {
+                service.setAvailabilityStatus(Service.AvailabilityStatus.valueOf(request.getAvailabilityStatus()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid availability status. Must be AVAILABLE or UNAVAILABLE");
+            }
+        }
+
+        Service updatedService = serviceRepository.save(service);
+        bookingStatsService.recordCategoryChanged(updatedService, previousCategoryId);
+        eventPublisher.publishEvent(ServiceChangedEvent.saved(updatedService.getServiceId()));
+        return Optional.of(updatedService);
+    }
+}
@@ -0,0 +1,133 @@
+package com.fixitnow.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Space-Saving heavy-hitters summary (Metwally et al.) over long keys.
+ *
+ * Holds at most {@code capacity} counters. A key that is not tracked when the
+ * summary is full takes over the smallest counter and inherits its count as
+ * error, so every estimate is an overestimate by at most its error, and that
+ * error is at most total / capacity. Any key seen more than total / capacity
+ * times is guaranteed to be tracked. Not thread-safe.
+ */
+public final class SpaceSaving {
+
+    /**
+     * Estimated count of one key; the true count lies in [count - error, count].
+     */
+    public record Estimate(long key, long count, long error) {
+
+        public long guaranteedCount() {
+            return count - error;
+        }
+    }
+
+    private final int capacity;
+    // key -> {count, error}
+    private final Map<Long, long[]> counters = new HashMap<>();
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(long key) {
+        add(key, 1);
+    }
+
+    public void add(long key, long weight) {
+        total += weight;
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0] += weight;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new long[] {weight, 0});
+            return;
+        }
+        Map.Entry<Long, long[]> smallest = smallest();
+        long floor = smallest.getValue()[0];
+        counters.remove(smallest.getKey());
+        counters.put(key, new long[] {floor + weight, floor});
+    }
+
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Largest count an untracked key can have: the smallest counter once the
+     * summary is full, 0 before that.
+     */
+    public long untrackedBound() {
+        return counters.size() < capacity ? 0 : smallest().getValue()[0];
+    }
+
+    public List<Estimate> top(int limit) {
+        return counters.entrySet().stream()
+                .map(e -> new Estimate(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .sorted(ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Top keys across several summaries of disjoint streams, e.g. one per day.
+     * A key missing from a full summary may still have occurred there up to
+     * that summary's {@link #untrackedBound()} times, which is added to both
+     * its count and its error, keeping estimates upper bounds.
+     */
+    public static List<Estimate> mergeTop(Collection<SpaceSaving> summaries, int limit) {
+        Set<Long> keys = new HashSet<>();
+        summaries.forEach(s -> keys.addAll(s.counters.keySet()));
+        long[] bounds = summaries.stream().mapToLong(SpaceSaving::untrackedBound).toArray();
+
+        List<Estimate> merged = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            long count = 0;
+            long error = 0;
+            int i = 0;
+            for (SpaceSaving summary : summaries) {
+                long[] counter = summary.counters.get(key);
+                if (counter != null) {
+                    count += counter[0];
+                    error += counter[1];
+                } else {
+                    count += bounds[i];
+                    error += bounds[i];
+                }
+                i++;
+            }
+            merged.add(new Estimate(key, count, error));
+        }
+        merged.sort(ORDER);
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+
+    private static final Comparator<Estimate> ORDER = Comparator.comparingLong(Estimate::count).reversed()
+            .thenComparingLong(Estimate::error)
+            .thenComparingLong(Estimate::key);
+
+    // Linear in capacity; only runs when an untracked key arrives at a full summary
+    private Map.Entry<Long, long[]> smallest() {
+        Map.Entry<Long, long[]> smallest = null;
+        for (Map.Entry<Long, long[]> entry : counters.entrySet()) {
+            if (smallest == null || entry.getValue()[0] < smallest.getValue()[0]) {
+                smallest = entry;
+            }
+        }
+        return smallest;
+    }
+}
@@ -0,0 +1,587 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fixitnow.backend.model.Booking.BookingStatus;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the database with synthetic users, categories, services, bookings
+ * and reviews at a chosen scale, for performance work against realistic
+ * volumes. Only active with the {@code datagen} profile.
+ *
+ * Rows are added next to whatever the tables already hold, with ids after
+ * the current maximum. Users and services are registered before the booking
+ * history starts; bookings spread over {@code historyDays} with volume
+ * growing towards today, plus a few weeks ahead, and cover every booking
+ * status. Service and customer popularity follow Zipf distributions, so a
+ * few services and customers account for a large share of the bookings;
+ * popular services therefore get some bookings in the same slot, which the
+ * API itself would refuse. About {@code reviewShare} of completed bookings
+ * get a review. Every user shares one password ({@code app.datagen.password}),
+ * hashed once.
+ *
+ * Rows go in as multi-row INSERTs (see {@link MultiRowInsert}), one
+ * transaction per chunk, with chunks spread over {@code app.datagen.threads}
+ * workers. Each chunk draws from its own random stream split from the seed,
+ * so the same seed and scale give the same data whatever the thread count.
+ * The booking rollups and rating aggregates are rebuilt at the end.
+ */
+@Slf4j
+@org.springframework.stereotype.Service
+@Profile("datagen")
+public class SyntheticDataGenerator {
+
+    /**
+     * How much to generate. {@code providerShare} of the users are providers,
+     * the rest customers; one admin is added on top.
+     */
+    public record Scale(int users, double providerShare, int servicesPerProvider, long bookings,
+            double reviewShare, int historyDays, double serviceSkew, double customerSkew, long seed) {
+
+        public Scale {
+            if (users < 2 || servicesPerProvider < 1 || bookings < 0 || historyDays < 1) {
+                throw new IllegalArgumentException(
+                        "users must be at least 2, servicesPerProvider and historyDays positive, bookings not negative");
+            }
+            if (providerShare <= 0 || providerShare >= 1 || reviewShare < 0 || reviewShare > 1) {
+                throw new IllegalArgumentException("providerShare must be in (0, 1) and reviewShare in [0, 1]");
+            }
+        }
+
+        int providers() {
+            return (int) Math.max(1, Math.min(users - 1, Math.round(users * providerShare)));
+        }
+
+        int customers() {
+            return users - providers();
+        }
+    }
+
+    public record Summary(long users, int categories, long services, long bookings, long reviews, Duration elapsed) {}
+
+    // ---------- vocabulary ----------
+
+    private record CategorySpec(String name, int basePrice, String noun) {}
+
+    private static final List<CategorySpec> CATEGORIES = List.of(
+            new CategorySpec("Plumbing", 3500, "plumbing"),
+            new CategorySpec("Electrical", 4000, "electrical work"),
+            new CategorySpec("Cleaning", 2500, "home cleaning"),
+            new CategorySpec("Carpentry", 5000, "carpentry"),
+            new CategorySpec("Painting", 6000, "painting"),
+            new CategorySpec("AC Servicing", 4500, "AC servicing"),
+            new CategorySpec("Appliance Repair", 4500, "appliance repair"),
+            new CategorySpec("Gardening", 2000, "gardening"),
+            new CategorySpec("Pest Control", 5500, "pest control"),
+            new CategorySpec("Moving", 8000, "moving"),
+            new CategorySpec("Roofing", 9000, "roofing"),
+            new CategorySpec("Tutoring", 2000, "tutoring"));
+
+    // Rough share of listings per province; Western dominates as it does in practice
+    private static final String[] PROVINCES = {"Western", "Central", "Southern", "North Western", "Sabaragamuwa",
+            "Eastern", "Uva", "North Central", "Northern"};
+    private static final double[] PROVINCE_WEIGHTS = {35, 12, 12, 10, 8, 7, 6, 5, 5};
+
+    private static final String[] FIRST_NAMES = {"Nuwan", "Kasun", "Chamara", "Dilani", "Ishara", "Tharindu",
+            "Sachini", "Ruwan", "Nadeesha", "Amal", "Priyanka", "Lahiru", "Shehan", "Gayani", "Mahesh", "Anjali",
+            "Dinesh", "Hiruni", "Sanjaya", "Malsha", "Ravindu", "Thilini", "Asela", "Kavindi"};
+    private static final String[] LAST_NAMES = {"Perera", "Fernando", "Silva", "Jayasinghe", "Bandara",
+            "Wickramasinghe", "Dissanayake", "Rathnayake", "Gunawardena", "Herath", "Senanayake", "Karunaratne",
+            "Wijesinghe", "Ekanayake", "Rajapaksha", "Samarasinghe"};
+    private static final String[] TITLE_PREFIXES = {"Reliable", "Express", "Affordable", "Professional", "Same-day",
+            "Trusted", "Budget", "Premium", "Quick", "Expert"};
+    private static final String[] DESCRIPTION_SENTENCES = {
+            "Fully equipped team with over ten years of experience.",
+            "All work is guaranteed for ninety days.",
+            "Free inspection and quotation before any work starts.",
+            "Available on weekends and public holidays.",
+            "We bring our own tools and clean up afterwards.",
+            "Prices include labour; materials are charged at cost.",
+            "Emergency call-outs are handled within two hours in the city limits.",
+            "Trained and insured staff, references available on request.",
+            "Eco-friendly materials used wherever possible.",
+            "Discounts for repeat customers and long-term contracts."};
+    private static final String[] SPECIAL_REQUESTS = {"Please call before arriving.",
+            "Gate code will be shared on the day.", "Parking is available on the road only.",
+            "Please bring extra materials just in case.", "Morning visit preferred.",
+            "There is a dog in the garden."};
+    private static final String[] STREETS = {"Galle Road", "Kandy Road", "Temple Road", "Station Road", "Lake Drive",
+            "Hospital Road", "Main Street", "Church Lane", "Park Avenue", "School Lane"};
+    private static final String[] CITIES = {"Colombo", "Kandy", "Galle", "Negombo", "Kurunegala", "Ratnapura",
+            "Batticaloa", "Badulla", "Anuradhapura", "Jaffna", "Matara", "Gampaha"};
+    private static final String[][] REVIEW_COMMENTS = {
+            {},
+            {"Did not turn up on time and the job was left unfinished.", "Very poor work, had to call someone else."},
+            {"The work was done but needed a second visit.", "Below expectations for the price."},
+            {"Okay job, nothing special.", "Work was fine but communication could be better."},
+            {"Good work and arrived on time.", "Friendly and tidy, would book again."},
+            {"Excellent service, highly recommended!", "Quick, professional and fairly priced."}};
+    // Rating mix before each provider's quality shifts it (index = stars)
+    private static final double[] RATING_WEIGHTS = {0, 6, 5, 11, 30, 48};
+
+    // Bookings per chunk, and so per transaction, are this many statements' worth
+    private static final int STATEMENTS_PER_CHUNK = 20;
+    private static final int FUTURE_DAYS = 45;
+    private static final double FUTURE_SHARE = 0.06;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final BookingStatsService bookingStatsService;
+    private final ProviderRatingService providerRatingService;
+    private final int rowsPerInsert;
+    private final int threads;
+    private final String password;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder, BookingStatsService bookingStatsService,
+            ProviderRatingService providerRatingService,
+            @Value("${app.datagen.rows-per-insert:500}") int rowsPerInsert,
+            @Value("${app.datagen.threads:4}") int threads,
+            @Value("${app.datagen.password:datagen}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.bookingStatsService = bookingStatsService;
+        this.providerRatingService = providerRatingService;
+        this.rowsPerInsert = rowsPerInsert;
+        this.threads = threads;
+        this.password = password;
+    }
+
+    public Summary generate(Scale scale) {
+        long started = System.nanoTime();
+        Plan plan = new Plan(scale, Instant.now());
+        log.info("Generating {} users ({} providers), {} services, {} bookings into {}", scale.users(),
+                scale.providers(), plan.services, scale.bookings(), databaseName());
+
+        List<Long> categoryIds = ensureCategories();
+        long users = insertUsers(plan);
+        long services = insertServices(plan, categoryIds);
+        long[] bookingsAndReviews = insertBookings(plan);
+        realignIdentities();
+
+        log.info("Rebuilding booking rollups and rating aggregates");
+        bookingStatsService.rebuild();
+        providerRatingService.rebuild();
+
+        Summary summary = new Summary(users, categoryIds.size(), services, bookingsAndReviews[0],
+                bookingsAndReviews[1], Duration.ofNanos(System.nanoTime() - started));
+        log.info("Generated {} in {} s; every user's password is '{}', admin: admin{}@datagen.fixitnow.local",
+                summary, summary.elapsed().toSeconds(), password, plan.adminId());
+        return summary;
+    }
+
+    // ---------- plan: ids, and what bookings need to know about users and services ----------
+
+    /**
+     * Id ranges and per-service attributes, fixed before any row is written
+     * so bookings can reference users and services without reading them back.
+     * Users: providers first, then customers, then the admin.
+     */
+    private final class Plan {
+
+        final Scale scale;
+        final Instant now;
+        final LocalDate today;
+        final long userBase;
+        final long serviceBase;
+        final long bookingBase;
+        final long reviewBase;
+        final int services;
+        final int[] serviceProvider;
+        final int[] serviceCategory;
+        final int[] serviceProvince;
+        final BigDecimal[] servicePrice;
+        // Popularity rank -> service index, and rank -> customer index
+        final int[] servicesByRank;
+        final int[] customersByRank;
+        final ZipfSampler serviceSampler;
+        final ZipfSampler customerSampler;
+        // Per provider, shifts review ratings down (near 0) or up (near 1)
+        final double[] providerQuality;
+
+        Plan(Scale scale, Instant now) {
+            this.scale = scale;
+            this.now = now;
+            this.today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+            userBase = maxId("users", "user_id");
+            serviceBase = maxId("services", "service_id");
+            bookingBase = maxId("bookings", "booking_id");
+            reviewBase = maxId("reviews", "review_id");
+
+            SplittableRandom random = new SplittableRandom(scale.seed());
+            services = Math.toIntExact((long) scale.providers() * scale.servicesPerProvider());
+            serviceProvider = new int[services];
+            serviceCategory = new int[services];
+            serviceProvince = new int[services];
+            servicePrice = new BigDecimal[services];
+            ZipfSampler categorySampler = new ZipfSampler(CATEGORIES.size(), 0.6);
+            for (int s = 0; s < services; s++) {
+                serviceProvider[s] = random.nextInt(scale.providers());
+                serviceCategory[s] = categorySampler.sample(random);
+                serviceProvince[s] = weighted(random, PROVINCE_WEIGHTS);
+                // Log-normal around the category's base price, in steps of 50
+                double price = CATEGORIES.get(serviceCategory[s]).basePrice() * Math.exp(0.35 * gaussian(random));
+                servicePrice[s] = BigDecimal.valueOf(Math.max(50, Math.round(price / 50) * 50))
+                        .setScale(2, RoundingMode.UNNECESSARY);
+            }
+            providerQuality = new double[scale.providers()];
+            for (int p = 0; p < providerQuality.length; p++) {
+                providerQuality[p] = random.nextDouble();
+            }
+            servicesByRank = shuffledIndexes(services, random);
+            customersByRank = shuffledIndexes(scale.customers(), random);
+            serviceSampler = new ZipfSampler(services, scale.serviceSkew());
+            customerSampler = new ZipfSampler(scale.customers(), scale.customerSkew());
+        }
+
+        long providerId(int provider) {
+            return userBase + 1 + provider;
+        }
+
+        long customerId(int customer) {
+            return userBase + 1 + scale.providers() + customer;
+        }
+
+        long adminId() {
+            return userBase + 1 + scale.users();
+        }
+
+        long serviceId(int service) {
+            return serviceBase + 1 + service;
+        }
+
+        /** Users and services were all registered during the year before the booking history starts. */
+        Instant registeredAt(SplittableRandom random) {
+            long seconds = Duration.ofDays(scale.historyDays() + 1 + random.nextInt(365)).toSeconds();
+            return now.minusSeconds(seconds + random.nextInt(86_400));
+        }
+    }
+
+    // ---------- categories ----------
+
+    // Ids of CATEGORIES in order; existing categories are matched by name, missing ones inserted
+    private List<Long> ensureCategories() {
+        Map<String, Long> existing = new HashMap<>();
+        jdbcTemplate.query("SELECT category_id, category_name FROM service_categories", row -> {
+            existing.put(row.getString(2).toLowerCase(Locale.ROOT), row.getLong(1));
+        });
+        long nextId = maxId("service_categories", "category_id") + 1;
+        List<Long> ids = new ArrayList<>();
+        MultiRowInsert insert = new MultiRowInsert(jdbcTemplate, "service_categories", rowsPerInsert,
+                "category_id", "category_name", "description");
+        for (CategorySpec category : CATEGORIES) {
+            Long id = existing.get(category.name().toLowerCase(Locale.ROOT));
+            if (id == null) {
+                id = nextId++;
+                insert.add(id, category.name(), "Synthetic category for " + category.noun() + " services");
+            }
+            ids.add(id);
+        }
+        transactionTemplate.executeWithoutResult(status -> insert.flush());
+        return ids;
+    }
+
+    // ---------- users ----------
+
+    private long insertUsers(Plan plan) {
+        String passwordHash = passwordEncoder.encode(password);
+        Scale scale = plan.scale;
+        // The admin is the last row of the last chunk
+        return inParallel("users", scale.users() + 1L, scale.seed() + 1, (from, to, random) -> {
+            MultiRowInsert insert = new MultiRowInsert(jdbcTemplate, "users", rowsPerInsert,
+                    "user_id", "full_name", "email", "password_hash", "phone", "role", "created_at", "updated_at");
+            for (long i = from; i < to; i++) {
+                long id = plan.userBase + 1 + i;
+                Role role = i < scale.providers() ? Role.PROVIDER : i < scale.users() ? Role.CUSTOMER : Role.ADMIN;
+                String email = (role == Role.ADMIN ? "admin" : "user") + id + "@datagen.fixitnow.local";
+                Instant registered = plan.registeredAt(random);
+                insert.add(id, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES), email, passwordHash,
+                        phone(random), role.name(), registered, registered);
+            }
+            insert.flush();
+            return insert.written();
+        });
+    }
+
+    // ---------- services ----------
+
+    private long insertServices(Plan plan, List<Long> categoryIds) {
+        return inParallel("services", plan.services, plan.scale.seed() + 2, (from, to, random) -> {
+            MultiRowInsert insert = new MultiRowInsert(jdbcTemplate, "services", rowsPerInsert,
+                    "service_id", "provider_id", "category_id", "service_title", "service_description",
+                    "description_snippet", "province", "price", "availability_status", "created_at", "updated_at");
+            for (int s = (int) from; s < to; s++) {
+                CategorySpec category = CATEGORIES.get(plan.serviceCategory[s]);
+                String title = pick(random, TITLE_PREFIXES) + " " + category.noun() + " by "
+                        + pick(random, LAST_NAMES) + " & Sons";
+                StringBuilder description = new StringBuilder(capitalize(category.noun()))
+                        .append(" across the ").append(PROVINCES[plan.serviceProvince[s]]).append(" province.");
+                int sentences = 1 + random.nextInt(4);
+                for (int i = 0; i < sentences; i++) {
+                    description.append(' ').append(pick(random, DESCRIPTION_SENTENCES));
+                }
+                Instant listed = plan.registeredAt(random);
+                insert.add(plan.serviceId(s), plan.providerId(plan.serviceProvider[s]),
+                        categoryIds.get(plan.serviceCategory[s]), title, description.toString(),
+                        Service.snippetOf(description.toString()), PROVINCES[plan.serviceProvince[s]],
+                        plan.servicePrice[s],
+                        random.nextInt(100) < 92 ? Service.AvailabilityStatus.AVAILABLE.name()
+                                : Service.AvailabilityStatus.UNAVAILABLE.name(),
+                        listed, listed);
+            }
+            insert.flush();
+            return insert.written();
+        });
+    }
+
+    // ---------- bookings and reviews ----------
+
+    private long[] insertBookings(Plan plan) {
+        AtomicLong reviews = new AtomicLong();
+        long bookings = inParallel("bookings", plan.scale.bookings(), plan.scale.seed() + 3, (from, to, random) -> {
+            MultiRowInsert insert = new MultiRowInsert(jdbcTemplate, "bookings", rowsPerInsert,
+                    "booking_id", "customer_id", "service_id", "booking_date", "special_requests",
+                    "customer_address", "customer_phone", "total_amount", "status", "created_at", "updated_at",
+                    "version");
+            // Reviews reference their booking, so they are written once the chunk's bookings are
+            List<Object[]> chunkReviews = new ArrayList<>();
+            for (long i = from; i < to; i++) {
+                int service = plan.servicesByRank[plan.serviceSampler.sample(random)];
+                int customer = plan.customersByRank[plan.customerSampler.sample(random)];
+                long bookingId = plan.bookingBase + 1 + i;
+
+                boolean future = random.nextDouble() < FUTURE_SHARE;
+                // Past bookings grow linearly towards today: days ago = history * (1 - sqrt(u))
+                long daysFromToday = future ? 1 + random.nextInt(FUTURE_DAYS)
+                        : -(long) (plan.scale.historyDays() * (1 - Math.sqrt(random.nextDouble())));
+                LocalDateTime bookingDate = plan.today.plusDays(daysFromToday)
+                        .atTime(7 + random.nextInt(12), 15 * random.nextInt(4));
+                Instant bookingInstant = bookingDate.toInstant(ZoneOffset.UTC);
+                BookingStatus status = status(random, bookingInstant.isAfter(plan.now), daysFromToday == 0);
+
+                Instant created = min(bookingInstant.minus(Duration.ofHours(1 + random.nextInt(21 * 24))), plan.now);
+                Instant updated = switch (status) {
+                    case PENDING -> created;
+                    case COMPLETED, IN_PROGRESS -> min(bookingInstant.plus(Duration.ofHours(2)), plan.now);
+                    default -> min(created.plus(Duration.ofHours(1 + random.nextInt(48))), plan.now);
+                };
+                insert.add(bookingId, plan.customerId(customer), plan.serviceId(service), bookingDate,
+                        random.nextInt(100) < 15 ? pick(random, SPECIAL_REQUESTS) : null, address(random),
+                        phone(random), plan.servicePrice[service], status.name(), created, updated, 0L);
+
+                if (status == BookingStatus.COMPLETED && random.nextDouble() < plan.scale.reviewShare()) {
+                    int provider = plan.serviceProvider[service];
+                    int rating = rating(random, plan.providerQuality[provider]);
+                    Instant reviewed = min(updated.plus(Duration.ofHours(1 + random.nextInt(72))), plan.now);
+                    chunkReviews.add(new Object[] {plan.reviewBase + 1 + i, bookingId, plan.customerId(customer),
+                            plan.providerId(provider), rating, pick(random, REVIEW_COMMENTS[rating]), reviewed,
+                            reviewed});
+                }
+            }
+            insert.flush();
+
+            MultiRowInsert reviewInsert = new MultiRowInsert(jdbcTemplate, "reviews", rowsPerInsert,
+                    "review_id", "booking_id", "customer_id", "provider_id", "rating", "comment", "created_at",
+                    "updated_at");
+            for (Object[] review : chunkReviews) {
+                reviewInsert.add(review);
+            }
+            reviewInsert.flush();
+            reviews.addAndGet(reviewInsert.written());
+            return insert.written();
+        });
+        return new long[] {bookings, reviews.get()};
+    }
+
+    private static BookingStatus status(SplittableRandom random, boolean upcoming, boolean today) {
+        int roll = random.nextInt(100);
+        if (upcoming) {
+            return roll < 45 ? BookingStatus.PENDING : roll < 88 ? BookingStatus.CONFIRMED : BookingStatus.CANCELLED;
+        }
+        if (today) {
+            return roll < 30 ? BookingStatus.IN_PROGRESS : roll < 85 ? BookingStatus.COMPLETED
+                    : BookingStatus.CANCELLED;
+        }
+        // Older bookings are settled, except a few the provider never closed
+        return roll < 80 ? BookingStatus.COMPLETED : roll < 96 ? BookingStatus.CANCELLED
+                : roll < 98 ? BookingStatus.CONFIRMED : roll < 99 ? BookingStatus.PENDING : BookingStatus.IN_PROGRESS;
+    }
+
+    private static int rating(SplittableRandom random, double quality) {
+        int rating = weighted(random, RATING_WEIGHTS);
+        // Weak providers lose a star or two now and then, strong ones gain one
+        if (quality < 0.2 && random.nextInt(100) < 50) {
+            rating -= 1 + random.nextInt(2);
+        } else if (quality > 0.8 && random.nextInt(100) < 40) {
+            rating++;
+        }
+        return Math.max(1, Math.min(5, rating));
+    }
+
+    // ---------- chunked parallel insertion ----------
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        /** Writes rows [from, to) in the current transaction and returns the number of rows written. */
+        long write(long from, long to, SplittableRandom random);
+    }
+
+    /**
+     * Splits [0, total) into chunks, each written in its own transaction on
+     * one of the workers. Each chunk's random stream is split from
+     * {@code seed} in chunk order, before any work starts.
+     */
+    private long inParallel(String table, long total, long seed, ChunkWriter writer) {
+        long chunkRows = (long) rowsPerInsert * STATEMENTS_PER_CHUNK;
+        long chunks = (total + chunkRows - 1) / chunkRows;
+        SplittableRandom streams = new SplittableRandom(seed);
+        AtomicLong written = new AtomicLong();
+        AtomicLong nextReport = new AtomicLong(total / 10);
+        long started = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long from = chunk * chunkRows;
+                long to = Math.min(total, from + chunkRows);
+                SplittableRandom random = streams.split();
+                futures.add(workers.submit(() -> {
+                    long rows = transactionTemplate.execute(status -> writer.write(from, to, random));
+                    long done = written.addAndGet(rows);
+                    long report = nextReport.get();
+                    if (done >= report && report > 0 && nextReport.compareAndSet(report, report + total / 10)) {
+                        double seconds = (System.nanoTime() - started) / 1e9;
+                        log.info("{}: {} of {} rows ({} rows/s)", table, done, total, Math.round(done / seconds));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating " + table, e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime
+                    : new IllegalStateException("Failed to generate " + table, e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        return written.get();
+    }
+
+    // ---------- database specifics ----------
+
+    private long maxId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+    }
+
+    /**
+     * MySQL moves AUTO_INCREMENT past explicitly inserted ids by itself; H2's
+     * identity columns keep counting from where they were, so the next row
+     * the application inserts would collide with a generated one.
+     */
+    private void realignIdentities() {
+        if (!"H2".equals(databaseName())) {
+            return;
+        }
+        for (String[] table : new String[][] {{"users", "user_id"}, {"service_categories", "category_id"},
+                {"services", "service_id"}, {"bookings", "booking_id"}, {"reviews", "review_id"}}) {
+            jdbcTemplate.execute("ALTER TABLE " + table[0] + " ALTER COLUMN " + table[1] + " RESTART WITH "
+                    + (maxId(table[0], table[1]) + 1));
+        }
+    }
+
+    // ---------- helpers ----------
+
+    private static int[] shuffledIndexes(int n, SplittableRandom random) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static int weighted(SplittableRandom random, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    // Standard normal draw (Box-Muller); SplittableRandom has no nextGaussian on Java 17
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "07" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private static String address(SplittableRandom random) {
+        return "No. " + (1 + random.nextInt(250)) + ", " + pick(random, STREETS) + ", " + pick(random, CITIES);
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
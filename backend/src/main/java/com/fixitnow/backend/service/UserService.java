@@ -1,7 +1,11 @@
 package com.fixitnow.backend.service;
 
+import java.util.Objects;
+
+import com.fixitnow.backend.event.UserProfileChangedEvent;
 import com.fixitnow.backend.model.User;
 import com.fixitnow.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,10 +15,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public User getByEmail(String email) {
@@ -24,9 +31,15 @@ public class UserService {
     @Transactional
     public User updateProfile(String email, String fullName, String phone) {
         User user = getByEmail(email);
+        boolean renamed = !Objects.equals(user.getFullName(), fullName);
         user.setFullName(fullName);
         user.setPhone(phone);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        if (renamed) {
+            // Provider names are baked into catalog snapshots and entries
+            eventPublisher.publishEvent(new UserProfileChangedEvent(saved.getUserId()));
+        }
+        return saved;
     }
 
     @Transactional
@@ -0,0 +1,43 @@
+package com.fixitnow.backend.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks 0..n-1 with probability proportional to 1 / (rank + 1)^skew:
+ * skew 0 is uniform, around 1 a few ranks take a large share, as with the
+ * most popular services of a marketplace. Sampling is a binary search over
+ * the precomputed cumulative weights, so a draw costs O(log n) and the
+ * sampler holds n doubles. Immutable and thread-safe; callers bring their
+ * own random source.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double skew) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("skew must not be negative");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += Math.pow(rank + 1, -skew);
+            cumulative[rank] = sum;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        // Not found: the insertion point is the first rank whose cumulative weight exceeds the target
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fixitnow.backend;
+
+import java.time.Instant;
+
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.User;
+
+/**
+ * Users for integration tests to save; the password hash is a placeholder
+ * that no login matches.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User user(String name, String email, Role role) {
+        return User.builder()
+                .fullName(name)
+                .email(email)
+                .passwordHash("x")
+                .role(role)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.fixitnow.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Uses two in-memory H2 databases as primary and replica; each holds a single
+ * row naming itself, so a query shows which one served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHICH = "SELECT name FROM node";
+
+    private final DataSource primary = h2("primary");
+    private final DataSource replica = h2("replica");
+
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readYourWrites = new ReadYourWrites("jdbc:h2:mem:replica", Duration.ofMinutes(1));
+        route(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+    }
+
+    @Test
+    void readOnlyCallInsideReadWriteTransactionStaysOnPrimary() {
+        assertEquals("primary", readWrite.execute(status ->
+                readOnly.execute(inner -> jdbc.queryForObject(WHICH, String.class))));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        route(new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", ""));
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+    }
+
+    @Test
+    void downReplicaIsNotAskedAgainWithinRetryAfter() {
+        AtomicInteger attempts = new AtomicInteger();
+        route(failing(attempts, null));
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void onlyOneReadAtATimeProbesARecoveringReplica() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        route(failing(attempts, () -> {
+            probeStarted.countDown();
+            releaseProbe.await(10, TimeUnit.SECONDS);
+        }), Duration.ZERO);
+        // First failure; with no retry window the replica is due for a retry straight away
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> probe = executor.submit(() ->
+                    readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+            assertTrue(probeStarted.await(10, TimeUnit.SECONDS));
+            // While the probe waits on the replica, other reads don't queue behind it
+            assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+            assertEquals(2, attempts.get());
+            releaseProbe.countDown();
+            assertEquals("primary", probe.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void writerReadsFromPrimaryAfterCommit() {
+        signIn("customer@example.com");
+        readWrite.executeWithoutResult(status -> {
+            readYourWrites.recordWrite("customer@example.com", "provider@example.com");
+            // Not pinned until the write commits
+            assertFalse(readYourWrites.mustReadPrimary());
+        });
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+
+        signIn("provider@example.com");
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+
+        signIn("someone.else@example.com");
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+    }
+
+    @Test
+    void pinningIsDisabledWithoutReplica() {
+        readYourWrites = new ReadYourWrites("", Duration.ofMinutes(1));
+        route(replica);
+        signIn("customer@example.com");
+        readYourWrites.recordWrite("customer@example.com");
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class)));
+    }
+
+    private void route(DataSource replicaTarget) {
+        route(replicaTarget, Duration.ofMinutes(1));
+    }
+
+    private void route(DataSource replicaTarget, Duration retryAfter) {
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicaTarget, readYourWrites, retryAfter));
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    // A replica that refuses every connection, after running the given stall on all but the first attempt
+    private static DataSource failing(AtomicInteger attempts, Stall stall) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (attempts.incrementAndGet() > 1 && stall != null) {
+                    try {
+                        stall.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                throw new SQLException("replica down");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Stall {
+        void run() throws InterruptedException;
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fixitnow.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc expectations on the SQL a request ran, read from the
+ * {@link SqlStats} that {@link SqlStatsFilter} leaves on the request:
+ *
+ * <pre>
+ * mvc.perform(get("/api/bookings/provider")...).andExpect(SqlStatements.atMost(2));
+ * </pre>
+ *
+ * A failure lists every statement text with its execution count.
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            SqlStats stats = stats(result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE));
+            assertTrue(stats.getStatements() <= statements, () -> result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " ran over its budget of " + statements
+                    + " statements: " + stats);
+        };
+    }
+
+    // No statement text ran more than maxExecutions times, i.e. no per-row query
+    public static ResultMatcher noneRepeatedMoreThan(int maxExecutions) {
+        return result -> {
+            SqlStats stats = stats(result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE));
+            stats.getExecutions().forEach((sql, count) -> assertTrue(count <= maxExecutions,
+                    () -> result.getRequest().getRequestURI() + " ran one statement " + count + " times: " + stats));
+        };
+    }
+
+    private static SqlStats stats(Object attribute) {
+        assertNotNull(attribute, "No SQL statistics on the request; is SqlStatsFilter registered?");
+        return (SqlStats) attribute;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fixitnow.backend.config.SqlStatements;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+
+/**
+ * Statement budgets for booking listings. Bookings span several services and
+ * customers, so resolving any association per row would blow the budget.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+@AutoConfigureMockMvc
+class BookingQueryBudgetTest {
+
+    private static final int BOOKINGS = 30;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.existsByEmail("provider@example.com")) {
+            return;
+        }
+        User provider = userRepository.save(user("Provider", "provider@example.com", Role.PROVIDER));
+        List<User> customers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            customers.add(userRepository.save(user("Customer " + i, "customer" + i + "@example.com", Role.CUSTOMER)));
+        }
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Plumbing").build());
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            services.add(serviceRepository.save(Service.builder()
+                    .provider(provider)
+                    .category(category)
+                    .serviceTitle("Service " + i)
+                    .province("Ontario")
+                    .price(new BigDecimal("50.00"))
+                    .build()));
+        }
+        for (int i = 0; i < BOOKINGS; i++) {
+            Service service = services.get(i % services.size());
+            bookingRepository.save(Booking.builder()
+                    .customer(customers.get(i % customers.size()))
+                    .service(service)
+                    .bookingDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i))
+                    .customerAddress("1 Main St")
+                    .customerPhone("555-0100")
+                    .totalAmount(service.getPrice())
+                    .status(Booking.BookingStatus.PENDING)
+                    .build());
+        }
+    }
+
+    @Test
+    void providerBookingsRunAtMostTwoStatements() throws Exception {
+        mvc.perform(get("/api/bookings/provider").header(HttpHeaders.AUTHORIZATION, bearer("provider@example.com", Role.PROVIDER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS))
+                .andExpect(SqlStatements.atMost(2));
+    }
+
+    @Test
+    void customerBookingsRunAtMostTwoStatements() throws Exception {
+        mvc.perform(get("/api/bookings/customer").header(HttpHeaders.AUTHORIZATION, bearer("customer0@example.com", Role.CUSTOMER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS / 5))
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(SqlStatements.noneRepeatedMoreThan(1));
+    }
+
+    private String bearer(String email, Role role) {
+        return "Bearer " + jwtUtil.generateToken(email, role.name());
+    }
+}
@@ -0,0 +1,99 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+import com.fixitnow.backend.service.ServiceCatalog;
+
+/**
+ * The catalog snapshot (ETag) and the in-memory catalog both embed provider
+ * names, so a profile rename must invalidate them.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+@AutoConfigureMockMvc
+class CatalogViewsTest {
+
+    private static final String PROVIDER = "renamed-provider@example.com";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceCatalog serviceCatalog;
+
+    @Test
+    void providerRenameInvalidatesSnapshotAndCatalog() throws Exception {
+        User provider = userRepository.save(user("Old Name", PROVIDER, Role.PROVIDER));
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Plumbing").build());
+        serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("Leak repair")
+                .province("Western")
+                .price(new BigDecimal("50.00"))
+                .build());
+        // Rows saved straight through repositories publish no events
+        serviceCatalog.rebuild();
+
+        String etag = mvc.perform(get("/api/services"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].providerName").value("Old Name"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(put("/api/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(PROVIDER, Role.PROVIDER.name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"New Name\",\"phone\":\"0771234567\"}"))
+                .andExpect(status().isOk());
+
+        String renamedEtag = mvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].providerName").value("New Name"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, renamedEtag);
+
+        mvc.perform(get("/api/services/filter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].providerName").value("New Name"));
+    }
+}
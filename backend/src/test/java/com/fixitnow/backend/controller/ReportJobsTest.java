@@ -0,0 +1,349 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.ReportJob;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ReportJobRepository;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+import com.fixitnow.backend.service.AdminReportService;
+import com.fixitnow.backend.service.BookingStatsService;
+import com.fixitnow.backend.service.ReportJobService;
+import com.fixitnow.backend.service.ReportSections;
+import com.fixitnow.backend.service.ReportSections.SummaryReport;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+/**
+ * A queued export runs to completion, its download holds exactly the
+ * bookings in range, identical requests share the job in progress and
+ * expired jobs are purged with their artifact.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class ReportJobsTest {
+
+    private static final String ADMIN = "jobs-admin@example.com";
+    private static final String HEADER = "bookingId,bookingDate,status,totalAmount,service,customer,provider";
+    // More than one detail page, all in March 2025
+    private static final int MARCH_BOOKINGS = 1_205;
+
+    @TempDir
+    static Path reportsDir;
+
+    @DynamicPropertySource
+    static void reportProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.reports.jobs.dir", () -> reportsDir.toString());
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private AdminReportService adminReportService;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private ReportSections reportSections;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.existsByEmail(ADMIN)) {
+            return;
+        }
+        userRepository.save(user("Admin", ADMIN, Role.ADMIN));
+        User customer = userRepository.save(user("Doe, Jane", "jobs-customer@example.com", Role.CUSTOMER));
+        User provider = userRepository.save(user("Provider", "jobs-provider@example.com", Role.PROVIDER));
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Painting").build());
+        Service service = serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("Walls \"and\" ceilings")
+                .province("Western")
+                .price(new BigDecimal("45.00"))
+                .build());
+
+        List<Booking> bookings = new ArrayList<>();
+        LocalDateTime march = LocalDateTime.of(2025, 3, 1, 0, 0);
+        for (int i = 0; i < MARCH_BOOKINGS; i++) {
+            bookings.add(booking(customer, service, march.plusMinutes(i * 35L)));
+        }
+        // Either side of the range
+        bookings.add(booking(customer, service, LocalDateTime.of(2025, 2, 28, 23, 59)));
+        bookings.add(booking(customer, service, LocalDateTime.of(2025, 4, 1, 0, 0)));
+        // Names a spreadsheet would run as formulas, in a range of their own
+        User formula = userRepository.save(user("=HYPERLINK(\"http://example.com\")", "jobs-formula@example.com",
+                Role.CUSTOMER));
+        Service atService = serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("@SUM(A1:A9)")
+                .province("Western")
+                .price(new BigDecimal("45.00"))
+                .build());
+        bookings.add(booking(formula, atService, LocalDateTime.of(2025, 6, 10, 9, 0)));
+        bookingRepository.saveAll(bookings);
+        // Saved around BookingService, so the rollups behind the summary sections are rebuilt
+        bookingStatsService.rebuild();
+    }
+
+    @Test
+    void csvJobCompletesWithEveryBookingInRange() throws Exception {
+        JsonNode queued = json(mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("CSV", "2025-03-01", "2025-03-31")))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        String jobId = queued.get("jobId").asText();
+
+        JsonNode done = awaitFinished(jobId);
+        assertEquals("COMPLETED", done.get("status").asText(), done.toString());
+
+        String body = mvc.perform(get("/api/admin/reports/jobs/{jobId}/download", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(HEADER, lines[0]);
+        assertEquals(MARCH_BOOKINGS, lines.length - 1);
+        assertTrue(lines[1].endsWith(",\"Walls \"\"and\"\" ceilings\",\"Doe, Jane\",Provider"), lines[1]);
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].contains(",2025-03-"), lines[i]);
+        }
+        assertEquals(body.getBytes().length, done.get("sizeBytes").asLong());
+
+        try (var files = Files.list(reportsDir)) {
+            assertFalse(files.anyMatch(file -> file.toString().endsWith(".part")));
+        }
+    }
+
+    @Test
+    void csvCellsThatWouldRunAsFormulasAreDefused() throws Exception {
+        JsonNode queued = json(mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("CSV", "2025-06-01", "2025-06-30")))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        String jobId = queued.get("jobId").asText();
+        assertEquals("COMPLETED", awaitFinished(jobId).get("status").asText());
+
+        String[] lines = mvc.perform(get("/api/admin/reports/jobs/{jobId}/download", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].endsWith(",'@SUM(A1:A9),\"'=HYPERLINK(\"\"http://example.com\"\")\",Provider"), lines[1]);
+    }
+
+    @Test
+    void pdfJobSummaryCoversTheJobsRange() throws Exception {
+        JsonNode queued = json(mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("PDF", "2025-03-01", "2025-03-31")))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        String jobId = queued.get("jobId").asText();
+        assertEquals("COMPLETED", awaitFinished(jobId).get("status").asText());
+
+        Path artifact = reportJobService.getArtifact(reportJobRepository.findById(jobId).orElseThrow()).orElseThrow();
+        PdfReader reader = new PdfReader(artifact.toString());
+        try {
+            String summaryPage = new PdfTextExtractor(reader).getTextFromPage(2);
+            assertTrue(summaryPage.contains("Booking Status Distribution (2025-03-01 to 2025-03-31)"), summaryPage);
+        } finally {
+            reader.close();
+        }
+        // What those pages are built from: March only, not the all-time figures
+        SummaryReport summary = reportSections.fetchSummary(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        assertEquals(MARCH_BOOKINGS, bookingCount(summary));
+        assertEquals(bookingRepository.count(), bookingCount(reportSections.fetchSummary()));
+    }
+
+    @Test
+    void detailPagesReachTheConsumerOutsideAnyTransaction() {
+        List<Long> ids = new ArrayList<>();
+        adminReportService.forEachBooking(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), row -> {
+            // A slow client downloading these rows must not keep a pooled connection checked out
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            ids.add(row.bookingId());
+        });
+        assertEquals(MARCH_BOOKINGS, ids.size());
+        assertEquals(MARCH_BOOKINGS, new HashSet<>(ids).size());
+    }
+
+    @Test
+    void identicalRequestSharesTheJobInProgress() throws Exception {
+        // Stands in for a job a worker has not picked up yet
+        ReportJob active = reportJobRepository.save(ReportJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .format(ReportJob.Format.CSV)
+                .fromDate(LocalDate.of(2024, 1, 1))
+                .toDate(LocalDate.of(2024, 1, 31))
+                .status(ReportJob.Status.QUEUED)
+                .requestedBy(ADMIN)
+                .build());
+
+        JsonNode shared = json(mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("CSV", "2024-01-01", "2024-01-31")))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        assertEquals(active.getJobId(), shared.get("jobId").asText());
+
+        mvc.perform(get("/api/admin/reports/jobs/{jobId}/download", active.getJobId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void expiredJobIsPurgedWithItsArtifact() throws Exception {
+        JsonNode queued = json(mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("CSV", "2025-04-01", "2025-04-30")))
+                .andExpect(status().isAccepted())
+                .andReturn());
+        String jobId = queued.get("jobId").asText();
+        assertEquals("COMPLETED", awaitFinished(jobId).get("status").asText());
+
+        ReportJob job = reportJobRepository.findById(jobId).orElseThrow();
+        Path artifact = reportJobService.getArtifact(job).orElseThrow();
+        job.setExpiresAt(Instant.now().minusSeconds(1));
+        reportJobRepository.save(job);
+
+        reportJobService.purgeExpired();
+
+        assertFalse(Files.exists(artifact));
+        mvc.perform(get("/api/admin/reports/jobs/{jobId}", jobId).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void invalidRequestsAreRefused() throws Exception {
+        mvc.perform(post("/api/admin/reports/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request("CSV", "2025-03-31", "2025-03-01")))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/admin/reports/jobs/{jobId}/download", "no-such-job")
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitFinished(String jobId) throws Exception {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (true) {
+            JsonNode job = json(mvc.perform(get("/api/admin/reports/jobs/{jobId}", jobId)
+                            .header(HttpHeaders.AUTHORIZATION, bearer()))
+                    .andExpect(status().isOk())
+                    .andReturn());
+            String state = job.get("status").asText();
+            if (!state.equals("QUEUED") && !state.equals("RUNNING")) {
+                return job;
+            }
+            assertTrue(System.nanoTime() < deadline, "job still " + state);
+            Thread.sleep(50);
+        }
+    }
+
+    private static long bookingCount(SummaryReport summary) {
+        return summary.status().data().stream().mapToLong(row -> (Long) row.get("count")).sum();
+    }
+
+    private String request(String format, String from, String to) {
+        return "{\"format\":\"" + format + "\",\"from\":\"" + from + "\",\"to\":\"" + to + "\"}";
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken(ADMIN, Role.ADMIN.name());
+    }
+
+    private static Booking booking(User customer, Service service, LocalDateTime date) {
+        return Booking.builder()
+                .customer(customer)
+                .service(service)
+                .bookingDate(date)
+                .customerAddress("1 Main St")
+                .customerPhone("555-0100")
+                .totalAmount(service.getPrice())
+                .status(Booking.BookingStatus.CONFIRMED)
+                .build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Review;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ReviewRepository;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+
+/**
+ * Keyset-paged review lists visit every review once, newest first, and the
+ * admin stream writes them all even when it spans several chunks.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+@AutoConfigureMockMvc
+class ReviewPagingTest {
+
+    private static final String ADMIN = "review-admin@example.com";
+    // More than one stream chunk (1000 rows)
+    private static final int PROVIDER_REVIEWS = 1_010;
+    private static final int OTHER_REVIEWS = 7;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private static Long providerId;
+    private static Long otherProviderId;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.existsByEmail(ADMIN)) {
+            return;
+        }
+        userRepository.save(user("Admin", ADMIN, Role.ADMIN));
+        User customer = userRepository.save(user("Customer", "review-customer@example.com", Role.CUSTOMER));
+        User provider = userRepository.save(user("Provider", "review-provider@example.com", Role.PROVIDER));
+        User other = userRepository.save(user("Other", "review-other@example.com", Role.PROVIDER));
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Cleaning").build());
+        providerId = provider.getUserId();
+        otherProviderId = other.getUserId();
+        addReviews(customer, serviceRepository.save(service(provider, category)), PROVIDER_REVIEWS);
+        addReviews(customer, serviceRepository.save(service(other, category)), OTHER_REVIEWS);
+    }
+
+    @Test
+    void providerPagesVisitEveryReviewOnceNewestFirst() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = json(mvc.perform(get("/api/reviews/provider/{id}", providerId)
+                            .param("size", "100")
+                            .param("cursor", cursor != null ? cursor : "")
+                            .header(HttpHeaders.AUTHORIZATION, bearer()))
+                    .andExpect(status().isOk())
+                    .andReturn());
+            page.get("items").forEach(item -> {
+                assertEquals(providerId, item.get("providerId").asLong());
+                seen.add(item.get("reviewId").asLong());
+            });
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(PROVIDER_REVIEWS, seen.size());
+        assertEquals(PROVIDER_REVIEWS, new HashSet<>(seen).size());
+        assertEquals(seen.stream().sorted(Comparator.reverseOrder()).toList(), seen);
+        assertEquals((PROVIDER_REVIEWS + 99) / 100, pages);
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoCursor() throws Exception {
+        JsonNode page = json(mvc.perform(get("/api/reviews/provider/{id}", otherProviderId)
+                        .param("size", String.valueOf(OTHER_REVIEWS))
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertEquals(OTHER_REVIEWS, page.get("items").size());
+        assertTrue(page.get("nextCursor").isNull());
+    }
+
+    @Test
+    void pageSizeOutsideLimitsIsRefused() throws Exception {
+        for (String size : new String[] { "0", "101" }) {
+            mvc.perform(get("/api/reviews").param("size", size).header(HttpHeaders.AUTHORIZATION, bearer()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void invalidCursorIsRefused() throws Exception {
+        mvc.perform(get("/api/reviews/provider/{id}", providerId)
+                        .param("cursor", "not a cursor")
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamWritesEveryReviewAcrossChunks() throws Exception {
+        MvcResult started = mvc.perform(get("/api/reviews/stream").header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Set<Long> ids = new HashSet<>();
+        for (String line : body.split("\n")) {
+            ids.add(objectMapper.readTree(line).get("reviewId").asLong());
+        }
+        assertEquals(PROVIDER_REVIEWS + OTHER_REVIEWS, ids.size());
+    }
+
+    private void addReviews(User customer, Service service, int count) {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bookings.add(Booking.builder()
+                    .customer(customer)
+                    .service(service)
+                    .bookingDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i))
+                    .customerAddress("1 Main St")
+                    .customerPhone("555-0100")
+                    .totalAmount(service.getPrice())
+                    .status(Booking.BookingStatus.COMPLETED)
+                    .build());
+        }
+        List<Review> reviews = new ArrayList<>();
+        for (Booking booking : bookingRepository.saveAll(bookings)) {
+            reviews.add(Review.builder()
+                    .booking(booking)
+                    .customer(customer)
+                    .provider(service.getProvider())
+                    .rating(1 + reviews.size() % 5)
+                    .comment("Review " + reviews.size())
+                    .build());
+        }
+        reviewRepository.saveAll(reviews);
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken(ADMIN, Role.ADMIN.name());
+    }
+
+    private static Service service(User provider, ServiceCategory category) {
+        return Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("Deep clean by " + provider.getFullName())
+                .province("Western")
+                .price(new BigDecimal("35.00"))
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+import com.fixitnow.backend.service.ServiceCatalog;
+import com.fixitnow.backend.service.ServiceImportService;
+
+/**
+ * Streamed CSV/NDJSON imports: valid rows land in the database and the
+ * catalog, and inputs that would otherwise be buffered whole are refused.
+ */
+@SpringBootTest(properties = "app.services.import.max-size=1MB")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class ServiceImportTest {
+
+    private static final String PROVIDER = "importer@example.com";
+    private static final String HEADER = "serviceTitle,serviceDescription,categoryName,price,province\n";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceCatalog serviceCatalog;
+
+    @BeforeEach
+    void seed() {
+        if (!userRepository.existsByEmail(PROVIDER)) {
+            userRepository.save(user("Importer", PROVIDER, Role.PROVIDER));
+            categoryRepository.save(ServiceCategory.builder().categoryName("Plumbing").build());
+        }
+    }
+
+    @Test
+    void importsValidCsvRowsIntoDatabaseAndCatalog() throws Exception {
+        long before = serviceRepository.count();
+        int catalogBefore = serviceCatalog.size();
+        String csv = HEADER
+                + "Leak repair,\"Pipes, taps\nand drains\",Plumbing,50.00,Western\n"
+                + "Boiler check,\"Says \"\"hi\"\"\",plumbing,75.50,Central\r\n"
+                + "No price,,Plumbing,,Western\n";
+
+        importCsv(csv)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(3));
+
+        assertEquals(before + 2, serviceRepository.count());
+        assertEquals(catalogBefore + 2, serviceCatalog.size());
+    }
+
+    @Test
+    void unterminatedQuoteIsRefusedInsteadOfBuffered() throws Exception {
+        String csv = HEADER + "Broken,\"never closed," + "x".repeat(ServiceImportService.MAX_RECORD_CHARS);
+
+        String message = importCsv(csv)
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(message.contains("longer than"), message);
+    }
+
+    @Test
+    void overlongNdjsonLineIsRefused() throws Exception {
+        String ndjson = "{\"serviceTitle\":\"" + "x".repeat(ServiceImportService.MAX_RECORD_CHARS) + "\"}";
+
+        mvc.perform(post("/api/services/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void uploadBeyondMaxSizeIsRefusedButCommittedRowsReachTheCatalog() throws Exception {
+        int catalogBefore = serviceCatalog.size();
+        StringBuilder csv = new StringBuilder(HEADER);
+        int rows = 0;
+        while (csv.length() <= 1024 * 1024) {
+            csv.append("Bulk ").append(rows++).append(",,Plumbing,20.00,Western\n");
+        }
+
+        String message = importCsv(csv.toString())
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(message.contains("larger than"), message);
+        // Whole chunks before the limit were committed and must be visible
+        assertTrue(serviceCatalog.size() - catalogBefore >= ServiceImportService.CHUNK_SIZE);
+    }
+
+    private ResultActions importCsv(String csv) throws Exception {
+        return mvc.perform(post("/api/services/import")
+                .header(HttpHeaders.AUTHORIZATION, bearer())
+                .contentType("text/csv")
+                .content(csv));
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken(PROVIDER, Role.PROVIDER.name());
+    }
+}
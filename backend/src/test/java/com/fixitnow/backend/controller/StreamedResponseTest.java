@@ -0,0 +1,87 @@
+package com.fixitnow.backend.controller;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.security.JwtUtil;
+
+/**
+ * StreamingResponseBody endpoints finish on an async dispatch that goes
+ * through the security chain again; the body must still arrive complete.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+@AutoConfigureMockMvc
+class StreamedResponseTest {
+
+    private static final String ADMIN = "admin@example.com";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seed() {
+        if (!userRepository.existsByEmail(ADMIN)) {
+            userRepository.save(user("Admin", ADMIN, Role.ADMIN));
+        }
+    }
+
+    @Test
+    void pdfExportIsReadToTheEnd() throws Exception {
+        MvcResult started = mvc.perform(get("/api/admin/reports/export").header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] pdf = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        assertTrue(text.startsWith("%PDF-"), "not a PDF");
+        assertTrue(text.stripTrailing().endsWith("%%EOF"), "PDF cut off before its trailer");
+    }
+
+    @Test
+    void reviewStreamIsReadToTheEnd() throws Exception {
+        MvcResult started = mvc.perform(get("/api/reviews/stream").header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("", body);
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken(ADMIN, Role.ADMIN.name());
+    }
+}
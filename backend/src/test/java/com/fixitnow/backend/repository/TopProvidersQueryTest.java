@@ -0,0 +1,181 @@
+package com.fixitnow.backend.repository;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Review;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+
+/**
+ * Checks the top-providers report against totals computed in Java from
+ * synthetic data, and that the rows H2 scans for it grow linearly with the
+ * number of bookings (a booking x review fan-out would grow quadratically).
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TopProvidersQueryTest {
+
+    private static final int PROVIDERS = 12;
+    private static final int SERVICES_PER_PROVIDER = 2;
+    private static final int CUSTOMERS = 25;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookingDailyStatsRepository statsRepository;
+
+    @Autowired
+    private ProviderRatingStatsRepository ratingRepository;
+
+    private final Random random = new Random(42);
+    private final List<User> providers = new ArrayList<>();
+    private final List<User> customers = new ArrayList<>();
+    private final List<Service> services = new ArrayList<>();
+
+    // Expected figures, accumulated while generating data
+    private final Map<Long, Long> completed = new HashMap<>();
+    private final Map<Long, long[]> ratings = new HashMap<>();
+
+    @Test
+    void matchesTotalsComputedFromRawRows() {
+        seedUsersAndServices();
+        seedBookings(1500);
+        refreshAggregates();
+
+        List<Object[]> rows = statsRepository.findTopProviders(null, null);
+
+        List<User> expected = new ArrayList<>(providers);
+        expected.sort(Comparator.<User>comparingLong(p -> -completed.getOrDefault(p.getUserId(), 0L))
+                .thenComparing(User::getUserId));
+        assertEquals(5, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            User provider = expected.get(i);
+            long[] rating = ratings.get(provider.getUserId());
+            assertEquals(provider.getUserId(), ((Number) rows.get(i)[0]).longValue());
+            assertEquals(provider.getFullName(), rows.get(i)[1]);
+            assertEquals(completed.getOrDefault(provider.getUserId(), 0L), ((Number) rows.get(i)[2]).longValue());
+            assertEquals(rating != null ? (double) rating[1] / rating[0] : 0.0,
+                    ((Number) rows.get(i)[3]).doubleValue(), 1e-6);
+        }
+    }
+
+    @Test
+    void scannedRowsGrowLinearlyWithBookings() {
+        seedUsersAndServices();
+        seedBookings(1000);
+        refreshAggregates();
+        long small = scannedRows();
+
+        seedBookings(3000);
+        refreshAggregates();
+        long large = scannedRows();
+
+        // Four times the bookings; a fan-out would scan about sixteen times the rows
+        assertTrue(large < small * 5, "scanned " + small + " rows for 1000 bookings, " + large + " for 4000");
+    }
+
+    private void seedUsersAndServices() {
+        ServiceCategory category = em.persist(ServiceCategory.builder().categoryName("Plumbing").build());
+        for (int i = 0; i < PROVIDERS; i++) {
+            User provider = em.persist(user("Provider " + i, "provider" + i + "@example.com", Role.PROVIDER));
+            providers.add(provider);
+            for (int j = 0; j < SERVICES_PER_PROVIDER; j++) {
+                services.add(em.persist(Service.builder()
+                        .provider(provider)
+                        .category(category)
+                        .serviceTitle("Service " + i + "-" + j)
+                        .province("Ontario")
+                        .price(new BigDecimal("50.00"))
+                        .build()));
+            }
+        }
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers.add(em.persist(user("Customer " + i, "customer" + i + "@example.com", Role.CUSTOMER)));
+        }
+    }
+
+    // Skews bookings towards low-numbered providers so the ranking is not a tie
+    private void seedBookings(int count) {
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        for (int i = 0; i < count; i++) {
+            int providerIndex = Math.min(random.nextInt(PROVIDERS), random.nextInt(PROVIDERS));
+            Service service = services.get(providerIndex * SERVICES_PER_PROVIDER + random.nextInt(SERVICES_PER_PROVIDER));
+            User customer = customers.get(random.nextInt(CUSTOMERS));
+            Booking.BookingStatus status = statuses[random.nextInt(statuses.length)];
+            Booking booking = em.persist(Booking.builder()
+                    .customer(customer)
+                    .service(service)
+                    .bookingDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusDays(random.nextInt(60)).plusMinutes(i))
+                    .customerAddress("1 Main St")
+                    .customerPhone("555-0100")
+                    .totalAmount(service.getPrice())
+                    .status(status)
+                    .build());
+            if (status == Booking.BookingStatus.COMPLETED) {
+                Long providerId = service.getProvider().getUserId();
+                completed.merge(providerId, 1L, Long::sum);
+                int stars = 1 + random.nextInt(5);
+                em.persist(Review.builder()
+                        .booking(booking)
+                        .customer(customer)
+                        .provider(service.getProvider())
+                        .rating(stars)
+                        .comment("Synthetic review")
+                        .build());
+                long[] totals = ratings.computeIfAbsent(providerId, k -> new long[2]);
+                totals[0]++;
+                totals[1] += stars;
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private void refreshAggregates() {
+        statsRepository.deleteAllRows();
+        statsRepository.insertFromBookings(Instant.now());
+        ratingRepository.deleteAllInBatch();
+        ratingRepository.insertFromReviews(Instant.now());
+    }
+
+    // Sum of the per-table scan counts H2 reports for the report query
+    private long scannedRows() {
+        String sql = "EXPLAIN ANALYZE " + BookingDailyStatsRepository.TOP_PROVIDERS
+                .replace(":from", "NULL").replace(":to", "NULL");
+        String plan = em.getEntityManager().createNativeQuery(sql).getSingleResult().toString();
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long total = 0;
+        while (matcher.find()) {
+            total += Long.parseLong(matcher.group(1));
+        }
+        assertTrue(total > 0, plan);
+        return total;
+    }
+}
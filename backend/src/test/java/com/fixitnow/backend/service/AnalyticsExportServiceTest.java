@@ -0,0 +1,278 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.service.AnalyticsExportService.Manifest;
+import com.fixitnow.backend.service.AnalyticsExportService.Run;
+import com.fixitnow.backend.service.AnalyticsExportService.TableExport;
+
+/**
+ * Incremental exports against rows whose updated_at the test sets: each run
+ * takes exactly the rows between the previous watermark and its commit-lag
+ * cut-off, keyset pages split ties on updated_at by id, and the manifest
+ * describes the files it lists.
+ */
+@SpringBootTest(properties = {
+        // Pages of three, so a run of equal updated_at spans pages
+        "app.export.page-size=3",
+        "app.export.commit-lag=5m",
+        "app.export.stamp-batch-size=2"
+})
+@ActiveProfiles("h2")
+class AnalyticsExportServiceTest {
+
+    private static final Duration COMMIT_LAG = Duration.ofMinutes(5);
+
+    @TempDir
+    static Path exportDir;
+
+    @DynamicPropertySource
+    static void exportProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.export.dir", () -> exportDir.toString());
+    }
+
+    @Autowired
+    private AnalyticsExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private User customer;
+    private Service service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Every test starts without a manifest, so its first run is a full export
+        try (Stream<Path> entries = Files.list(exportDir)) {
+            for (Path entry : entries.toList()) {
+                FileSystemUtils.deleteRecursively(entry);
+            }
+        }
+        long n = userRepository.count();
+        customer = userRepository.save(user("Customer " + n, "export-customer" + n + "@example.com", Role.CUSTOMER));
+        User provider = userRepository.save(user("Provider " + n, "export-provider" + n + "@example.com",
+                Role.PROVIDER));
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Export " + n)
+                .build());
+        service = serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("Tiling")
+                .province("Western")
+                .price(new BigDecimal("60.00"))
+                .build());
+    }
+
+    @Test
+    void secondRunTakesOnlyRowsChangedAfterTheWatermark() throws IOException {
+        Instant firstRun = Instant.parse("2030-06-01T10:00:00Z");
+        List<Long> settled = book(3, firstRun.minus(Duration.ofHours(2)));
+        // Committed inside the commit lag: may still have company in flight, so left for the next run
+        List<Long> recent = book(2, firstRun.minus(Duration.ofMinutes(2)));
+
+        Run first = exportService.export(firstRun);
+        List<Long> firstIds = ids(first, "bookings");
+        assertTrue(firstIds.containsAll(settled), firstIds.toString());
+        assertTrue(recent.stream().noneMatch(firstIds::contains), firstIds.toString());
+        assertEquals(firstRun.minus(COMMIT_LAG), export(first, "bookings").toUpdatedAt());
+
+        Instant secondRun = firstRun.plus(Duration.ofHours(1));
+        setUpdatedAt(settled.get(0), firstRun.plus(Duration.ofMinutes(10)));
+        Run second = exportService.export(secondRun);
+
+        List<Long> expected = new ArrayList<>(recent);
+        expected.add(settled.get(0));
+        assertEquals(expected, ids(second, "bookings"));
+        assertEquals(first.tables().get(0).toUpdatedAt(), export(second, "bookings").fromUpdatedAt());
+        for (String table : List.of("services", "users", "reviews")) {
+            assertEquals(0, export(second, table).rows(), table);
+        }
+
+        assertManifestDescribesFiles(List.of(first, second));
+    }
+
+    @Test
+    void rowsTiedOnUpdatedAtAreSplitAcrossPagesById() throws IOException {
+        Instant run = Instant.parse("2031-03-01T08:00:00Z");
+        // Eight rows on one instant: pages of three split the tie twice
+        List<Long> tied = book(8, run.minus(Duration.ofHours(1)));
+
+        Run export = exportService.export(run);
+
+        List<Long> ids = ids(export, "bookings");
+        assertEquals(bookingRepository.count(), ids.size());
+        assertEquals(ids.size(), ids.stream().distinct().count());
+        assertEquals(tied, ids.subList(ids.size() - tied.size(), ids.size()));
+        assertManifestDescribesFiles(List.of(export));
+    }
+
+    @Test
+    void rowsWithoutUpdatedAtAreStampedAndExported() throws IOException {
+        // More rows than one stamping batch
+        List<Long> unstamped = book(5, Instant.parse("2029-01-01T00:00:00Z"));
+        for (Long id : unstamped) {
+            jdbc.update("UPDATE bookings SET updated_at = NULL WHERE booking_id = ?", id);
+        }
+
+        Run export = exportService.export(Instant.parse("2032-01-01T00:00:00Z"));
+
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM bookings WHERE updated_at IS NULL", Long.class));
+        assertTrue(ids(export, "bookings").containsAll(unstamped));
+    }
+
+    // Every file the manifest lists has the recorded size, checksum, row count and columns
+    private void assertManifestDescribesFiles(List<Run> runs) throws IOException {
+        Manifest manifest = exportService.latestManifest().orElseThrow();
+        assertEquals(AnalyticsExportService.FORMAT, manifest.format());
+        assertEquals(runs.stream().map(Run::runId).toList(), manifest.runs().stream().map(Run::runId).toList());
+
+        Path day = exportDir.resolve(manifest.date().toString());
+        for (Run run : manifest.runs()) {
+            for (TableExport table : run.tables()) {
+                Path file = day.resolve(table.file());
+                byte[] bytes = Files.readAllBytes(file);
+                assertEquals(table.bytes(), bytes.length, table.file());
+                assertEquals(table.sha256(), sha256(bytes), table.file());
+                try (BufferAllocator allocator = new RootAllocator();
+                        ArrowFileReader reader = reader(file, allocator)) {
+                    List<Field> fields = reader.getVectorSchemaRoot().getSchema().getFields();
+                    assertEquals(table.columns().stream().map(AnalyticsExportService.Column::name).toList(),
+                            fields.stream().map(Field::getName).toList());
+                    assertEquals(table.columns().stream().map(AnalyticsExportService.Column::type).toList(),
+                            fields.stream().map(f -> f.getType().toString()).toList());
+                    long rows = 0;
+                    while (reader.loadNextBatch()) {
+                        rows += reader.getVectorSchemaRoot().getRowCount();
+                    }
+                    assertEquals(table.rows(), rows, table.file());
+                }
+            }
+        }
+    }
+
+    // Keys of one table's file in file order, checking rows come in (updated_at, id) order
+    private List<Long> ids(Run run, String table) throws IOException {
+        TableExport export = export(run, table);
+        Manifest manifest = exportService.latestManifest().orElseThrow();
+        Path file = exportDir.resolve(manifest.date().toString()).resolve(export.file());
+        List<Long> ids = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator(); ArrowFileReader reader = reader(file, allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            long lastUpdated = Long.MIN_VALUE;
+            long lastId = Long.MIN_VALUE;
+            while (reader.loadNextBatch()) {
+                BigIntVector keys = (BigIntVector) root.getVector(0);
+                TimeStampMicroTZVector updated = (TimeStampMicroTZVector) root.getVector("updated_at");
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    long id = keys.get(i);
+                    long updatedAt = updated.get(i);
+                    assertTrue(updatedAt > lastUpdated || updatedAt == lastUpdated && id > lastId,
+                            "out of order at " + id);
+                    lastUpdated = updatedAt;
+                    lastId = id;
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static TableExport export(Run run, String table) {
+        TableExport export = run.tables().stream().filter(t -> t.table().equals(table)).findFirst().orElse(null);
+        assertNotNull(export, table);
+        return export;
+    }
+
+    private List<Long> book(int count, Instant updatedAt) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .customer(customer)
+                    .service(service)
+                    .bookingDate(LocalDateTime.of(2025, 5, 1, 9, 0).plusHours(bookingRepository.count()))
+                    .customerAddress("1 Main St")
+                    .customerPhone("555-0100")
+                    .totalAmount(service.getPrice())
+                    .status(Booking.BookingStatus.PENDING)
+                    .build());
+            setUpdatedAt(booking.getBookingId(), updatedAt);
+            ids.add(booking.getBookingId());
+        }
+        return ids;
+    }
+
+    private void setUpdatedAt(Long bookingId, Instant updatedAt) {
+        jdbc.update("UPDATE bookings SET updated_at = ? WHERE booking_id = ?",
+                OffsetDateTime.ofInstant(updatedAt, ZoneOffset.UTC), bookingId);
+    }
+
+    private static ArrowFileReader reader(Path file, BufferAllocator allocator) throws IOException {
+        return new ArrowFileReader(Files.newByteChannel(file), allocator, CommonsCompressionFactory.INSTANCE);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingFactRow;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactCell;
+import com.fixitnow.backend.controller.dto.ReportDtos.FactQueryResult;
+import com.fixitnow.backend.event.BookingChangedEvent;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.service.BookingFactStore.Dimension;
+import com.fixitnow.backend.service.BookingFactStore.FactQuery;
+
+/**
+ * The store against a map standing in for the bookings table: whatever mix
+ * of reloads and single-booking refreshes ran, a query must see exactly the
+ * bookings the table holds.
+ */
+class BookingFactStoreTest {
+
+    private final TreeMap<Long, BookingFactRow> table = new TreeMap<>();
+    private final BookingRepository repository = mock(BookingRepository.class);
+    private final BookingFactStore store = new BookingFactStore(repository, mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void stubRepository() {
+        when(repository.findFactPage(anyLong(), any(Limit.class))).thenAnswer(invocation -> page(
+                invocation.getArgument(0), invocation.<Limit>getArgument(1).max()));
+        when(repository.findFactById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(table.get(invocation.<Long>getArgument(0))));
+    }
+
+    @Test
+    void reloadAcrossPagesThenRefreshesInAnyIdOrder() {
+        for (long id = 1; id <= 12_000; id += 2) {
+            put(id, Booking.BookingStatus.COMPLETED);
+        }
+        store.reload();
+        assertMatchesTable();
+
+        // Bookings committing out of id order land between existing rows
+        for (long id : new long[] { 12_001, 8, 2, 11_000, 12_003 }) {
+            put(id, Booking.BookingStatus.PENDING);
+            store.onBookingChanged(changed(id));
+        }
+        put(5, Booking.BookingStatus.CANCELLED);
+        store.onBookingChanged(changed(5));
+        table.remove(7L);
+        store.onBookingChanged(changed(7));
+        assertMatchesTable();
+    }
+
+    @Test
+    void reloadPicksUpWritesMadeOutsideTheApplication() {
+        for (long id = 1; id <= 7_000; id++) {
+            put(id, Booking.BookingStatus.CONFIRMED);
+        }
+        store.reload();
+
+        table.headMap(100L).clear();
+        table.subMap(5_000L, 5_200L).clear();
+        table.remove(7_000L);
+        put(6_500, Booking.BookingStatus.CANCELLED);
+        for (long id = 20_000; id < 20_050; id++) {
+            put(id, Booking.BookingStatus.PENDING);
+        }
+        store.reload();
+
+        assertMatchesTable();
+        assertEquals(table.size(), store.query(query()).rowsScanned(), "tombstones compacted");
+    }
+
+    @Test
+    void bookingDeletedWhileAReloadReadsItStaysDeleted() {
+        for (long id = 1; id <= 6_000; id++) {
+            put(id, Booking.BookingStatus.CONFIRMED);
+        }
+        store.reload();
+
+        AtomicBoolean deleted = new AtomicBoolean();
+        when(repository.findFactPage(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            List<BookingFactRow> page = page(invocation.getArgument(0), invocation.<Limit>getArgument(1).max());
+            // Booking 10 is in the first page just read, then deleted and its event applied before the merge
+            if (deleted.compareAndSet(false, true)) {
+                table.remove(10L);
+                store.onBookingChanged(changed(10));
+            }
+            return page;
+        });
+        store.reload();
+
+        assertMatchesTable();
+    }
+
+    private void assertMatchesTable() {
+        FactQueryResult result = store.query(query());
+        assertEquals(table.size(), store.size());
+        assertEquals(table.size(), result.rowsMatched());
+        for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+            long expected = table.values().stream().filter(fact -> fact.status() == status).count();
+            long actual = result.cells().stream()
+                    .filter(cell -> cell.status() == status)
+                    .mapToLong(FactCell::bookingCount)
+                    .sum();
+            assertEquals(expected, actual, status.name());
+        }
+    }
+
+    private List<BookingFactRow> page(long afterId, int limit) {
+        return table.tailMap(afterId, false).values().stream().limit(limit).toList();
+    }
+
+    private void put(long id, Booking.BookingStatus status) {
+        table.put(id, new BookingFactRow(id, id % 7, id % 3, "Western", status,
+                LocalDateTime.of(2025, 1, 1, 10, 0).plusDays(id % 400), new BigDecimal("25.00")));
+    }
+
+    // The store only reads the id; it re-reads the rest from the table
+    private static BookingChangedEvent changed(long id) {
+        return new BookingChangedEvent(id, null, null, null, null, null);
+    }
+
+    private static FactQuery query() {
+        return new FactQuery(Set.of(Dimension.STATUS), null, null, null, null, null, null, false);
+    }
+}
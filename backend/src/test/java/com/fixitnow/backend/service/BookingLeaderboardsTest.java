@@ -0,0 +1,72 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingActivityRow;
+import com.fixitnow.backend.event.BookingChangedEvent;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.service.BookingLeaderboards.Window;
+
+class BookingLeaderboardsTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingLeaderboards leaderboards = new BookingLeaderboards(bookingRepository,
+            mock(ServiceRepository.class), mock(UserRepository.class), mock(PlatformTransactionManager.class), 20);
+
+    @Test
+    void eventsHeldDuringAFailedReplayAreStillApplied() {
+        when(bookingRepository.findActivityPage(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            leaderboards.onBookingChanged(created(1L));
+            throw new QueryTimeoutException("replay failed");
+        });
+
+        assertThrows(QueryTimeoutException.class, leaderboards::seed);
+        leaderboards.onBookingChanged(created(2L));
+
+        assertEquals(2, bookingsCounted());
+    }
+
+    @Test
+    void bookingIdsBeyondIntRangeAreMatchedAgainstTheReplay() {
+        long id = 5_000_000_000L;
+        when(bookingRepository.findActivityPage(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            // Committed while the replay runs: the page below already includes it, so it must not count twice
+            leaderboards.onBookingChanged(created(id));
+            leaderboards.onBookingChanged(created(id + (1L << 24)));
+            return List.of(row(id));
+        });
+
+        leaderboards.seed();
+
+        assertEquals(2, bookingsCounted());
+    }
+
+    private long bookingsCounted() {
+        return leaderboards.get(Window.ALL, 10).topServices().total();
+    }
+
+    private static BookingChangedEvent created(long bookingId) {
+        return new BookingChangedEvent(bookingId, 10L, 20L, 30L, null, Booking.BookingStatus.PENDING);
+    }
+
+    private static BookingActivityRow row(long bookingId) {
+        return new BookingActivityRow(bookingId, 10L, 20L, 30L, Booking.BookingStatus.PENDING, Instant.now(),
+                Instant.now());
+    }
+}
@@ -0,0 +1,187 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.CreateBookingRequest;
+import com.fixitnow.backend.controller.dto.BookingDtos.UpdateBookingRequest;
+import com.fixitnow.backend.controller.dto.BookingDtos.UpdateBookingStatusRequest;
+import com.fixitnow.backend.controller.dto.ReportDtos.PeriodTotal;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.BookingPeriodStats.Granularity;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.BookingRepository;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+
+/**
+ * Day, week and month series must equal the bookings grouped by hand, both
+ * as maintained booking by booking and after a rebuild from the daily
+ * rollup, with empty buckets filled in.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+class BookingSeriesTest {
+
+    private static final String CUSTOMER = "series-customer@example.com";
+    private static final String PROVIDER = "series-provider@example.com";
+    private static final int BOOKINGS = 40;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private AdminReportService adminReportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private LocalDate from;
+    private LocalDate to;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime first = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        from = first.toLocalDate().minusDays(3);
+        to = first.toLocalDate().plusDays(2L * BOOKINGS + 10);
+        if (userRepository.existsByEmail(CUSTOMER)) {
+            return;
+        }
+        userRepository.save(user("Customer", CUSTOMER, Role.CUSTOMER));
+        User provider = userRepository.save(user("Provider", PROVIDER, Role.PROVIDER));
+        ServiceCategory category = categoryRepository.save(ServiceCategory.builder().categoryName("Gardening").build());
+        Service service = serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(category)
+                .serviceTitle("Hedge trimming")
+                .province("Western")
+                .price(new BigDecimal("27.50"))
+                .build());
+
+        // Every other day, so a booking can move onto a free day in between
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            ids.add(bookingService.createBooking(new CreateBookingRequest(service.getServiceId(),
+                    first.plusDays(2L * i), null, "1 Main St", "0771234567"), CUSTOMER).bookingId());
+        }
+        for (int i = 0; i < BOOKINGS; i++) {
+            long id = ids.get(i);
+            switch (i % 5) {
+                case 1 -> bookingService.cancelBooking(id, CUSTOMER);
+                case 2 -> advance(id, Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.IN_PROGRESS,
+                        Booking.BookingStatus.COMPLETED);
+                case 3 -> advance(id, Booking.BookingStatus.CONFIRMED);
+                // Moves often cross a week or month boundary
+                case 4 -> bookingService.updateBooking(id, new UpdateBookingRequest(
+                        first.plusDays(2L * i + 5), null, null, null), CUSTOMER);
+                default -> { }
+            }
+        }
+    }
+
+    @Test
+    void seriesMatchBookingsBeforeAndAfterARebuild() {
+        assertSeriesMatchBookings();
+
+        bookingStatsService.rebuild();
+        adminReportService.invalidateCache();
+
+        assertSeriesMatchBookings();
+    }
+
+    @Test
+    void statusFilterSelectsOnlyThoseStatuses() {
+        Set<Booking.BookingStatus> active = EnumSet.of(Booking.BookingStatus.PENDING,
+                Booking.BookingStatus.CONFIRMED);
+        for (Granularity granularity : Granularity.values()) {
+            assertEquals(expected(granularity, active), actual(granularity, active), granularity.name());
+        }
+    }
+
+    @Test
+    void invalidRangesAreRefused() {
+        assertThrows(IllegalArgumentException.class,
+                () -> adminReportService.getSeries(Granularity.DAY, to, from, null));
+        assertThrows(IllegalArgumentException.class, () -> adminReportService.getSeries(Granularity.DAY,
+                LocalDate.of(2000, 1, 1), LocalDate.of(2030, 12, 31), null));
+    }
+
+    private void assertSeriesMatchBookings() {
+        for (Granularity granularity : Granularity.values()) {
+            assertEquals(expected(granularity, EnumSet.allOf(Booking.BookingStatus.class)),
+                    actual(granularity, List.of()), granularity.name());
+        }
+    }
+
+    // Every bucket from the one holding `from` to the one holding `to`, as "count amount"
+    private Map<LocalDate, String> expected(Granularity granularity, Set<Booking.BookingStatus> statuses) {
+        Map<LocalDate, long[]> counts = new LinkedHashMap<>();
+        Map<LocalDate, BigDecimal> amounts = new LinkedHashMap<>();
+        for (LocalDate p = granularity.start(from); !p.isAfter(to); p = granularity.next(p)) {
+            counts.put(p, new long[1]);
+            amounts.put(p, BigDecimal.ZERO);
+        }
+        for (Booking booking : bookingRepository.findAll()) {
+            if (!statuses.contains(booking.getStatus())) {
+                continue;
+            }
+            LocalDate bucket = granularity.start(booking.getBookingDate().toLocalDate());
+            counts.get(bucket)[0]++;
+            amounts.merge(bucket, booking.getTotalAmount(), BigDecimal::add);
+        }
+        Map<LocalDate, String> result = new LinkedHashMap<>();
+        counts.forEach((bucket, count) -> result.put(bucket, count[0] + " " + amounts.get(bucket).setScale(2)));
+        return result;
+    }
+
+    private Map<LocalDate, String> actual(Granularity granularity, Collection<Booking.BookingStatus> statuses) {
+        Map<LocalDate, String> result = new LinkedHashMap<>();
+        for (PeriodTotal total : adminReportService.getSeries(granularity, from, to, statuses)) {
+            assertEquals(granularity.next(total.periodStart()).minusDays(1), total.periodEnd());
+            result.put(total.periodStart(), total.bookingCount() + " " + total.totalAmount().setScale(2));
+        }
+        return result;
+    }
+
+    private void advance(long bookingId, Booking.BookingStatus... statuses) {
+        for (Booking.BookingStatus status : statuses) {
+            bookingService.updateBookingStatus(bookingId, new UpdateBookingStatusRequest(status, null), PROVIDER);
+        }
+    }
+}
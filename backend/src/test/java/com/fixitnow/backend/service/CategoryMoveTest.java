@@ -0,0 +1,174 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fixitnow.backend.controller.ServiceController.UpdateServiceRequest;
+import com.fixitnow.backend.controller.dto.BookingDtos.CreateBookingRequest;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.repository.UserRepository;
+
+/**
+ * Recategorising a service moves its bookings between revenue cube cells;
+ * the cube must still match a rebuild afterwards, also when a booking is
+ * being written at the same time.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DirtiesContext
+class CategoryMoveTest {
+
+    private static final String CUBE = "SELECT stat_date, category_id, province, status, booking_count, total_amount "
+            + "FROM booking_revenue_cube WHERE booking_count <> 0 ORDER BY stat_date, category_id, province, status";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private ServiceUpdateService serviceUpdateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private User provider;
+    private String customerEmail;
+    private Service service;
+    private ServiceCategory moveTo;
+
+    @BeforeEach
+    void seed() {
+        int n = SEQUENCE.incrementAndGet();
+        provider = userRepository.save(user("Provider " + n, "move-provider" + n + "@example.com", Role.PROVIDER));
+        customerEmail = userRepository.save(user("Customer " + n, "move-customer" + n + "@example.com", Role.CUSTOMER))
+                .getEmail();
+        ServiceCategory moveFrom = categoryRepository.save(ServiceCategory.builder().categoryName("From " + n).build());
+        moveTo = categoryRepository.save(ServiceCategory.builder().categoryName("To " + n).build());
+        service = serviceRepository.save(Service.builder()
+                .provider(provider)
+                .category(moveFrom)
+                .serviceTitle("Rewiring " + n)
+                .province("Western")
+                .price(new BigDecimal("80.00"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void movedBookingsMatchARebuild() {
+        for (int day = 1; day <= 3; day++) {
+            book(day);
+        }
+
+        serviceUpdateService.update(service.getServiceId(), provider, moveToRequest());
+
+        assertEquals(3, jdbc.queryForObject("SELECT SUM(booking_count) FROM booking_revenue_cube WHERE category_id = ?",
+                Long.class, moveTo.getCategoryId()));
+        assertCubeMatchesRebuild();
+    }
+
+    @Test
+    void bookingWrittenDuringTheMoveIsCountedOnce() throws Exception {
+        book(1);
+        CountDownLatch booked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Future<?> booking = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            book(2);
+            booked.countDown();
+            await(commit);
+        }));
+        assertTrue(booked.await(10, TimeUnit.SECONDS));
+
+        Future<?> move = executor.submit(() ->
+                serviceUpdateService.update(service.getServiceId(), provider, moveToRequest()));
+        // The move waits for the booking holding the service row, instead of missing its uncommitted row
+        Thread.sleep(300);
+        assertFalse(move.isDone());
+
+        commit.countDown();
+        booking.get(10, TimeUnit.SECONDS);
+        move.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, jdbc.queryForObject("SELECT SUM(booking_count) FROM booking_revenue_cube WHERE category_id = ?",
+                Long.class, moveTo.getCategoryId()));
+        assertCubeMatchesRebuild();
+    }
+
+    private void book(int day) {
+        bookingService.createBooking(new CreateBookingRequest(service.getServiceId(),
+                LocalDateTime.now().plusDays(day).withNano(0), null, "1 Main St", "0771234567"), customerEmail);
+    }
+
+    private UpdateServiceRequest moveToRequest() {
+        UpdateServiceRequest request = new UpdateServiceRequest();
+        request.setCategoryId(moveTo.getCategoryId());
+        return request;
+    }
+
+    private void assertCubeMatchesRebuild() {
+        List<String> incremental = cube();
+        bookingStatsService.rebuild();
+        assertEquals(cube(), incremental);
+    }
+
+    private List<String> cube() {
+        return jdbc.queryForList(CUBE).stream().map(Object::toString).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
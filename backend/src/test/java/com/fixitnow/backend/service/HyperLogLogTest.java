@@ -0,0 +1,50 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    private static final int PRECISION = 10;
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 100; id++) {
+            sketch.add(id);
+            sketch.add(id);
+        }
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    @Test
+    void largeCardinalitiesStayWithinThreeStandardErrors() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        int distinct = 200_000;
+        for (long id = 1; id <= distinct; id++) {
+            sketch.add(id);
+        }
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * sketch.relativeStandardError(), "relative error " + error);
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = new HyperLogLog(PRECISION);
+        HyperLogLog right = new HyperLogLog(PRECISION);
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 30_000; id++) {
+            (id % 3 == 0 ? left : right).add(id);
+            if (id % 5 == 0) {
+                left.add(id);
+            }
+            union.add(id);
+        }
+        left.merge(right);
+        assertEquals(union.estimate(), left.estimate());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(PRECISION + 1)));
+    }
+}
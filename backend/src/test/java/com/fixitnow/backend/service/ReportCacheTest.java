@@ -0,0 +1,94 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ReportCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final ReportCache cache = new ReportCache();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        cache.shutdown();
+    }
+
+    @Test
+    void cachedValueIsServedUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, cache.get("report", "key", TTL, loads::incrementAndGet));
+        assertEquals(1, cache.get("report", "key", TTL, loads::incrementAndGet));
+
+        cache.invalidateAll();
+
+        assertEquals(2, cache.get("report", "key", TTL, loads::incrementAndGet));
+    }
+
+    @Test
+    void loadRunningDuringInvalidationIsNotServedAfterIt() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> before = callers.submit(() -> cache.get("report", "key", TTL, () -> {
+            loading.countDown();
+            await(release);
+            return "before invalidation";
+        }));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        cache.invalidateAll();
+        release.countDown();
+
+        // The caller that started the load still gets its result, but nobody after the invalidation does
+        assertEquals("before invalidation", before.get(10, TimeUnit.SECONDS));
+        assertEquals("after invalidation", cache.get("report", "key", TTL, () -> "after invalidation"));
+    }
+
+    @Test
+    void errorInLoaderReachesEveryWaitingCaller() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> first = callers.submit(() -> cache.get("report", "key", TTL, () -> {
+            loading.countDown();
+            await(release);
+            throw new AssertionError("loader blew up");
+        }));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        Future<Object> second = callers.submit(() -> cache.get("report", "key", TTL, () -> "never runs"));
+        while (cache.getStats().get(0).misses() < 2) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Object> caller : List.of(first, second)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> caller.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof AssertionError, e.getCause().toString());
+        }
+        // The failed load is not left in flight; the next request loads again
+        assertEquals("recovered", cache.get("report", "key", TTL, () -> "recovered"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
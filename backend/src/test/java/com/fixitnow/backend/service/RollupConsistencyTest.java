@@ -0,0 +1,197 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Review;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+
+/**
+ * The incrementally maintained rollups (daily stats, period buckets, revenue
+ * cube, rating aggregates) must hold exactly what a rebuild from the source
+ * tables computes, whether they were filled by deltas or by the backfill.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ BookingStatsService.class, ProviderRatingService.class })
+class RollupConsistencyTest {
+
+    private static final Map<String, String> ROLLUPS = Map.of(
+            "booking_daily_stats", "stat_date, service_id, customer_id, status, provider_id, booking_count, total_amount",
+            "booking_period_stats", "granularity, period_start, status, booking_count, total_amount",
+            "booking_revenue_cube", "stat_date, category_id, province, status, booking_count, total_amount",
+            "provider_rating_stats", "provider_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, "
+                    + "rating_5");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private ProviderRatingService providerRatingService;
+
+    private final Random random = new Random(7);
+    private final List<User> customers = new ArrayList<>();
+    private final List<Service> services = new ArrayList<>();
+    private final List<Booking> bookings = new ArrayList<>();
+
+    @BeforeEach
+    void seedUsersAndServices() {
+        List<ServiceCategory> categories = List.of(
+                em.persist(ServiceCategory.builder().categoryName("Plumbing").build()),
+                em.persist(ServiceCategory.builder().categoryName("Electrical").build()));
+        for (int i = 0; i < 4; i++) {
+            User provider = em.persist(user("Provider " + i, "provider" + i + "@example.com", Role.PROVIDER));
+            for (int j = 0; j < 2; j++) {
+                services.add(em.persist(Service.builder()
+                        .provider(provider)
+                        .category(categories.get((i + j) % 2))
+                        .serviceTitle("Service " + i + "-" + j)
+                        .province(j == 0 ? "Western" : "Central")
+                        .price(new BigDecimal(40 + 15 * i + ".50"))
+                        .build()));
+            }
+        }
+        for (int i = 0; i < 6; i++) {
+            customers.add(em.persist(user("Customer " + i, "customer" + i + "@example.com", Role.CUSTOMER)));
+        }
+    }
+
+    @Test
+    void deltasMatchARebuild() {
+        for (int i = 0; i < 200; i++) {
+            bookingStatsService.recordCreated(persistBooking(i, Booking.BookingStatus.PENDING));
+        }
+        // Move bookings between days and through statuses, as the booking endpoints do
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        for (int i = 0; i < 400; i++) {
+            Booking booking = bookings.get(random.nextInt(bookings.size()));
+            LocalDate previousDay = booking.getBookingDate().toLocalDate();
+            Booking.BookingStatus previousStatus = booking.getStatus();
+            if (random.nextBoolean()) {
+                booking.setBookingDate(booking.getBookingDate().plusDays(random.nextInt(90) - 45));
+            }
+            booking.setStatus(statuses[random.nextInt(statuses.length)]);
+            bookingStatsService.recordChanged(booking, previousDay, previousStatus);
+        }
+        // Reviews are added, re-rated and removed
+        List<Review> reviews = new ArrayList<>();
+        for (Booking booking : bookings.subList(0, 60)) {
+            Review review = persistReview(booking);
+            reviews.add(review);
+            providerRatingService.recordAdded(review.getProvider().getUserId(), review.getRating());
+        }
+        for (Review review : reviews.subList(0, 20)) {
+            int previous = review.getRating();
+            review.setRating(1 + random.nextInt(5));
+            providerRatingService.recordChanged(review.getProvider().getUserId(), previous, review.getRating());
+        }
+        for (Review review : reviews.subList(40, 60)) {
+            providerRatingService.recordRemoved(review.getProvider().getUserId(), review.getRating());
+            em.remove(review);
+        }
+        em.flush();
+
+        Map<String, List<String>> incremental = rollups();
+        bookingStatsService.rebuild();
+        providerRatingService.rebuild();
+        assertEquals(rollups(), incremental);
+    }
+
+    @Test
+    void backfillMatchesARebuildAndRunsOnlyOnce() {
+        for (int i = 0; i < 150; i++) {
+            Booking booking = persistBooking(i, Booking.BookingStatus.values()[i % Booking.BookingStatus.values().length]);
+            if (booking.getStatus() == Booking.BookingStatus.COMPLETED) {
+                persistReview(booking);
+            }
+        }
+        em.flush();
+
+        bookingStatsService.backfillIfEmpty();
+        providerRatingService.backfillIfEmpty();
+        Map<String, List<String>> backfilled = rollups();
+        ROLLUPS.keySet().forEach(table -> assertFalse(backfilled.get(table).isEmpty(), table));
+
+        // A booking recorded after the backfill is counted once, by its delta
+        bookingStatsService.recordCreated(persistBooking(150, Booking.BookingStatus.CONFIRMED));
+        em.flush();
+        bookingStatsService.backfillIfEmpty();
+        providerRatingService.backfillIfEmpty();
+        Map<String, List<String>> afterDelta = rollups();
+
+        bookingStatsService.rebuild();
+        providerRatingService.rebuild();
+        assertEquals(rollups(), afterDelta);
+    }
+
+    private Booking persistBooking(int i, Booking.BookingStatus status) {
+        Service service = services.get(random.nextInt(services.size()));
+        Booking booking = em.persist(Booking.builder()
+                .customer(customers.get(random.nextInt(customers.size())))
+                .service(service)
+                .bookingDate(LocalDateTime.of(2025, 3, 1, 9, 0).plusDays(random.nextInt(120)).plusMinutes(i))
+                .customerAddress("1 Main St")
+                .customerPhone("555-0100")
+                .totalAmount(service.getPrice())
+                .status(status)
+                .build());
+        bookings.add(booking);
+        return booking;
+    }
+
+    private Review persistReview(Booking booking) {
+        return em.persist(Review.builder()
+                .booking(booking)
+                .customer(booking.getCustomer())
+                .provider(booking.getService().getProvider())
+                .rating(1 + random.nextInt(5))
+                .comment("Synthetic review")
+                .build());
+    }
+
+    // Every rollup's non-empty rows, minus the updated_at timestamps, in a stable order. The context is
+    // cleared as well, as it would be between requests, so a rebuild's native deletes don't strand entities
+    private Map<String, List<String>> rollups() {
+        em.flush();
+        em.clear();
+        Map<String, List<String>> tables = new TreeMap<>();
+        ROLLUPS.forEach((table, columns) -> {
+            String countColumn = table.equals("provider_rating_stats") ? "review_count" : "booking_count";
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = em.getEntityManager()
+                    .createNativeQuery("SELECT " + columns + " FROM " + table + " WHERE " + countColumn + " <> 0 "
+                            + "ORDER BY " + columns)
+                    .getResultList();
+            tables.put(table, rows.stream().map(Arrays::toString).toList());
+        });
+        return tables;
+    }
+}
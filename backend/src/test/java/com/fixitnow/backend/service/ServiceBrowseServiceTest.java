@@ -0,0 +1,135 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fixitnow.backend.controller.dto.ServiceDtos.BrowseSort;
+import com.fixitnow.backend.controller.dto.ServiceDtos.CategoryFacet;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ProvinceFacet;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseRequest;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceBrowseResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+
+/**
+ * Keyset pages of the browse endpoint must add up to exactly the filtered,
+ * sorted list, including across runs of equal prices, and each facet must
+ * ignore only its own filter.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ServiceBrowseService.class)
+class ServiceBrowseServiceTest {
+
+    private static final String[] PROVINCES = { "Western", "Central", "Southern" };
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ServiceBrowseService browseService;
+
+    private final List<Service> services = new ArrayList<>();
+    private ServiceCategory plumbing;
+
+    @BeforeEach
+    void seed() {
+        plumbing = em.persist(ServiceCategory.builder().categoryName("Plumbing").build());
+        ServiceCategory electrical = em.persist(ServiceCategory.builder().categoryName("Electrical").build());
+        User provider = em.persist(user("Provider", "browse-provider@example.com", Role.PROVIDER));
+        for (int i = 0; i < 40; i++) {
+            services.add(em.persist(Service.builder()
+                    .provider(provider)
+                    .category(i % 3 == 0 ? electrical : plumbing)
+                    .serviceTitle("Service " + i)
+                    .province(PROVINCES[(i / 2) % PROVINCES.length])
+                    // Only five distinct prices, so pages split runs of equal prices
+                    .price(new BigDecimal(20 + 10 * (i % 5) + ".00"))
+                    .availabilityStatus(i % 7 == 0 ? Service.AvailabilityStatus.UNAVAILABLE
+                            : Service.AvailabilityStatus.AVAILABLE)
+                    .build()));
+        }
+        em.flush();
+    }
+
+    @Test
+    void pagesAddUpToTheSortedFilteredList() {
+        BigDecimal minPrice = new BigDecimal("30.00");
+        List<Service> matching = services.stream()
+                .filter(s -> s.getAvailabilityStatus() == Service.AvailabilityStatus.AVAILABLE)
+                .filter(s -> s.getPrice().compareTo(minPrice) >= 0)
+                .toList();
+        Comparator<Service> byId = Comparator.comparing(Service::getServiceId);
+        Map<BrowseSort, Comparator<Service>> orders = Map.of(
+                BrowseSort.NEWEST, byId.reversed(),
+                BrowseSort.PRICE_ASC, Comparator.comparing(Service::getPrice).thenComparing(byId),
+                BrowseSort.PRICE_DESC, Comparator.comparing(Service::getPrice).thenComparing(byId).reversed());
+
+        orders.forEach((sort, order) -> {
+            List<Long> expected = matching.stream().sorted(order).map(Service::getServiceId).toList();
+            List<Long> paged = new ArrayList<>();
+            String cursor = null;
+            do {
+                ServiceBrowseResponse page = browseService.browse(new ServiceBrowseRequest(null, null, minPrice, null,
+                        Service.AvailabilityStatus.AVAILABLE, null, sort, 4, cursor));
+                page.items().stream().map(ServiceSummaryResponse::serviceId).forEach(paged::add);
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            assertEquals(expected, paged, sort.name());
+        });
+    }
+
+    @Test
+    void eachFacetIgnoresOnlyItsOwnFilter() {
+        ServiceBrowseResponse page = browseService.browse(new ServiceBrowseRequest(plumbing.getCategoryId(),
+                "Western", null, null, null, null, BrowseSort.NEWEST, 100, null));
+
+        // Category counts within Western, province counts within Plumbing
+        Map<String, Long> categories = page.facets().categories().stream()
+                .collect(Collectors.toMap(CategoryFacet::categoryName, CategoryFacet::count));
+        Map<String, Long> expectedCategories = services.stream()
+                .filter(s -> s.getProvince().equals("Western"))
+                .collect(Collectors.groupingBy(s -> s.getCategory().getCategoryName(), Collectors.counting()));
+        assertEquals(expectedCategories, categories);
+
+        Map<String, Long> provinces = page.facets().provinces().stream()
+                .collect(Collectors.toMap(ProvinceFacet::province, ProvinceFacet::count));
+        Map<String, Long> expectedProvinces = services.stream()
+                .filter(s -> s.getCategory().equals(plumbing))
+                .collect(Collectors.groupingBy(Service::getProvince, Collectors.counting()));
+        assertEquals(expectedProvinces, provinces);
+
+        assertEquals(expectedCategories.get("Plumbing"), (long) page.items().size());
+    }
+
+    @Test
+    void malformedRequestsAreRefused() {
+        assertThrows(IllegalArgumentException.class, () -> browseService.browse(new ServiceBrowseRequest(
+                null, null, null, null, null, null, BrowseSort.PRICE_ASC, 10, "bm90LWEtY3Vyc29y")));
+        assertThrows(IllegalArgumentException.class, () -> browseService.browse(new ServiceBrowseRequest(
+                null, null, null, null, null, null, BrowseSort.NEWEST, 0, null)));
+        assertThrows(IllegalArgumentException.class, () -> browseService.browse(new ServiceBrowseRequest(
+                null, null, BigDecimal.TEN, BigDecimal.ONE, null, null, BrowseSort.NEWEST, 10, null)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fixitnow.backend.controller.dto.ServiceDtos.BrowseSort;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.event.ServiceChangedEvent;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.repository.ServiceRepository;
+import com.fixitnow.backend.service.ServiceCatalog.CatalogQuery;
+
+class ServiceCatalogTest {
+
+    private final ServiceRepository repository = mock(ServiceRepository.class);
+    private final ServiceCatalog catalog = new ServiceCatalog(repository);
+
+    @Test
+    void changeAppliedDuringRebuildSurvivesTheSwap() {
+        ServiceSummaryResponse before = summary(1, "10.00");
+        ServiceSummaryResponse after = summary(1, "20.00");
+        when(repository.findSummaryById(1L)).thenReturn(Optional.of(after));
+        // The price changes and its event is applied while the rebuild is still reading the old row
+        when(repository.findAllSummaries()).thenAnswer(invocation -> {
+            catalog.onServiceChanged(new ServiceChangedEvent(1L, false));
+            return List.of(before);
+        });
+
+        catalog.rebuild();
+
+        assertEquals(List.of(after), catalog.find(query(null, null)));
+    }
+
+    @Test
+    void deletionDuringRebuildSurvivesTheSwap() {
+        when(repository.findSummaryById(1L)).thenReturn(Optional.empty());
+        when(repository.findAllSummaries()).thenAnswer(invocation -> {
+            catalog.onServiceChanged(new ServiceChangedEvent(1L, true));
+            return List.of(summary(1, "10.00"), summary(2, "15.00"));
+        });
+
+        catalog.rebuild();
+
+        assertEquals(1, catalog.size());
+    }
+
+    @Test
+    void priceFiltersBeyondAnyStoredPriceAreClamped() {
+        when(repository.findAllSummaries()).thenReturn(List.of(summary(1, "10.00"), summary(2, "99999999.99")));
+        catalog.rebuild();
+
+        BigDecimal huge = new BigDecimal("1e40");
+        assertEquals(2, catalog.find(query(null, huge)).size());
+        assertEquals(0, catalog.find(query(huge, null)).size());
+        assertEquals(2, catalog.find(query(huge.negate(), huge)).size());
+        assertEquals(0, catalog.find(query(null, huge.negate())).size());
+    }
+
+    private static CatalogQuery query(BigDecimal minPrice, BigDecimal maxPrice) {
+        return new CatalogQuery(null, null, null, minPrice, maxPrice, BrowseSort.PRICE_ASC, 0);
+    }
+
+    private static ServiceSummaryResponse summary(long id, String price) {
+        return new ServiceSummaryResponse(id, "Service " + id, "", 1L, "Plumbing", new BigDecimal(price),
+                Service.AvailabilityStatus.AVAILABLE, 10L, "Provider", "", "Western");
+    }
+}
@@ -0,0 +1,88 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the Space-Saving guarantees against exact counts of a skewed stream:
+ * estimates bracket the truth, and every key above total / capacity is kept.
+ */
+class SpaceSavingTest {
+
+    private static final int CAPACITY = 50;
+
+    @Test
+    void exactWhileUnderCapacity() {
+        SpaceSaving summary = new SpaceSaving(CAPACITY);
+        for (long key = 1; key <= 10; key++) {
+            for (int i = 0; i < key; i++) {
+                summary.add(key);
+            }
+        }
+        List<SpaceSaving.Estimate> top = summary.top(3);
+        assertEquals(List.of(10L, 9L, 8L), top.stream().map(SpaceSaving.Estimate::key).toList());
+        top.forEach(e -> assertEquals(0, e.error()));
+        assertEquals(0, summary.untrackedBound());
+    }
+
+    @Test
+    void boundsHoldOnSkewedStream() {
+        Map<Long, Long> exact = new HashMap<>();
+        SpaceSaving summary = new SpaceSaving(CAPACITY);
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = zipf(random, 2_000);
+            exact.merge(key, 1L, Long::sum);
+            summary.add(key);
+        }
+
+        long bound = summary.total() / CAPACITY;
+        assertTrue(summary.untrackedBound() <= bound);
+        for (SpaceSaving.Estimate estimate : summary.top(CAPACITY)) {
+            long truth = exact.getOrDefault(estimate.key(), 0L);
+            assertTrue(estimate.guaranteedCount() <= truth && truth <= estimate.count(), estimate.toString());
+            assertTrue(estimate.error() <= bound);
+        }
+        List<Long> tracked = summary.top(CAPACITY).stream().map(SpaceSaving.Estimate::key).toList();
+        exact.forEach((key, count) -> {
+            if (count > bound) {
+                assertTrue(tracked.contains(key), "heavy key " + key + " missing");
+            }
+        });
+    }
+
+    @Test
+    void mergedEstimatesStayUpperBounds() {
+        Map<Long, Long> exact = new HashMap<>();
+        List<SpaceSaving> days = List.of(new SpaceSaving(CAPACITY), new SpaceSaving(CAPACITY), new SpaceSaving(CAPACITY));
+        Random random = new Random(7);
+        for (SpaceSaving day : days) {
+            for (int i = 0; i < 20_000; i++) {
+                long key = zipf(random, 1_000);
+                exact.merge(key, 1L, Long::sum);
+                day.add(key);
+            }
+        }
+
+        List<SpaceSaving.Estimate> merged = SpaceSaving.mergeTop(days, 10);
+        assertEquals(10, merged.size());
+        for (SpaceSaving.Estimate estimate : merged) {
+            long truth = exact.get(estimate.key());
+            assertTrue(estimate.guaranteedCount() <= truth && truth <= estimate.count(), estimate.toString());
+        }
+        long top = exact.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertEquals(top, exact.get(merged.get(0).key()));
+    }
+
+    // Roughly Zipf-distributed key in [1, n]
+    private static long zipf(Random random, int n) {
+        return (long) Math.floor(Math.pow(n + 1, random.nextDouble()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.fixitnow.backend.service;
+
+import static com.fixitnow.backend.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fixitnow.backend.model.Booking.BookingStatus;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+import com.fixitnow.backend.repository.ServiceCategoryRepository;
+import com.fixitnow.backend.repository.UserRepository;
+import com.fixitnow.backend.service.SyntheticDataGenerator.Scale;
+import com.fixitnow.backend.service.SyntheticDataGenerator.Summary;
+
+/**
+ * Generates a small dataset into H2 and checks its shape: counts, every
+ * booking status, reviews only on completed bookings, skewed popularity,
+ * filled rollups, and that the application can still insert afterwards.
+ */
+@SpringBootTest(properties = {
+        "app.datagen.run-on-startup=false",
+        "app.datagen.rows-per-insert=100",
+        "app.datagen.threads=3"
+})
+@ActiveProfiles({ "h2", "datagen" })
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Test
+    void generatesARealisticDataset() {
+        // An existing category is reused rather than duplicated
+        categoryRepository.save(ServiceCategory.builder().categoryName("plumbing").build());
+
+        Summary summary = generator.generate(new Scale(2_000, 0.05, 3, 20_000, 0.4, 365, 1.0, 0.8, 7));
+
+        assertEquals(2_001, summary.users());
+        assertEquals(300, summary.services());
+        assertEquals(20_000, summary.bookings());
+        assertEquals(12, count("SELECT COUNT(*) FROM service_categories"));
+        assertEquals(1, count("SELECT COUNT(*) FROM users WHERE role = 'ADMIN'"));
+        assertEquals(100, count("SELECT COUNT(*) FROM users WHERE role = 'PROVIDER'"));
+        assertEquals(20_000, count("SELECT COUNT(*) FROM bookings"));
+
+        List<String> statuses = jdbcTemplate.queryForList("SELECT DISTINCT status FROM bookings", String.class);
+        assertEquals(BookingStatus.values().length, statuses.size(), statuses::toString);
+
+        long reviews = count("SELECT COUNT(*) FROM reviews");
+        assertEquals(summary.reviews(), reviews);
+        assertEquals(0, count("SELECT COUNT(*) FROM reviews r JOIN bookings b ON b.booking_id = r.booking_id "
+                + "WHERE b.status <> 'COMPLETED'"));
+        long completed = count("SELECT COUNT(*) FROM bookings WHERE status = 'COMPLETED'");
+        assertEquals(0.4, reviews / (double) completed, 0.03);
+
+        // Zipf popularity: the top 1% of services take far more than 1% of the bookings
+        List<Long> perService = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM bookings GROUP BY service_id ORDER BY COUNT(*) DESC", Long.class);
+        long top = perService.subList(0, 3).stream().mapToLong(Long::longValue).sum();
+        assertTrue(top > 20_000 * 0.15, "top 3 services have " + top + " bookings");
+
+        assertTrue(count("SELECT COUNT(*) FROM booking_daily_stats") > 0);
+        assertEquals(count("SELECT COUNT(DISTINCT provider_id) FROM reviews"),
+                count("SELECT COUNT(*) FROM provider_rating_stats"));
+
+        // Identity columns continue after the generated ids
+        User user = userRepository.save(user("After Datagen", "after@example.com", Role.CUSTOMER));
+        assertEquals(count("SELECT MAX(user_id) FROM users"), user.getUserId());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.fixitnow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ZipfSamplerTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void rankFrequenciesFollowThePowerLaw() {
+        int[] counts = draw(new ZipfSampler(1000, 1.0));
+        // Rank 0 is drawn twice as often as rank 1 and ten times as often as rank 9
+        assertEquals(2.0, counts[0] / (double) counts[1], 0.1);
+        assertEquals(10.0, counts[0] / (double) counts[9], 1.0);
+        // 1 / H(1000) of the draws go to rank 0
+        assertEquals(DRAWS / 7.485, counts[0], DRAWS * 0.005);
+    }
+
+    @Test
+    void zeroSkewIsUniform() {
+        int[] counts = draw(new ZipfSampler(10, 0));
+        for (int count : counts) {
+            assertEquals(DRAWS / 10.0, count, DRAWS * 0.01);
+        }
+    }
+
+    @Test
+    void everyDrawIsInRange() {
+        ZipfSampler sampler = new ZipfSampler(3, 2.5);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < DRAWS; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 0 && rank < 3);
+        }
+        assertEquals(0, new ZipfSampler(1, 1.0).sample(random));
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, -0.5));
+    }
+
+    private static int[] draw(ZipfSampler sampler) {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[sampler.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,78 @@
+package com.fixitnow.backend.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * AdminReportService's mapping of native dashboard rows to JSON maps, with the
+ * column types MySQL Connector/J returns. Lives in the service package to
+ * reach the package-private row mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportRowMappingBenchmark {
+
+    private List<Object[]> revenue;
+    private List<Object[]> status;
+    private List<Object[]> topProviders;
+
+    @Setup
+    public void setUp() {
+        revenue = new ArrayList<>();
+        LocalDate day = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 30; i++) {
+            revenue.add(new Object[] {Date.valueOf(day.plusDays(i)), new BigDecimal("1234.50").add(BigDecimal.valueOf(i))});
+        }
+        status = new ArrayList<>();
+        for (String s : new String[] {"PENDING", "CONFIRMED", "IN_PROGRESS", "COMPLETED", "CANCELLED"}) {
+            status.add(new Object[] {s, BigInteger.valueOf(s.length() * 17L)});
+        }
+        topProviders = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            topProviders.add(new Object[] {1000L + i, "Provider " + i, BigDecimal.valueOf(40 - i), new BigDecimal("4.2500")});
+        }
+    }
+
+    // Last-30-days revenue chart
+    @Benchmark
+    public List<Map<String, Object>> revenue() {
+        return map(revenue, AdminReportService::revenueRow);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> statusDistribution() {
+        return map(status, AdminReportService::statusRow);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> topProviders() {
+        return map(topProviders, AdminReportService::topProviderRow);
+    }
+
+    private static List<Map<String, Object>> map(List<Object[]> rows, Function<Object[], Map<String, Object>> mapper) {
+        return rows.stream().map(mapper).collect(Collectors.toList());
+    }
+}
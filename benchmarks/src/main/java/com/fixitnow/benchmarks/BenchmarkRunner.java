@@ -0,0 +1,55 @@
+package com.fixitnow.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar: JMH's command line, with results written as
+ * JSON to target/jmh-result.json and the GC profiler on, so every score comes
+ * with gc.alloc.rate.norm (bytes allocated per operation). {@code -rf},
+ * {@code -rff} and {@code -prof} on the command line take precedence;
+ * {@code -h}, {@code -l}, {@code -lp}, {@code -lprof} and {@code -lrf} behave
+ * as in {@code org.openjdk.jmh.Main} and run nothing.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+        if (cli.shouldListWithParams()) {
+            new Runner(cli).listWithParams(cli);
+            return;
+        }
+        if (cli.shouldListProfilers()) {
+            cli.listProfilers();
+            return;
+        }
+        if (cli.shouldListResultFormats()) {
+            cli.listResultFormats();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cli)
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse("target/jmh-result.json"));
+        if (cli.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
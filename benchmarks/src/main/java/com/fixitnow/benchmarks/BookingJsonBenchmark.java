@@ -0,0 +1,62 @@
+package com.fixitnow.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingResponse;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingSummaryResponse;
+
+/**
+ * Jackson serialization of booking list responses, with an ObjectMapper
+ * configured the way Spring Boot builds the application's (ISO dates, Java
+ * time module, unknown properties ignored).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<BookingSummaryResponse> summaries;
+    private List<BookingResponse> responses;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        summaries = Fixtures.bookingSummaries(size);
+        responses = Fixtures.bookingResponses(size);
+    }
+
+    // GET /api/bookings/customer and /provider
+    @Benchmark
+    public byte[] summaryList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(summaries);
+    }
+
+    // GET /api/bookings (admin)
+    @Benchmark
+    public byte[] responseList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fixitnow.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingResponse;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingSummaryResponse;
+import com.fixitnow.backend.controller.dto.ServiceDtos.ServiceSummaryResponse;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Service;
+
+/**
+ * Entity and projection to DTO mapping, per row. Entity constructors run for
+ * single-booking responses; the projection constructors are what JPQL
+ * constructor expressions call for every row of a listing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private static final int ROWS = 256;
+
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        bookings = Fixtures.bookings(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bookingResponseFromEntity(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(new BookingResponse(booking));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bookingSummaryFromEntity(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(new BookingSummaryResponse(booking));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bookingSummaryFromProjection(Blackhole blackhole) {
+        for (Booking b : bookings) {
+            Service s = b.getService();
+            blackhole.consume(new BookingSummaryResponse(b.getBookingId(), b.getCustomer().getUserId(),
+                    s.getProvider().getUserId(), s.getServiceTitle(), s.getProvider().getFullName(),
+                    s.getProvider().getEmail(), s.getCategory().getCategoryName(), b.getBookingDate(),
+                    b.getTotalAmount(), b.getStatus(), b.getCreatedAt()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void serviceSummaryFromProjection(Blackhole blackhole) {
+        for (Booking b : bookings) {
+            Service s = b.getService();
+            blackhole.consume(new ServiceSummaryResponse(s.getServiceId(), s.getServiceTitle(),
+                    s.getDescriptionSnippet(), s.getCategory().getCategoryId(), s.getCategory().getCategoryName(),
+                    s.getPrice(), s.getAvailabilityStatus(), s.getProvider().getUserId(),
+                    s.getProvider().getFullName(), s.getCreatedAt(), s.getProvince()));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.fixitnow.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingResponse;
+import com.fixitnow.backend.controller.dto.BookingDtos.BookingSummaryResponse;
+import com.fixitnow.backend.model.Booking;
+import com.fixitnow.backend.model.Role;
+import com.fixitnow.backend.model.Service;
+import com.fixitnow.backend.model.ServiceCategory;
+import com.fixitnow.backend.model.User;
+
+/**
+ * Detached entity graphs and DTOs shaped like production data, from a fixed
+ * seed so every run measures the same input.
+ */
+final class Fixtures {
+
+    private static final String[] PROVINCES = {"Western", "Central", "Southern", "Northern", "Eastern"};
+    private static final String[] CATEGORIES = {"Plumbing", "Electrical", "Cleaning", "Carpentry", "Painting"};
+
+    private Fixtures() {
+    }
+
+    static List<Booking> bookings(int count) {
+        Random random = new Random(42);
+        List<ServiceCategory> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            categories.add(ServiceCategory.builder().categoryId((long) i + 1).categoryName(CATEGORIES[i]).build());
+        }
+        List<User> providers = new ArrayList<>();
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User provider = user(1000L + i, "Provider " + i, "provider" + i + "@example.com", Role.PROVIDER);
+            providers.add(provider);
+            for (int j = 0; j < 3; j++) {
+                services.add(Service.builder()
+                        .serviceId((long) services.size() + 1)
+                        .provider(provider)
+                        .category(categories.get(random.nextInt(categories.size())))
+                        .serviceTitle("Service " + i + "-" + j)
+                        .descriptionSnippet("Reliable, insured and on time. Same-day visits for most jobs in the area.")
+                        .province(PROVINCES[random.nextInt(PROVINCES.length)])
+                        .price(BigDecimal.valueOf(1500 + random.nextInt(20_000), 2))
+                        .createdAt(Instant.parse("2025-01-01T00:00:00Z"))
+                        .build());
+            }
+        }
+        List<User> customers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            customers.add(user(5000L + i, "Customer " + i, "customer" + i + "@example.com", Role.CUSTOMER));
+        }
+
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Service service = services.get(random.nextInt(services.size()));
+            Instant created = Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i * 600L);
+            bookings.add(Booking.builder()
+                    .bookingId((long) i + 1)
+                    .customer(customers.get(random.nextInt(customers.size())))
+                    .service(service)
+                    .bookingDate(start.plusHours(i))
+                    .specialRequests(i % 3 == 0 ? "Please call before arriving" : null)
+                    .customerAddress("12 Main Street, Colombo")
+                    .customerPhone("0771234567")
+                    .totalAmount(service.getPrice())
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .version(0L)
+                    .build());
+        }
+        return bookings;
+    }
+
+    static List<BookingResponse> bookingResponses(int count) {
+        return bookings(count).stream().map(BookingResponse::new).toList();
+    }
+
+    static List<BookingSummaryResponse> bookingSummaries(int count) {
+        return bookings(count).stream().map(BookingSummaryResponse::new).toList();
+    }
+
+    private static User user(Long id, String name, String email, Role role) {
+        return User.builder()
+                .userId(id)
+                .fullName(name)
+                .email(email)
+                .phone("0112345678")
+                .passwordHash("x")
+                .role(role)
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.fixitnow.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fixitnow.backend.security.JwtUtil;
+
+/**
+ * Token signing at login and the parsing every authenticated request pays in
+ * JwtAuthenticationFilter (subject, then signature and expiry again in
+ * isTokenValid).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    // 256-bit key, benchmark use only
+    private static final String SECRET = "Zml4aXRub3ctYmVuY2htYXJrLXNpZ25pbmcta2V5LSE=";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L);
+        token = jwtUtil.generateToken("customer42@example.com", "CUSTOMER", 42L);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken("customer42@example.com", "CUSTOMER", 42L);
+    }
+
+    @Benchmark
+    public String parseSubject() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    // What JwtAuthenticationFilter does per request: subject, then validity
+    @Benchmark
+    public boolean authenticateRequest() {
+        return jwtUtil.isTokenValid(token, jwtUtil.extractUsername(token));
+    }
+}
@@ -0,0 +1,48 @@
+package com.fixitnow.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fixitnow.backend.model.Booking.BookingStatus;
+
+/**
+ * Booking status transition check over every (current, next) pair, as
+ * BookingService runs it before each provider status update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusTransitionBenchmark {
+
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    // Non-final so the JIT cannot fold the loop over a constant array
+    private BookingStatus[] statuses = STATUSES;
+
+    @Benchmark
+    @OperationsPerInvocation(25)
+    public int allPairs() {
+        int allowed = 0;
+        for (BookingStatus from : statuses) {
+            for (BookingStatus to : statuses) {
+                if (from.canTransitionTo(to)) {
+                    allowed++;
+                }
+            }
+        }
+        return allowed;
+    }
+}
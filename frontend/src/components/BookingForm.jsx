@@ -1,4 +1,4 @@
-import { useState } from "react";
+import { useEffect, useState } from "react";
 import api from "../services/api";
 import { getToken } from "../utils/auth";
 
@@ -13,6 +13,21 @@ export default function BookingForm({ service, onBookingCreated, onClose }) {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState("");
   const [success, setSuccess] = useState("");
+  const [description, setDescription] = useState(service.serviceDescription);
+
+  // List endpoints only carry a description snippet; load the full text for this service
+  useEffect(() => {
+    let cancelled = false;
+    api
+      .get(`/api/services/${service.serviceId}`)
+      .then((res) => {
+        if (!cancelled) setDescription(res.data.serviceDescription);
+      })
+      .catch(() => {});
+    return () => {
+      cancelled = true;
+    };
+  }, [service.serviceId]);
 
   const handleInputChange = (e) => {
     const { name, value } = e.target;
@@ -130,7 +145,7 @@ export default function BookingForm({ service, onBookingCreated, onClose }) {
           <h3 className="text-lg font-semibold text-blue-800">
             {service.serviceTitle}
           </h3>
-          <p className="text-blue-600 mb-2">{service.serviceDescription}</p>
+          <p className="text-blue-600 mb-2">{description}</p>
           <div className="flex justify-between items-center">
             <div className="text-sm text-blue-600">
               <p>Provider: {service.providerName}</p>
@@ -8,6 +8,7 @@ const CustomerReviews = () => {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [customerId, setCustomerId] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
   const [editingReview, setEditingReview] = useState(null);
   const [editForm, setEditForm] = useState({ rating: 5, comment: '' });
   const [message, setMessage] = useState('');
@@ -55,7 +56,8 @@ const CustomerReviews = () => {
     try {
       setLoading(true);
       const response = await getCustomerReviews(customerId);
-      setReviews(response.data);
+      setReviews(response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (err) {
       setError(`Failed to load reviews: ${err.response?.data || err.message}`);
     } finally {
@@ -63,6 +65,16 @@ const CustomerReviews = () => {
     }
   };
 
+  const loadMore = async () => {
+    try {
+      const response = await getCustomerReviews(customerId, { cursor: nextCursor });
+      setReviews((prev) => [...prev, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      setError(`Failed to load reviews: ${err.response?.data || err.message}`);
+    }
+  };
+
   const handleEdit = (review) => {
     setEditingReview(review);
     setEditForm({
@@ -263,7 +275,7 @@ const CustomerReviews = () => {
                       <div className="mt-2 flex items-center text-sm text-gray-600">
                         <span className="mr-2">👤</span>
                         <span>
-                          For Provider: {review.provider?.fullName || `Provider #${review.provider?.userId || 'Unknown'}`}
+                          For Provider: {review.providerName || `Provider #${review.providerId || 'Unknown'}`}
                         </span>
                       </div>
                       
@@ -302,6 +314,14 @@ const CustomerReviews = () => {
               )}
             </div>
           ))}
+          {nextCursor && (
+            <button
+              onClick={loadMore}
+              className="w-full bg-gray-100 hover:bg-gray-200 text-gray-700 py-2 rounded text-sm transition"
+            >
+              Load more
+            </button>
+          )}
         </div>
       )}
 
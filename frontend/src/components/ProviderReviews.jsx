@@ -7,6 +7,8 @@ const ProviderReviews = () => {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [providerId, setProviderId] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [rating, setRating] = useState(null);
 
   useEffect(() => {
     // Get provider ID from JWT token
@@ -50,8 +52,13 @@ const ProviderReviews = () => {
   const fetchReviews = async (providerId) => {
     try {
       setLoading(true);
-      const response = await api.get(`/api/reviews/provider/${providerId}`);
-      setReviews(response.data);
+      const [page, summary] = await Promise.all([
+        api.get(`/api/reviews/provider/${providerId}`),
+        api.get(`/api/reviews/provider/${providerId}/rating`)
+      ]);
+      setReviews(page.data.items);
+      setNextCursor(page.data.nextCursor);
+      setRating(summary.data);
     } catch (err) {
       setError(`Failed to load reviews: ${err.response?.data || err.message}`);
     } finally {
@@ -59,6 +66,18 @@ const ProviderReviews = () => {
     }
   };
 
+  const loadMore = async () => {
+    try {
+      const response = await api.get(`/api/reviews/provider/${providerId}`, {
+        params: { cursor: nextCursor }
+      });
+      setReviews((prev) => [...prev, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      setError(`Failed to load reviews: ${err.response?.data || err.message}`);
+    }
+  };
+
   const formatDate = (dateString) => {
     return new Date(dateString).toLocaleDateString('en-US', {
       year: 'numeric',
@@ -110,7 +129,7 @@ const ProviderReviews = () => {
         <h2 className="text-2xl font-bold text-white">My Reviews</h2>
         <div className="flex items-center gap-4">
           <div className="text-sm text-gray-400">
-            {reviews.length} review{reviews.length !== 1 ? 's' : ''} received
+            {rating?.reviewCount ?? reviews.length} review{(rating?.reviewCount ?? reviews.length) !== 1 ? 's' : ''} received
           </div>
           <button
             onClick={() => providerId && fetchReviews(providerId)}
@@ -146,7 +165,7 @@ const ProviderReviews = () => {
                   <div className="mt-2 flex items-center text-sm text-gray-400">
                     <span className="mr-2">👤</span>
                     <span>
-                      {review.customer?.fullName || `Customer #${review.customer?.userId || 'Unknown'}`}
+                      {review.customerName || `Customer #${review.customerId || 'Unknown'}`}
                     </span>
                   </div>
                   
@@ -167,6 +186,14 @@ const ProviderReviews = () => {
               </div>
             </div>
           ))}
+          {nextCursor && (
+            <button
+              onClick={loadMore}
+              className="w-full bg-[#1F2937] hover:bg-[#374151] text-white py-2 rounded text-sm transition"
+            >
+              Load more
+            </button>
+          )}
         </div>
       )}
 
@@ -177,20 +204,17 @@ const ProviderReviews = () => {
           <div className="grid grid-cols-1 md:grid-cols-3 gap-4">
             <div className="text-center">
               <div className="text-3xl font-bold text-yellow-400">
-                {reviews.length > 0 
-                  ? (reviews.reduce((sum, r) => sum + r.rating, 0) / reviews.length).toFixed(1)
-                  : '0.0'
-                }
+                {rating?.averageRating != null ? rating.averageRating.toFixed(1) : '0.0'}
               </div>
               <div className="text-sm text-gray-400">Average Rating</div>
             </div>
             <div className="text-center">
-              <div className="text-3xl font-bold text-white">{reviews.length}</div>
+              <div className="text-3xl font-bold text-white">{rating?.reviewCount ?? reviews.length}</div>
               <div className="text-sm text-gray-400">Total Reviews</div>
             </div>
             <div className="text-center">
               <div className="text-3xl font-bold text-green-400">
-                {reviews.filter(r => r.rating >= 4).length}
+                {rating ? rating.histogram[4] + rating.histogram[5] : reviews.filter(r => r.rating >= 4).length}
               </div>
               <div className="text-sm text-gray-400">4+ Star Reviews</div>
             </div>
@@ -19,6 +19,7 @@ export default function CustomerDashboard() {
   const [priceRange, setPriceRange] = useState([0, 500000]);
   const [availabilityFilter, setAvailabilityFilter] = useState("");
   const [searchQuery, setSearchQuery] = useState("");
+  const [searchMatchIds, setSearchMatchIds] = useState(null);
 
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
@@ -45,6 +46,32 @@ export default function CustomerDashboard() {
     fetchMyActiveBookings();
   }, []);
 
+  // The list only carries description snippets, so matches on the full
+  // description come from the server; until it answers (or if it fails)
+  // the title and snippet are searched locally.
+  useEffect(() => {
+    const query = searchQuery.trim();
+    setSearchMatchIds(null);
+    if (!query) return;
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const response = await api.get("/api/services/search", {
+          params: { query },
+        });
+        if (!cancelled) {
+          setSearchMatchIds(new Set(response.data.map((s) => s.serviceId)));
+        }
+      } catch (err) {
+        console.error("Error searching services:", err);
+      }
+    }, 300);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [searchQuery]);
+
   const fetchServices = async () => {
     try {
       const response = await api.get("/api/services"); // public services
@@ -151,10 +178,13 @@ export default function CustomerDashboard() {
     const availabilityMatch = availabilityFilter
       ? s.availabilityStatus === availabilityFilter
       : true;
-    const searchMatch = searchQuery
-      ? s.serviceTitle.toLowerCase().includes(searchQuery.toLowerCase()) ||
-        s.serviceDescription.toLowerCase().includes(searchQuery.toLowerCase())
-      : true;
+    const query = searchQuery.trim().toLowerCase();
+    const searchMatch = !query
+      ? true
+      : searchMatchIds
+      ? searchMatchIds.has(s.serviceId)
+      : s.serviceTitle.toLowerCase().includes(query) ||
+        (s.serviceDescription || "").toLowerCase().includes(query);
 
     const notAlreadyBooked = !bookedServiceIds.has(s.serviceId);
     return (
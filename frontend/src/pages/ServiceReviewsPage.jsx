@@ -1,6 +1,6 @@
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useState } from "react";
 import { useLocation, useNavigate } from "react-router-dom";
-import { getProviderReviews } from "../services/api";
+import api, { getProviderReviews } from "../services/api";
 
 export default function ServiceReviewsPage() {
   const navigate = useNavigate();
@@ -10,6 +10,8 @@ export default function ServiceReviewsPage() {
   const [reviews, setReviews] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
+  const [nextCursor, setNextCursor] = useState(null);
+  const [rating, setRating] = useState(null);
 
   useEffect(() => {
     if (!providerId) {
@@ -20,8 +22,13 @@ export default function ServiceReviewsPage() {
     const fetchData = async () => {
       try {
         setLoading(true);
-        const res = await getProviderReviews(providerId);
-        setReviews(res.data || []);
+        const [res, summary] = await Promise.all([
+          getProviderReviews(providerId),
+          api.get(`/api/reviews/provider/${providerId}/rating`),
+        ]);
+        setReviews(res.data.items || []);
+        setNextCursor(res.data.nextCursor);
+        setRating(summary.data);
       } catch (err) {
         setError(err.response?.data || "Failed to load reviews");
       } finally {
@@ -31,11 +38,17 @@ export default function ServiceReviewsPage() {
     fetchData();
   }, [providerId]);
 
-  const averageRating = useMemo(() => {
-    if (!reviews.length) return 0;
-    const sum = reviews.reduce((acc, r) => acc + (r.rating || 0), 0);
-    return sum / reviews.length;
-  }, [reviews]);
+  const loadMore = async () => {
+    try {
+      const res = await getProviderReviews(providerId, { cursor: nextCursor });
+      setReviews((prev) => [...prev, ...res.data.items]);
+      setNextCursor(res.data.nextCursor);
+    } catch (err) {
+      setError(err.response?.data || "Failed to load reviews");
+    }
+  };
+
+  const averageRating = rating?.averageRating ?? 0;
 
   const formatDate = (iso) => {
     if (!iso) return "";
@@ -86,7 +99,7 @@ export default function ServiceReviewsPage() {
           </div>
           <div className="h-8 w-px bg-gray-200" />
           <div>
-            <div className="text-2xl font-semibold text-gray-800">{reviews.length}</div>
+            <div className="text-2xl font-semibold text-gray-800">{rating?.reviewCount ?? reviews.length}</div>
             <div className="text-gray-500">Total reviews</div>
           </div>
         </div>
@@ -110,7 +123,7 @@ export default function ServiceReviewsPage() {
             <div key={r.reviewId} className="bg-white rounded-xl shadow-sm border border-gray-100 p-5">
               <div className="flex items-start justify-between">
                 <div>
-                  <div className="font-semibold text-gray-800">{r.customer?.fullName || "Anonymous"}</div>
+                  <div className="font-semibold text-gray-800">{r.customerName || "Anonymous"}</div>
                   <div className="text-sm text-gray-500">{formatDate(r.createdAt)}</div>
                 </div>
                 {renderStars(r.rating || 0)}
@@ -118,6 +131,14 @@ export default function ServiceReviewsPage() {
               <p className="mt-3 text-gray-700 leading-relaxed">{r.comment}</p>
             </div>
           ))}
+          {nextCursor && (
+            <button
+              onClick={loadMore}
+              className="text-sm px-4 py-2 rounded-md bg-gray-100 text-gray-700 hover:bg-gray-200 transition"
+            >
+              Load more
+            </button>
+          )}
         </div>
       )}
     </div>
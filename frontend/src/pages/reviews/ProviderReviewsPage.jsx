@@ -10,7 +10,7 @@ const ProviderReviewsPage = ({ providerId }) => {
     const fetchReviews = async () => {
       try {
         const res = await axios.get(`/api/reviews/provider/${providerId}`);
-        setReviews(res.data);
+        setReviews(res.data.items);
       } catch (err) {
         setError('Failed to load reviews.');
       } finally {
@@ -34,7 +34,7 @@ const ProviderReviewsPage = ({ providerId }) => {
               {[...Array(5 - r.rating)].map((_, i) => <span key={i} className="text-gray-300 text-xl">★</span>)}
             </div>
             <div className="text-gray-700 mb-1">{r.comment}</div>
-            <div className="text-xs text-gray-500">By Customer #{r.customer?.userId} on {new Date(r.createdAt).toLocaleDateString()}</div>
+            <div className="text-xs text-gray-500">By {r.customerName || `Customer #${r.customerId}`} on {new Date(r.createdAt).toLocaleDateString()}</div>
           </li>
         ))}
       </ul>
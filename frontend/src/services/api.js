@@ -17,9 +17,9 @@ api.interceptors.request.use((config) => {
 
 // Review APIs
 export const addReview = (data) => api.post('/api/reviews', data);
-export const getProviderReviews = (providerId) => api.get(`/api/reviews/provider/${providerId}`);
-export const getCustomerReviews = (customerId) => api.get(`/api/reviews/customer/${customerId}`);
-export const getAllReviews = () => api.get('/api/reviews');
+export const getProviderReviews = (providerId, params) => api.get(`/api/reviews/provider/${providerId}`, { params });
+export const getCustomerReviews = (customerId, params) => api.get(`/api/reviews/customer/${customerId}`, { params });
+export const getAllReviews = (params) => api.get('/api/reviews', { params });
 export const updateReview = (reviewId, data) => api.put(`/api/reviews/${reviewId}`, data);
 export const deleteReview = (reviewId) => api.delete(`/api/reviews/${reviewId}`);
 
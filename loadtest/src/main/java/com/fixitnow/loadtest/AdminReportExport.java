@@ -0,0 +1,46 @@
+package com.fixitnow.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Admin opening the reports page and exporting the PDF: the dashboard reads
+ * (revenue, status distribution, leaderboards, top services), then the
+ * summary export, with the per-booking detail section about a third of the
+ * time.
+ */
+final class AdminReportExport implements Scenario {
+
+    private final ApiClient api;
+    private final TestData data;
+
+    AdminReportExport(ApiClient api, TestData data) {
+        this.api = api;
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "admin";
+    }
+
+    @Override
+    public void run(SplittableRandom random, long iteration) {
+        String token = data.admin.token();
+
+        api.get("GET /api/admin/reports/revenue", "/api/admin/reports/revenue", token);
+        api.get("GET /api/admin/reports/status", "/api/admin/reports/status", token);
+        api.get("GET /api/admin/reports/leaderboards", "/api/admin/reports/leaderboards", token);
+        api.get("GET /api/admin/reports/top-services", "/api/admin/reports/top-services", token);
+        if (random.nextInt(100) < 20) {
+            long providerId = Scenario.pick(random, data.providers).userId();
+            api.get("GET /api/admin/reports/leaderboards/providers/{id}",
+                    "/api/admin/reports/leaderboards/providers/" + providerId, token);
+        }
+
+        if (random.nextInt(100) < 35) {
+            api.get("GET /api/admin/reports/export?detail=true", "/api/admin/reports/export?detail=true", token);
+        } else {
+            api.get("GET /api/admin/reports/export", "/api/admin/reports/export", token);
+        }
+    }
+}
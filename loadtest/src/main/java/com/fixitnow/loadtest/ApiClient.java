@@ -0,0 +1,139 @@
+package com.fixitnow.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * HTTP calls against the backend, each timed and recorded under an endpoint
+ * name: the method and route template ("GET /api/services/{id}"), so that
+ * calls to different ids add up to one row of the report.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUrl;
+    private final Metrics metrics;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+
+    ApiClient(URI baseUrl, Metrics metrics) {
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    record Response(int status, byte[] body, JsonNode json) {
+
+        boolean ok() {
+            return status >= 200 && status < 300 || status == 304;
+        }
+
+        JsonNode json(String field) {
+            return json.path(field);
+        }
+    }
+
+    /**
+     * A refusal a scenario provokes on purpose: this status with a body that
+     * contains {@code message}. The same status with any other body is still
+     * an error, so validation failures don't pass for contention.
+     */
+    record Rejection(int status, String message) {
+
+        boolean matches(Response response) {
+            return response.status() == status
+                    && new String(response.body(), StandardCharsets.UTF_8).contains(message);
+        }
+    }
+
+    Response get(String endpoint, String path, String token) {
+        return send("GET", endpoint, path, null, token);
+    }
+
+    Response post(String endpoint, String path, Object body, String token) {
+        return send("POST", endpoint, path, body, token);
+    }
+
+    /**
+     * Sends one request and records it as OK, as REJECTED when it matches
+     * one of {@code expected}, or as ERROR. A request that gets no response at all is recorded as an
+     * ERROR with status 0.
+     */
+    Response send(String method, String endpoint, String path, Object body, String token, Rejection... expected) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json, application/pdf");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(write(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            metrics.record(endpoint, System.nanoTime() - start, 0, Metrics.Outcome.ERROR);
+            return new Response(0, new byte[0], MissingNode.getInstance());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, new byte[0], MissingNode.getInstance());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Response result = new Response(response.statusCode(), response.body(), parse(response));
+        metrics.record(endpoint, elapsed, result.status(), outcome(result, expected));
+        return result;
+    }
+
+    private static Metrics.Outcome outcome(Response response, Rejection[] expected) {
+        if (response.ok()) {
+            return Metrics.Outcome.OK;
+        }
+        for (Rejection rejection : expected) {
+            if (rejection.matches(response)) {
+                return Metrics.Outcome.REJECTED;
+            }
+        }
+        return Metrics.Outcome.ERROR;
+    }
+
+    private JsonNode parse(HttpResponse<byte[]> response) {
+        boolean isJson = response.headers().firstValue("Content-Type").orElse("").contains("json");
+        if (!isJson || response.body().length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return json.readTree(response.body());
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return json.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.fixitnow.loadtest;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Customer booking a service. Most sessions go for one of a few hot slots on
+ * the hot services, the way a popular provider's freshly opened slots are
+ * fought over, and most of those lose with 400 "Time slot is already
+ * booked", which is recorded as a rejection rather than an error (any
+ * other 400 is an error). Every
+ * {@code slotRotation} iterations a new set of hot slots opens. The rest book
+ * a random slot on any service and cancel about a third of the time.
+ *
+ * Hot-slot bookings are never cancelled here, so a second success on the
+ * same hot slot is a double booking: it is counted as
+ * {@code booking.double-booked}.
+ */
+final class BookingCreation implements Scenario {
+
+    private static final DateTimeFormatter BOOKING_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final ApiClient.Rejection SLOT_TAKEN = new ApiClient.Rejection(400, "Time slot is already booked");
+
+    private final ApiClient api;
+    private final TestData data;
+    private final Metrics metrics;
+    private final int hotServices;
+    private final int hotSlots;
+    private final int slotRotation;
+    private final Map<String, AtomicInteger> hotSlotBookings = new ConcurrentHashMap<>();
+
+    BookingCreation(ApiClient api, TestData data, Metrics metrics, LoadTestOptions options) {
+        this.api = api;
+        this.data = data;
+        this.metrics = metrics;
+        this.hotServices = options.hotServices();
+        this.hotSlots = options.hotSlots();
+        this.slotRotation = options.slotRotation();
+    }
+
+    @Override
+    public String name() {
+        return "book";
+    }
+
+    @Override
+    public void run(SplittableRandom random, long iteration) {
+        TestData.Account customer = Scenario.pick(random, data.customers);
+        boolean hot = random.nextInt(100) < 60;
+
+        long serviceId;
+        LocalDateTime slot;
+        if (hot) {
+            serviceId = data.serviceIds.get(random.nextInt(hotServices));
+            long firstSlot = iteration / slotRotation * hotSlots;
+            slot = data.slotBase.plusHours(firstSlot + random.nextInt(hotSlots));
+        } else {
+            serviceId = Scenario.pick(random, data.serviceIds);
+            slot = data.slotBase.plusDays(random.nextInt(180))
+                    .withHour(8 + random.nextInt(10))
+                    .withMinute(15 * random.nextInt(4));
+        }
+
+        api.get("GET /api/services/{id}", "/api/services/" + serviceId, null);
+        Map<String, Object> request = Map.of(
+                "serviceId", serviceId,
+                "bookingDate", BOOKING_DATE.format(slot),
+                "specialRequests", "Load test booking",
+                "customerAddress", "12 Load Test Road",
+                "customerPhone", "0771234567");
+        ApiClient.Response created = api.send("POST", "POST /api/bookings", "/api/bookings", request,
+                customer.token(), SLOT_TAKEN);
+        if (!created.ok()) {
+            return;
+        }
+
+        long bookingId = created.json("bookingId").asLong();
+        if (hot && hotSlotBookings.computeIfAbsent(serviceId + "@" + slot, key -> new AtomicInteger())
+                .incrementAndGet() > 1) {
+            metrics.count("booking.double-booked");
+        }
+        api.get("GET /api/bookings/{id}", "/api/bookings/" + bookingId, customer.token());
+        if (!hot && random.nextInt(100) < 30) {
+            api.send("PUT", "PUT /api/bookings/{id}/cancel", "/api/bookings/" + bookingId + "/cancel", null,
+                    customer.token());
+        }
+        if (random.nextInt(100) < 50) {
+            api.get("GET /api/bookings/customer/upcoming", "/api/bookings/customer/upcoming", customer.token());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fixitnow.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Anonymous visitor: loads the category list, browses the catalog with a
+ * filter or two and sometimes a second page, opens a service, and now and
+ * then searches or looks at the top-rated list.
+ */
+final class CatalogBrowsing implements Scenario {
+
+    private final ApiClient api;
+    private final TestData data;
+
+    CatalogBrowsing(ApiClient api, TestData data) {
+        this.api = api;
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public void run(SplittableRandom random, long iteration) {
+        api.get("GET /api/categories", "/api/categories", null);
+
+        StringBuilder query = new StringBuilder("size=20");
+        if (random.nextInt(100) < 60) {
+            query.append("&categoryId=").append(Scenario.pick(random, data.categoryIds));
+        }
+        if (random.nextInt(100) < 30) {
+            query.append("&province=").append(TestData.PROVINCES[random.nextInt(TestData.PROVINCES.length)]);
+        }
+        if (random.nextInt(100) < 20) {
+            query.append("&sort=PRICE_ASC");
+        }
+        JsonNode page = api.get("GET /api/services/browse", "/api/services/browse?" + query, null).json();
+        String cursor = page.path("nextCursor").asText(null);
+        if (cursor != null && random.nextInt(100) < 30) {
+            page = api.get("GET /api/services/browse", "/api/services/browse?" + query + "&cursor="
+                    + URLEncoder.encode(cursor, StandardCharsets.UTF_8), null).json();
+        }
+
+        JsonNode items = page.path("items");
+        long serviceId = items.isArray() && !items.isEmpty()
+                ? items.get(random.nextInt(items.size())).path("serviceId").asLong()
+                : Scenario.pick(random, data.serviceIds);
+        api.get("GET /api/services/{id}", "/api/services/" + serviceId, null);
+
+        if (random.nextInt(100) < 25) {
+            String term = Scenario.pick(random, data.categoryNames);
+            api.get("GET /api/services/search", "/api/services/search?query="
+                    + URLEncoder.encode(term, StandardCharsets.UTF_8), null);
+        }
+        if (random.nextInt(100) < 15) {
+            api.get("GET /api/services/top-rated", "/api/services/top-rated?limit=10", null);
+        }
+        if (random.nextInt(100) < 15) {
+            api.get("GET /api/services/provinces", "/api/services/provinces", null);
+        }
+    }
+}
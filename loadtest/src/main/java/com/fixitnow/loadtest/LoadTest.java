@@ -0,0 +1,142 @@
+package com.fixitnow.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of loadtest.jar. Creates its own accounts and services through
+ * the API (see {@link TestData}), then starts scenario iterations at a fixed
+ * rate, picking each one from the weighted mix, for the warmup and the
+ * measured duration. The results are printed, written as JSON to
+ * {@code output}, optionally saved as a baseline, and compared with
+ * {@code baseline} when given.
+ *
+ * The same seed gives the same sequence of scenarios and choices within
+ * them, so two runs differ only in how the backend answered. Exit status 1
+ * means a regression against the baseline, 2 bad options or a failed setup.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Metrics metrics = new Metrics();
+        ApiClient api = new ApiClient(options.baseUrl(), metrics);
+        System.out.printf("Creating %d customers, %d providers and %d services at %s%n", options.customers(),
+                options.providers(), options.providers() * options.servicesPerProvider(), options.baseUrl());
+        TestData data;
+        List<Scenario> mix;
+        try {
+            data = TestData.create(api, options);
+            mix = mix(options, List.of(
+                    new CatalogBrowsing(api, data),
+                    new BookingCreation(api, data, metrics, options),
+                    new ProviderDashboard(api, data),
+                    new AdminReportExport(api, data)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        RunResult result = run(options, metrics, mix);
+        Report.print(result, System.out);
+        result.write(options.output());
+        System.out.printf("%nResults written to %s%n", options.output());
+        if (options.saveBaseline() != null) {
+            result.write(options.saveBaseline());
+            System.out.printf("Saved as baseline %s%n", options.saveBaseline());
+        }
+        int regressions = options.baseline() == null ? 0
+                : Report.compare(RunResult.read(options.baseline()), result, options.tolerance(), System.out);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /**
+     * Open model: a single ticker starts iteration n at n / rate seconds
+     * whether or not earlier ones have finished, so a slow backend shows up
+     * as latency and then as dropped iterations, not as a quietly lower
+     * request rate.
+     */
+    private static RunResult run(LoadTestOptions options, Metrics metrics, List<Scenario> mix)
+            throws InterruptedException {
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        ExecutorService workers = Executors.newFixedThreadPool(options.maxInFlight());
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        long[] iteration = {0};
+
+        ticker.scheduleAtFixedRate(() -> {
+            long n = iteration[0]++;
+            SplittableRandom random = seeds.split();
+            Scenario scenario = mix.get(random.nextInt(mix.size()));
+            if (!inFlight.tryAcquire()) {
+                metrics.dropped(scenario.name());
+                return;
+            }
+            metrics.started(scenario.name());
+            workers.execute(() -> {
+                try {
+                    scenario.run(random, n);
+                } catch (RuntimeException e) {
+                    metrics.failed(scenario.name());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }, 0, Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / options.rate())), TimeUnit.NANOSECONDS);
+
+        System.out.printf("Warming up for %s at %.1f iterations/s%n", pretty(options.warmup()), options.rate());
+        Thread.sleep(options.warmup().toMillis());
+        metrics.restart();
+        System.out.printf("Measuring for %s%n", pretty(options.duration()));
+        Thread.sleep(options.duration().toMillis());
+        RunResult result = metrics.close(RunResult.Settings.of(options));
+
+        ticker.shutdownNow();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        return result;
+    }
+
+    // Scenario list with each scenario repeated by its weight; a uniform pick from it follows the mix
+    private static List<Scenario> mix(LoadTestOptions options, List<Scenario> scenarios) {
+        List<Scenario> mix = new ArrayList<>();
+        for (Map.Entry<String, Integer> weight : options.mix().entrySet()) {
+            Scenario scenario = scenarios.stream()
+                    .filter(s -> s.name().equals(weight.getKey()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown scenario in mix: " + weight.getKey()));
+            for (int i = 0; i < weight.getValue(); i++) {
+                mix.add(scenario);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no weight");
+        }
+        return mix;
+    }
+
+    private static String pretty(Duration duration) {
+        return duration.toString().substring(2).toLowerCase();
+    }
+}
@@ -0,0 +1,143 @@
+package com.fixitnow.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of loadtest.jar: {@code name=value} pairs, each optional.
+ *
+ * @param rate scenario iterations started per second (open model: a slow
+ *        backend does not slow the arrivals down)
+ * @param maxInFlight iterations allowed to run at once; arrivals beyond it
+ *        are counted as dropped
+ * @param mix relative weight of each scenario
+ * @param hotServices services the booking scenario competes for
+ * @param hotSlots time slots per hot service open at any moment; every
+ *        {@code slotRotation} iterations a fresh set opens
+ * @param tolerance relative change against the baseline reported as a
+ *        regression (0.2: p95 20% slower, or throughput 20% lower)
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        int maxInFlight,
+        Map<String, Integer> mix,
+        int customers,
+        int providers,
+        int servicesPerProvider,
+        int hotServices,
+        int hotSlots,
+        int slotRotation,
+        Path output,
+        Path baseline,
+        Path saveBaseline,
+        double tolerance) {
+
+    static final Set<String> SCENARIOS = Set.of("browse", "book", "provider", "admin");
+
+    static final String USAGE = """
+            java -jar loadtest.jar [name=value ...]
+              base-url=http://localhost:8080
+              rate=20                   scenario iterations per second
+              warmup=15s  duration=60s  (ISO-8601 without PT: 90s, 2m, 1m30s)
+              seed=42
+              max-in-flight=64
+              mix=browse:60,book:20,provider:15,admin:5
+              customers=50 providers=10 services-per-provider=3
+              hot-services=3 hot-slots=4 slot-rotation=100
+              output=target/loadtest-result.json
+              baseline=<file>           compare with a saved run
+              save-baseline=<file>      save this run as a baseline
+              tolerance=0.2
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected name=value, got: " + arg);
+            }
+            values.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(take(values, "base-url", "http://localhost:8080")),
+                Double.parseDouble(take(values, "rate", "20")),
+                duration(take(values, "warmup", "15s")),
+                duration(take(values, "duration", "60s")),
+                Long.parseLong(take(values, "seed", "42")),
+                Integer.parseInt(take(values, "max-in-flight", "64")),
+                mix(take(values, "mix", "browse:60,book:20,provider:15,admin:5")),
+                Integer.parseInt(take(values, "customers", "50")),
+                Integer.parseInt(take(values, "providers", "10")),
+                Integer.parseInt(take(values, "services-per-provider", "3")),
+                Integer.parseInt(take(values, "hot-services", "3")),
+                Integer.parseInt(take(values, "hot-slots", "4")),
+                Integer.parseInt(take(values, "slot-rotation", "100")),
+                Path.of(take(values, "output", "target/loadtest-result.json")),
+                path(values.remove("baseline")),
+                path(values.remove("save-baseline")),
+                Double.parseDouble(take(values, "tolerance", "0.2")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+        }
+        if (options.rate <= 0 || options.maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate and max-in-flight must be positive");
+        }
+        if (options.customers <= 0 || options.providers <= 0 || options.servicesPerProvider <= 0) {
+            throw new IllegalArgumentException("customers, providers and services-per-provider must be positive");
+        }
+        if (options.hotServices <= 0 || options.hotServices > options.providers * options.servicesPerProvider
+                || options.hotSlots <= 0 || options.slotRotation <= 0) {
+            throw new IllegalArgumentException("hot-services must be between 1 and the number of services created, "
+                    + "hot-slots and slot-rotation positive");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Duration duration(String value) {
+        try {
+            return Duration.parse("PT" + value.toUpperCase());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Expected a duration like 90s, 2m or 1m30s, got: " + value);
+        }
+    }
+
+    private static Path path(String value) {
+        return value != null ? Path.of(value) : null;
+    }
+
+    private static Map<String, Integer> mix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in mix, got: " + entry);
+            }
+            if (!SCENARIOS.contains(parts[0].trim())) {
+                throw new IllegalArgumentException("Unknown scenario in mix: " + parts[0] + ", expected one of "
+                        + SCENARIOS);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix: " + entry);
+            }
+            mix.put(parts[0].trim(), weight);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,134 @@
+package com.fixitnow.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.fixitnow.loadtest.RunResult.EndpointResult;
+import com.fixitnow.loadtest.RunResult.ScenarioResult;
+
+/**
+ * Latency and outcome of every request, per endpoint, and iteration counts
+ * per scenario. Recording goes to the current window; {@link #restart()}
+ * opens a new one when the warmup ends and {@link #close} summarizes it, so
+ * setup and warmup traffic never reaches the results.
+ */
+final class Metrics {
+
+    enum Outcome {
+        /** 2xx or 304 */
+        OK,
+        /** A status the scenario expects under contention, e.g. 400 for a slot already booked */
+        REJECTED,
+        /** Any other status, or no response at all */
+        ERROR
+    }
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private volatile Window window = new Window();
+
+    /** Records one request; {@code status} is 0 when no response came back. */
+    void record(String endpoint, long nanos, int status, Outcome outcome) {
+        window.endpoints.computeIfAbsent(endpoint, name -> new EndpointStats()).record(nanos, status, outcome);
+    }
+
+    void started(String scenario) {
+        window.scenario(scenario).started.increment();
+    }
+
+    void dropped(String scenario) {
+        window.scenario(scenario).dropped.increment();
+    }
+
+    void failed(String scenario) {
+        window.scenario(scenario).failed.increment();
+    }
+
+    /** Counts a notable event that is neither a request nor an iteration, e.g. a double booking. */
+    void count(String counter) {
+        window.counters.computeIfAbsent(counter, name -> new LongAdder()).increment();
+    }
+
+    void restart() {
+        window = new Window();
+    }
+
+    /** Summarizes the current window; anything recorded afterwards is discarded. */
+    RunResult close(RunResult.Settings settings) {
+        Window closed = window;
+        window = new Window();
+        double seconds = (System.nanoTime() - closed.startNanos) / 1e9;
+
+        Map<String, EndpointResult> endpoints = new TreeMap<>();
+        closed.endpoints.forEach((name, stats) -> endpoints.put(name, stats.result(seconds)));
+        Map<String, ScenarioResult> scenarios = new TreeMap<>();
+        closed.scenarios.forEach((name, stats) -> scenarios.put(name, new ScenarioResult(
+                stats.started.sum(), stats.dropped.sum(), stats.failed.sum())));
+        Map<String, Long> counters = new TreeMap<>();
+        closed.counters.forEach((name, count) -> counters.put(name, count.sum()));
+        return new RunResult(closed.startedAt, settings, seconds, endpoints, scenarios, counters);
+    }
+
+    private static final class Window {
+        final Instant startedAt = Instant.now();
+        final long startNanos = System.nanoTime();
+        final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+        final Map<String, ScenarioStats> scenarios = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+        ScenarioStats scenario(String name) {
+            return scenarios.computeIfAbsent(name, key -> new ScenarioStats());
+        }
+    }
+
+    private static final class EndpointStats {
+        final Recorder micros = new Recorder(HIGHEST_MICROS, 3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final Map<Integer, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+
+        void record(long nanos, int status, Outcome outcome) {
+            micros.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_MICROS));
+            switch (outcome) {
+                case OK -> ok.increment();
+                case REJECTED -> rejected.increment();
+                case ERROR -> {
+                    errors.increment();
+                    errorStatuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                }
+            }
+        }
+
+        EndpointResult result(double seconds) {
+            Histogram histogram = micros.getIntervalHistogram();
+            long requests = ok.sum() + rejected.sum() + errors.sum();
+            Map<Integer, Long> statuses = new TreeMap<>();
+            errorStatuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            return new EndpointResult(requests, ok.sum(), rejected.sum(), errors.sum(), statuses,
+                    requests / seconds,
+                    requests == 0 ? 0 : (double) errors.sum() / requests,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    private static final class ScenarioStats {
+        final LongAdder started = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+}
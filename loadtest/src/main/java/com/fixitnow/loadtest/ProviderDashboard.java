@@ -0,0 +1,55 @@
+package com.fixitnow.loadtest;
+
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Provider with the dashboard open: the polling round of stats, upcoming
+ * bookings, the full booking list and their services, then, some of the
+ * time, moving one booking along (confirm, start or complete). Another
+ * session of the same provider may have moved it first; that 400 ("Invalid
+ * status transition") is a rejection.
+ */
+final class ProviderDashboard implements Scenario {
+
+    private static final ApiClient.Rejection STALE_STATUS = new ApiClient.Rejection(400, "Invalid status transition");
+
+    private final ApiClient api;
+    private final TestData data;
+
+    ProviderDashboard(ApiClient api, TestData data) {
+        this.api = api;
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "provider";
+    }
+
+    @Override
+    public void run(SplittableRandom random, long iteration) {
+        String token = Scenario.pick(random, data.providers).token();
+
+        api.get("GET /api/bookings/provider/stats", "/api/bookings/provider/stats", token);
+        api.get("GET /api/bookings/provider/upcoming", "/api/bookings/provider/upcoming", token);
+        JsonNode bookings = api.get("GET /api/bookings/provider", "/api/bookings/provider", token).json();
+        api.get("GET /api/services/my-services", "/api/services/my-services", token);
+
+        if (!bookings.isArray() || bookings.isEmpty() || random.nextInt(100) >= 40) {
+            return;
+        }
+        JsonNode booking = bookings.get(random.nextInt(bookings.size()));
+        String action = switch (booking.path("status").asText()) {
+            case "PENDING" -> "confirm";
+            case "CONFIRMED" -> "start";
+            case "IN_PROGRESS" -> "complete";
+            default -> null;
+        };
+        if (action != null) {
+            api.send("PATCH", "PATCH /api/bookings/{id}/" + action,
+                    "/api/bookings/" + booking.path("bookingId").asLong() + "/" + action, null, token, STALE_STATUS);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.fixitnow.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fixitnow.loadtest.RunResult.EndpointResult;
+
+/**
+ * Console output: the per-endpoint table of a run, and its comparison with a
+ * baseline.
+ */
+final class Report {
+
+    /** Endpoints with fewer requests than this in either run are listed but never flagged. */
+    private static final long MIN_REQUESTS = 30;
+    /** Below this many requests p99 is just the maximum. */
+    private static final long MIN_REQUESTS_P99 = 100;
+    /** Latency changes smaller than this are noise whatever the percentage. */
+    private static final double MIN_LATENCY_CHANGE_MS = 2;
+    /** Error rate increase (absolute) reported as a regression. */
+    private static final double ERROR_RATE_INCREASE = 0.01;
+
+    private Report() {
+    }
+
+    static void print(RunResult result, PrintStream out) {
+        out.printf("%n%.0f s measured, %s%n%n", result.seconds(), result.settings());
+        out.printf("%-52s %7s %7s %6s %6s %8s %8s %8s %8s%n",
+                "endpoint", "req", "req/s", "err%", "rej", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        result.endpoints().forEach((name, e) -> out.printf("%-52s %7d %7.1f %6.2f %6d %8.1f %8.1f %8.1f %8.1f%n",
+                name, e.requests(), e.throughput(), e.errorRate() * 100, e.rejected(), e.p50(), e.p95(), e.p99(),
+                e.max()));
+        result.endpoints().forEach((name, e) -> {
+            if (e.errors() > 0) {
+                out.printf("  errors in %s by status: %s%n", name, e.errorStatuses());
+            }
+        });
+        out.println();
+        result.scenarios().forEach((name, s) -> out.printf("scenario %-10s %7d started %6d dropped %6d failed%n",
+                name, s.started(), s.dropped(), s.failed()));
+        result.counters().forEach((name, count) -> out.printf("%-29s %7d%n", name, count));
+    }
+
+    /**
+     * Prints every endpoint against the baseline and returns the number of
+     * regressions: p95 (or, given enough requests, p99) more than
+     * {@code tolerance} slower, throughput
+     * more than {@code tolerance} lower, the error rate up by more than a
+     * percentage point, dropped iterations where the baseline had none, or
+     * a counter (all of which count anomalies, such as double bookings) that
+     * was zero in the baseline.
+     */
+    static int compare(RunResult baseline, RunResult current, double tolerance, PrintStream out) {
+        out.printf("%nAgainst baseline of %s:%n", baseline.startedAt());
+        if (!Objects.equals(baseline.settings(), current.settings())) {
+            out.printf("  settings differ, the comparison may not mean much%n  baseline: %s%n  current:  %s%n",
+                    baseline.settings(), current.settings());
+        }
+
+        int regressions = 0;
+        for (Map.Entry<String, EndpointResult> entry : current.endpoints().entrySet()) {
+            EndpointResult now = entry.getValue();
+            EndpointResult then = baseline.endpoints().get(entry.getKey());
+            if (then == null) {
+                out.printf("  %-52s new endpoint%n", entry.getKey());
+                continue;
+            }
+            StringBuilder flags = new StringBuilder();
+            if (then.requests() >= MIN_REQUESTS && now.requests() >= MIN_REQUESTS) {
+                if (slower(then.p95(), now.p95(), tolerance)) {
+                    flags.append(" p95");
+                }
+                if (Math.min(then.requests(), now.requests()) >= MIN_REQUESTS_P99
+                        && slower(then.p99(), now.p99(), tolerance)) {
+                    flags.append(" p99");
+                }
+                if (now.throughput() < then.throughput() * (1 - tolerance)) {
+                    flags.append(" throughput");
+                }
+                if (now.errorRate() > then.errorRate() + ERROR_RATE_INCREASE) {
+                    flags.append(" errors");
+                }
+            }
+            if (!flags.isEmpty()) {
+                regressions++;
+            }
+            out.printf("  %-52s p95 %7.1f -> %7.1f (%+5.0f%%)  req/s %6.1f -> %6.1f  err%% %5.2f -> %5.2f%s%n",
+                    entry.getKey(), then.p95(), now.p95(), change(then.p95(), now.p95()), then.throughput(),
+                    now.throughput(), then.errorRate() * 100, now.errorRate() * 100,
+                    flags.isEmpty() ? "" : "  REGRESSION:" + flags);
+        }
+        for (String missing : baseline.endpoints().keySet()) {
+            if (!current.endpoints().containsKey(missing)) {
+                out.printf("  %-52s not called in this run%n", missing);
+            }
+        }
+
+        long droppedBefore = baseline.scenarios().values().stream().mapToLong(RunResult.ScenarioResult::dropped).sum();
+        long droppedNow = current.scenarios().values().stream().mapToLong(RunResult.ScenarioResult::dropped).sum();
+        if (droppedNow > 0 && droppedBefore == 0) {
+            out.printf("  REGRESSION: %d iterations dropped at max-in-flight, none in the baseline%n", droppedNow);
+            regressions++;
+        }
+        for (Map.Entry<String, Long> counter : current.counters().entrySet()) {
+            long before = baseline.counters().getOrDefault(counter.getKey(), 0L);
+            if (counter.getValue() > 0 && before == 0) {
+                out.printf("  REGRESSION: %s %d, none in the baseline%n", counter.getKey(), counter.getValue());
+                regressions++;
+            }
+        }
+        out.printf("%d regression(s) at %.0f%% tolerance%n", regressions, tolerance * 100);
+        return regressions;
+    }
+
+    private static boolean slower(double before, double now, double tolerance) {
+        return now > before * (1 + tolerance) && now - before >= MIN_LATENCY_CHANGE_MS;
+    }
+
+    private static double change(double before, double now) {
+        return before == 0 ? 0 : (now - before) / before * 100;
+    }
+}
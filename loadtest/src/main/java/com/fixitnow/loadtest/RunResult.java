@@ -0,0 +1,69 @@
+package com.fixitnow.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * One measured run, as written to the output file and read back as a
+ * baseline. Latencies are in milliseconds; error rates exclude expected
+ * rejections.
+ */
+record RunResult(
+        Instant startedAt,
+        Settings settings,
+        double seconds,
+        Map<String, EndpointResult> endpoints,
+        Map<String, ScenarioResult> scenarios,
+        Map<String, Long> counters) {
+
+    /** What a baseline must share with a run for the comparison to mean anything. */
+    record Settings(String baseUrl, double rate, long durationSeconds, long seed, Map<String, Integer> mix) {
+
+        static Settings of(LoadTestOptions options) {
+            return new Settings(options.baseUrl().toString(), options.rate(), options.duration().toSeconds(),
+                    options.seed(), options.mix());
+        }
+    }
+
+    /** {@code errorStatuses} counts errors by HTTP status, 0 for requests that got no response. */
+    record EndpointResult(
+            long requests,
+            long ok,
+            long rejected,
+            long errors,
+            Map<Integer, Long> errorStatuses,
+            double throughput,
+            double errorRate,
+            double p50,
+            double p95,
+            double p99,
+            double max) {
+    }
+
+    record ScenarioResult(long started, long dropped, long failed) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JSON.writeValue(file.toFile(), this);
+    }
+
+    static RunResult read(Path file) throws IOException {
+        return JSON.readValue(file.toFile(), RunResult.class);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fixitnow.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One user session, run once per iteration the driver assigns to it. Every
+ * choice a session makes comes from {@code random}, which the driver derives
+ * from the seed and the iteration number, so a given seed replays the same
+ * sequence of sessions.
+ */
+interface Scenario {
+
+    /** Name used in the mix option and the report. */
+    String name();
+
+    void run(SplittableRandom random, long iteration);
+
+    static <T> T pick(SplittableRandom random, List<T> items) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.fixitnow.loadtest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Accounts and services the scenarios act on, created through the public API
+ * before the run: one admin, the providers with their services and the
+ * customers, all with addresses unique to this run so runs can repeat
+ * against the same database. Categories are reused when the catalog has
+ * some, and created otherwise.
+ */
+final class TestData {
+
+    static final String[] PROVINCES = {"Western", "Central", "Southern", "Northern", "Eastern"};
+    private static final String[] CATEGORIES = {"Plumbing", "Electrical", "Cleaning", "Carpentry", "Painting"};
+    private static final String PASSWORD = "loadtest-password";
+
+    record Account(long userId, String token) {
+    }
+
+    final Account admin;
+    final List<Account> customers = new ArrayList<>();
+    final List<Account> providers = new ArrayList<>();
+    final List<Long> categoryIds = new ArrayList<>();
+    final List<String> categoryNames = new ArrayList<>();
+    /** In creation order, so the first ones belong to the first provider. */
+    final List<Long> serviceIds = new ArrayList<>();
+    /** First day of the booking scenario's time slots, a week out so they stay in the future. */
+    final LocalDateTime slotBase = LocalDate.now().plusDays(7).atTime(8, 0);
+
+    private final ApiClient api;
+    private final String runTag = Long.toString(System.currentTimeMillis(), 36);
+
+    private TestData(ApiClient api, LoadTestOptions options) {
+        this.api = api;
+        SplittableRandom random = new SplittableRandom(options.seed());
+
+        admin = account("ADMIN", "admin");
+        loadCategories();
+
+        for (int p = 0; p < options.providers(); p++) {
+            Account provider = account("PROVIDER", "provider-" + p);
+            providers.add(provider);
+            for (int s = 0; s < options.servicesPerProvider(); s++) {
+                int category = random.nextInt(categoryIds.size());
+                Map<String, Object> body = Map.of(
+                        "serviceTitle", categoryNames.get(category) + " by provider " + p + " #" + s,
+                        "serviceDescription", "Load test service " + runTag,
+                        "categoryId", categoryIds.get(category),
+                        "price", 1000 + random.nextInt(20) * 250,
+                        "availabilityStatus", "AVAILABLE",
+                        "province", PROVINCES[random.nextInt(PROVINCES.length)]);
+                JsonNode service = require(api.post("POST /api/services", "/api/services", body, provider.token()),
+                        "create service").json();
+                serviceIds.add(service.path("serviceId").asLong());
+            }
+        }
+
+        for (int c = 0; c < options.customers(); c++) {
+            customers.add(account("CUSTOMER", "customer-" + c));
+        }
+    }
+
+    static TestData create(ApiClient api, LoadTestOptions options) {
+        return new TestData(api, options);
+    }
+
+    private Account account(String role, String name) {
+        String email = "lt-" + runTag + "-" + name + "@loadtest.local";
+        Map<String, Object> registration = Map.of(
+                "fullName", "Load test " + name,
+                "email", email,
+                "phone", "0771234567",
+                "password", PASSWORD,
+                "role", role);
+        JsonNode user = require(api.post("POST /api/auth/register", "/api/auth/register", registration, null),
+                "register " + email).json();
+        JsonNode login = require(api.post("POST /api/auth/login", "/api/auth/login",
+                Map.of("email", email, "password", PASSWORD), null), "log in " + email).json();
+        return new Account(user.path("userId").asLong(), login.path("token").asText());
+    }
+
+    private void loadCategories() {
+        for (JsonNode category : require(api.get("GET /api/categories", "/api/categories", null), "list categories")
+                .json()) {
+            categoryIds.add(category.path("categoryId").asLong());
+            categoryNames.add(category.path("categoryName").asText());
+        }
+        if (!categoryIds.isEmpty()) {
+            return;
+        }
+        for (String name : CATEGORIES) {
+            JsonNode category = require(api.post("POST /api/categories", "/api/categories",
+                    Map.of("categoryName", name, "description", name + " services"), admin.token()),
+                    "create category " + name).json();
+            categoryIds.add(category.path("categoryId").asLong());
+            categoryNames.add(name);
+        }
+    }
+
+    private static ApiClient.Response require(ApiClient.Response response, String action) {
+        if (!response.ok()) {
+            throw new IllegalStateException("Setup failed to " + action + ": HTTP " + response.status() + " "
+                    + new String(response.body()));
+        }
+        return response;
+    }
+}